@@ -0,0 +1,64 @@
+package com.example.backend;
+
+import com.example.backend.dto.PostSummaryDto;
+import com.example.backend.model.Post;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 마이크로벤치마크 공용 데이터
+ */
+public final class BenchmarkFixtures {
+
+    // 피드 한 페이지 크기 (PostController 기본값 10, 프론트엔드는 20 사용)
+    public static final int PAGE_SIZE = 20;
+
+    private static final String CONTENT = "쿠버네티스 클러스터에 스프링부트 애플리케이션을 배포했습니다. ".repeat(10);
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * application.yml의 spring.jackson 설정과 같은 ObjectMapper
+     */
+    public static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json()
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+                        DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .build();
+    }
+
+    /**
+     * @param storedPreview false면 content_preview 컬럼 추가 전 게시글처럼 미리보기를 비워 둔다
+     */
+    public static List<Post> posts(int count, boolean storedPreview) {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        List<Post> posts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String content = CONTENT + i;
+            posts.add(Post.builder()
+                    .id((long) i + 1)
+                    .title("게시글 제목 " + i)
+                    .content(content)
+                    .author("작성자" + (i % 50))
+                    .createdAt(now.minusMinutes(i))
+                    .updatedAt(now.minusMinutes(i))
+                    .contentPreview(storedPreview ? Post.previewOf(content) : null)
+                    .viewCount((long) i * 7)
+                    .build());
+        }
+        return posts;
+    }
+
+    public static List<PostSummaryDto> summaries(int count) {
+        return posts(count, true).stream().map(PostSummaryDto::fromEntity).toList();
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.backend.controller;
+
+import com.example.backend.BenchmarkFixtures;
+import com.example.backend.dto.PostResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PostController의 HashMap 응답 봉투 비용 (봉투 생성 + 직렬화)
+ * - map: 지금처럼 요청마다 HashMap을 만들어 직렬화
+ * - record: 같은 필드를 가진 record로 직렬화
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class ResponseEnvelopeBenchmark {
+
+    // HttpMessageConverter처럼 응답 스트림을 닫지 않고 쓴다
+    private final OutputStream sink = StreamUtils.nonClosing(OutputStream.nullOutputStream());
+
+    private ObjectMapper objectMapper;
+    private PostResponseDto post;
+
+    @Setup
+    public void setUp() {
+        objectMapper = BenchmarkFixtures.objectMapper();
+        post = PostResponseDto.fromEntity(BenchmarkFixtures.posts(1, true).get(0));
+    }
+
+    @Benchmark
+    public void createdMap() throws IOException {
+        Map<String, Object> response = new HashMap<>();
+        response.put("id", post.getId());
+        response.put("message", "게시글이 성공적으로 생성되었습니다.");
+        response.put("post", post);
+        objectMapper.writeValue(sink, response);
+    }
+
+    @Benchmark
+    public void createdRecord() throws IOException {
+        objectMapper.writeValue(sink, new CreatedResponse(post.getId(), "게시글이 성공적으로 생성되었습니다.", post));
+    }
+
+    @Benchmark
+    public void healthMap() throws IOException {
+        Map<String, Object> status = new HashMap<>();
+        status.put("status", "UP");
+        status.put("service", "social-backend");
+        status.put("timestamp", System.currentTimeMillis());
+        objectMapper.writeValue(sink, status);
+    }
+
+    @Benchmark
+    public void healthRecord() throws IOException {
+        objectMapper.writeValue(sink, new HealthResponse("UP", "social-backend", System.currentTimeMillis()));
+    }
+
+    public record CreatedResponse(Long id, String message, PostResponseDto post) {
+    }
+
+    public record HealthResponse(String status, String service, long timestamp) {
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.backend.dto;
+
+import com.example.backend.BenchmarkFixtures;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 응답 JSON 직렬화 비용
+ * - page: 지금처럼 Page(PageImpl)를 그대로 직렬화 (pageable, sort 등 부가 필드 포함)
+ * - envelope: 필요한 페이지 정보만 담은 봉투
+ * - cursor: 커서 기반 피드 응답(CursorPage)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PageSerializationBenchmark {
+
+    // HttpMessageConverter처럼 응답 스트림을 닫지 않고 쓴다
+    private final OutputStream sink = StreamUtils.nonClosing(OutputStream.nullOutputStream());
+
+    private ObjectMapper objectMapper;
+    private Page<PostSummaryDto> page;
+    private PageEnvelope<PostSummaryDto> envelope;
+    private CursorPage<PostSummaryDto> cursorPage;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = BenchmarkFixtures.objectMapper();
+        List<PostSummaryDto> summaries = BenchmarkFixtures.summaries(BenchmarkFixtures.PAGE_SIZE);
+
+        page = new PageImpl<>(summaries, PageRequest.of(3, BenchmarkFixtures.PAGE_SIZE), 10_000);
+        envelope = new PageEnvelope<>(page.getContent(), page.getNumber(), page.getSize(),
+                page.getTotalElements(), page.getTotalPages());
+        PostSummaryDto last = summaries.get(summaries.size() - 1);
+        cursorPage = new CursorPage<>(summaries, summaries.size(), true,
+                new FeedCursor(last.getCreatedAt(), last.getId()).encode());
+
+        System.out.printf("%n응답 크기(bytes) - page: %d, envelope: %d, cursor: %d%n",
+                objectMapper.writeValueAsBytes(page).length,
+                objectMapper.writeValueAsBytes(envelope).length,
+                objectMapper.writeValueAsBytes(cursorPage).length);
+    }
+
+    @Benchmark
+    public void page() throws IOException {
+        objectMapper.writeValue(sink, page);
+    }
+
+    @Benchmark
+    public void envelope() throws IOException {
+        objectMapper.writeValue(sink, envelope);
+    }
+
+    @Benchmark
+    public void cursor() throws IOException {
+        objectMapper.writeValue(sink, cursorPage);
+    }
+
+    public record PageEnvelope<T>(List<T> content, int page, int size, long totalElements, int totalPages) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.backend.dto;
+
+import com.example.backend.BenchmarkFixtures;
+import com.example.backend.model.Post;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 → DTO 매핑 비용 (피드 한 페이지 기준)
+ * - fromEntity: Lombok 빌더 + 저장된 미리보기 사용(stored) 또는 substring/문자열 연결로 계산(computed)
+ * - constructor: 빌더 없이 생성자로 직접 만드는 경우와 비교
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PostMappingBenchmark {
+
+    @Param({"stored", "computed"})
+    public String preview;
+
+    private List<Post> posts;
+
+    @Setup
+    public void setUp() {
+        posts = BenchmarkFixtures.posts(BenchmarkFixtures.PAGE_SIZE, "stored".equals(preview));
+    }
+
+    @Benchmark
+    public List<PostSummaryDto> summaryFromEntity() {
+        List<PostSummaryDto> summaries = new ArrayList<>(posts.size());
+        for (Post post : posts) {
+            summaries.add(PostSummaryDto.fromEntity(post));
+        }
+        return summaries;
+    }
+
+    @Benchmark
+    public List<PostSummaryDto> summaryConstructor() {
+        List<PostSummaryDto> summaries = new ArrayList<>(posts.size());
+        for (Post post : posts) {
+            String contentPreview = post.getContentPreview() != null
+                    ? post.getContentPreview()
+                    : Post.previewOf(post.getContent());
+            summaries.add(new PostSummaryDto(post.getId(), post.getTitle(), post.getAuthor(),
+                    post.getCreatedAt(), post.getViewCount(), contentPreview));
+        }
+        return summaries;
+    }
+
+    @Benchmark
+    public List<PostResponseDto> responseFromEntity() {
+        List<PostResponseDto> responses = new ArrayList<>(posts.size());
+        for (Post post : posts) {
+            responses.add(PostResponseDto.fromEntity(post));
+        }
+        return responses;
+    }
+}
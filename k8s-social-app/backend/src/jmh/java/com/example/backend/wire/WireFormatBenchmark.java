@@ -0,0 +1,81 @@
+package com.example.backend.wire;
+
+import com.example.backend.BenchmarkFixtures;
+import com.example.backend.dto.PostSummaryDto;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 목록 페이지(한글 게시글 요약) 응답 형식별 인코딩/디코딩 비용
+ * - jsonGzip: 지금의 JSON 직렬화 + gzip 압축 (server.compression) / 클라이언트 압축 해제 + JSON 파싱
+ * - smile: SmileCodec (압축 없음)
+ * 응답 크기는 setUp에서 출력
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class WireFormatBenchmark {
+
+    private ObjectMapper jsonMapper;
+    private ObjectReader jsonPageReader;
+    private SmileCodec smileCodec;
+    private Page<PostSummaryDto> page;
+    private byte[] jsonGzipBytes;
+    private byte[] smileBytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        jsonMapper = BenchmarkFixtures.objectMapper();
+        JavaType pageType = jsonMapper.getTypeFactory()
+                .constructParametricType(SmileCodec.PageContent.class, PostSummaryDto.class);
+        jsonPageReader = jsonMapper.readerFor(pageType);
+        smileCodec = new SmileCodec();
+        page = new PageImpl<>(BenchmarkFixtures.summaries(BenchmarkFixtures.PAGE_SIZE),
+                PageRequest.of(3, BenchmarkFixtures.PAGE_SIZE), 10_000);
+
+        byte[] json = jsonMapper.writeValueAsBytes(page);
+        jsonGzipBytes = jsonGzipEncode();
+        smileBytes = smileEncode();
+        System.out.printf("%n응답 크기(bytes) - json: %d, json+gzip: %d, smile: %d%n",
+                json.length, jsonGzipBytes.length, smileBytes.length);
+    }
+
+    @Benchmark
+    public byte[] jsonGzipEncode() throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(2048);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            jsonMapper.writeValue(out, page);
+        }
+        return buffer.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] smileEncode() throws IOException {
+        return smileCodec.encode(page);
+    }
+
+    @Benchmark
+    public SmileCodec.PageContent<PostSummaryDto> jsonGzipDecode() throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(jsonGzipBytes))) {
+            return jsonPageReader.readValue(in);
+        }
+    }
+
+    @Benchmark
+    public SmileCodec.PageContent<PostSummaryDto> smileDecode() throws IOException {
+        return smileCodec.decodeSummaryPage(smileBytes);
+    }
+}
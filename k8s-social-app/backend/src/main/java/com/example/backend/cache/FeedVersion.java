@@ -0,0 +1,127 @@
+package com.example.backend.cache;
+
+import com.example.backend.dto.FeedStatsDto;
+import com.example.backend.event.PostCreatedEvent;
+import com.example.backend.event.PostsArchivedEvent;
+import com.example.backend.event.ViewCountsFlushedEvent;
+import com.example.backend.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 게시글 목록 응답의 버전 - 목록 API의 ETag로 사용하여 변경이 없으면 304로 응답
+ * - 목록에 조회수가 포함되므로 게시글 수, 총 조회수, 마지막 변경 시각을 함께 버전으로 삼는다
+ * - 이 인스턴스의 게시글 생성/보관/조회수 반영은 이벤트로 메모리에서 바로 올린다 (요청 경로와 반영 주기에 DB 집계가 없다)
+ * - 전체 테이블을 읽는 DB 집계는 다른 레플리카의 변경분을 맞추는 용도로만 느린 주기로 실행
+ *   (그 주기 동안 다른 레플리카에서 만든 변경은 이 인스턴스의 ETag에 늦게 반영되고, 집계 후 모든 레플리카의 ETag가 같아진다)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FeedVersion {
+
+    private final PostRepository postRepository;
+
+    private long totalPosts;
+    private long totalViews;
+    private LocalDateTime lastUpdatedAt;
+
+    // 집계 시작 이후의 증가분 - 집계 결과에 포함되지 않았을 수 있으므로 다시 더한다
+    private long postsSinceSnapshot;
+    private long viewsSinceSnapshot;
+    private long archivedSinceSnapshot;
+
+    // 첫 집계 전에는 null (조건부 요청을 처리하지 않는다)
+    private boolean ready;
+    private volatile String etag;
+
+    /**
+     * 현재 목록 버전의 ETag (따옴표 포함), 아직 집계 전이면 null
+     */
+    public String etag() {
+        return etag;
+    }
+
+    @TransactionalEventListener
+    public synchronized void onPostCreated(PostCreatedEvent event) {
+        totalPosts++;
+        postsSinceSnapshot++;
+        LocalDateTime updatedAt = event.post().getUpdatedAt();
+        if (updatedAt != null && (lastUpdatedAt == null || updatedAt.isAfter(lastUpdatedAt))) {
+            lastUpdatedAt = updatedAt;
+        }
+        updateEtag();
+    }
+
+    /**
+     * 보관 테이블로 옮겨진 게시글은 활성 게시글 수에서 뺀다 (옮긴 게시글의 조회수는 다음 집계에서 빠진다)
+     */
+    @TransactionalEventListener
+    public synchronized void onPostsArchived(PostsArchivedEvent event) {
+        int archived = event.postIds().size();
+        totalPosts -= archived;
+        archivedSinceSnapshot += archived;
+        updateEtag();
+    }
+
+    @EventListener
+    public synchronized void onViewCountsFlushed(ViewCountsFlushedEvent event) {
+        long views = 0;
+        for (ViewCountsFlushedEvent.ViewDelta delta : event.deltas()) {
+            views += delta.views();
+        }
+        totalViews += views;
+        viewsSinceSnapshot += views;
+        updateEtag();
+    }
+
+    /**
+     * DB 집계로 버전을 다시 맞춘다 (시작 시 한 번, 이후 reconcile-interval-ms마다)
+     */
+    @Scheduled(fixedDelayString = "${app.feed-version.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        long started = System.currentTimeMillis();
+        startSnapshot();
+        FeedStatsDto stats = postRepository.findFeedStats();
+        reset(stats);
+        log.debug("목록 버전 재집계 - 게시글 수: {}, 총 조회수: {}, ETag: {}, 소요 시간: {}ms",
+                stats.getTotalPosts(), stats.getTotalViews(), etag, System.currentTimeMillis() - started);
+    }
+
+    private synchronized void startSnapshot() {
+        postsSinceSnapshot = 0;
+        viewsSinceSnapshot = 0;
+        archivedSinceSnapshot = 0;
+    }
+
+    private synchronized void reset(FeedStatsDto stats) {
+        totalPosts = stats.getTotalPosts() + postsSinceSnapshot - archivedSinceSnapshot;
+        totalViews = stats.getTotalViews() + viewsSinceSnapshot;
+        if (postsSinceSnapshot == 0 || lastUpdatedAt == null
+                || (stats.getLastUpdatedAt() != null && stats.getLastUpdatedAt().isAfter(lastUpdatedAt))) {
+            lastUpdatedAt = stats.getLastUpdatedAt();
+        }
+        postsSinceSnapshot = 0;
+        viewsSinceSnapshot = 0;
+        archivedSinceSnapshot = 0;
+        ready = true;
+        updateEtag();
+    }
+
+    // 요청마다 문자열을 만들지 않도록 변경 시에만 계산
+    private void updateEtag() {
+        if (!ready) {
+            return;
+        }
+        long lastUpdatedMillis = lastUpdatedAt == null ? 0 : lastUpdatedAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+        etag = "\"" + Long.toHexString(totalPosts) + "-" + Long.toHexString(totalViews)
+                + "-" + Long.toHexString(lastUpdatedMillis) + "\"";
+    }
+}
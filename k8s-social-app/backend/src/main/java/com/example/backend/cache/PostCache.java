@@ -0,0 +1,324 @@
+package com.example.backend.cache;
+
+import com.example.backend.dto.PostResponseDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/**
+ * 게시글 상세(PostResponseDto) 캐시
+ * - 내용(content) 바이트 기준 최대 용량과 TTL로 크기를 제한
+ * - 제거 정책: tinylfu(빈도 기반, Caffeine) 또는 lru
+ * - 적중/미스/제거 통계는 actuator metrics(cache.gets, cache.evictions 등)로 노출
+ * - 항목은 고쳐 쓰지 않고 무효화만 한다 - 무효화와 겹친 조회 결과는 저장하지 않아 오래된 값이 남지 않는다
+ *   (무효화 세대는 게시글 ID별 - 다른 게시글의 무효화가 진행 중인 조회를 버리게 하지 않는다)
+ */
+@Component
+@Slf4j
+public class PostCache {
+
+    private static final String CACHE_NAME = "posts";
+
+    // 무효화 세대 칸 수 (2의 거듭제곱) - 같은 칸을 쓰는 게시글끼리만 서로의 저장을 건너뛰게 한다
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final boolean enabled;
+    private final Store store;
+
+    // 게시글별 무효화 세대 - 읽기 시작 후 그 게시글이 무효화되었으면 읽은 값이 이미 오래되었을 수 있다
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    public PostCache(@Value("${app.post-cache.enabled:true}") boolean enabled,
+                     @Value("${app.post-cache.policy:tinylfu}") String policy,
+                     @Value("${app.post-cache.max-weight-bytes:33554432}") long maxWeightBytes,
+                     @Value("${app.post-cache.ttl-seconds:300}") long ttlSeconds,
+                     MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+
+        this.hits = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "hit")
+                .description("게시글 캐시 적중 수").register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "miss")
+                .description("게시글 캐시 미스 수").register(meterRegistry);
+        this.evictions = Counter.builder("cache.evictions").tag("cache", CACHE_NAME)
+                .description("게시글 캐시 제거 수").register(meterRegistry);
+
+        Duration ttl = Duration.ofSeconds(ttlSeconds);
+        this.store = "lru".equalsIgnoreCase(policy)
+                ? new LruStore(maxWeightBytes, ttl, evictions)
+                : new TinyLfuStore(maxWeightBytes, ttl, evictions);
+
+        Gauge.builder("cache.size", store, Store::size).tag("cache", CACHE_NAME)
+                .description("캐시된 게시글 수").register(meterRegistry);
+        Gauge.builder("cache.weight.bytes", store, Store::weight).tag("cache", CACHE_NAME)
+                .description("캐시된 게시글 내용 바이트 수").register(meterRegistry);
+
+        log.info("게시글 캐시 설정 - 사용: {}, 정책: {}, 최대 용량: {} bytes, TTL: {}",
+                enabled, policy, maxWeightBytes, ttl);
+    }
+
+    /**
+     * 캐시에서 게시글을 찾고, 없으면 loader로 읽어와 캐시에 저장
+     */
+    public PostResponseDto get(Long postId, Function<Long, PostResponseDto> loader) {
+        if (!enabled) {
+            return loader.apply(postId);
+        }
+
+        PostResponseDto cached = store.get(postId);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+
+        misses.increment();
+        long loadedAt = generation(postId);
+        PostResponseDto loaded = loader.apply(postId);
+        put(postId, loaded, loadedAt);
+        return loaded;
+    }
+
+    /**
+     * 캐시에 있으면 반환, 없으면 null (비동기 조회 경로 - 조회 전에 generation(postId)를 읽어 두고 조회 후 put으로 저장)
+     */
+    public PostResponseDto getIfPresent(Long postId) {
+        if (!enabled) {
+            return null;
+        }
+        PostResponseDto cached = store.get(postId);
+        (cached != null ? hits : misses).increment();
+        return cached;
+    }
+
+    public long generation(Long postId) {
+        return generations.get(stripe(postId));
+    }
+
+    /**
+     * 읽기 시작 시점의 세대(loadedAt) 이후 이 게시글의 무효화가 있었으면 저장하지 않는다
+     * - 저장 후 세대를 다시 확인: 무효화가 저장보다 먼저면 여기서 지우고, 나중이면 무효화가 지운다
+     */
+    public void put(Long postId, PostResponseDto post, long loadedAt) {
+        if (!enabled || generation(postId) != loadedAt) {
+            return;
+        }
+        store.put(postId, post);
+        if (generation(postId) != loadedAt) {
+            store.invalidate(postId);
+        }
+    }
+
+    /**
+     * 게시글 변경/삭제 시 호출하여 캐시 항목 무효화
+     */
+    public void invalidate(Long postId) {
+        generations.incrementAndGet(stripe(postId));
+        store.invalidate(postId);
+    }
+
+    /**
+     * DB에 조회수가 반영된 게시글 무효화 - 항목에 증가량을 더하면 반영 후에 읽어 온 항목에 두 번 더해질 수 있다
+     */
+    public void invalidateAll(Collection<Long> postIds) {
+        postIds.forEach(this::invalidate);
+    }
+
+    // ID 간격(allocationSize 등)이 칸 수의 배수여도 고르게 퍼지도록 섞어서 칸을 고른다
+    private static int stripe(Long postId) {
+        long hash = postId * 0x9E3779B97F4A7C15L;
+        return (int) (hash >>> 32) & (GENERATION_STRIPES - 1);
+    }
+
+    // 캐시 가중치: 제목과 내용의 UTF-8 바이트 수 (문자열을 복사하지 않고 계산)
+    static int weigh(PostResponseDto post) {
+        return utf8Length(post.getContent()) + utf8Length(post.getTitle());
+    }
+
+    private static int utf8Length(String value) {
+        if (value == null) {
+            return 0;
+        }
+        int bytes = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                bytes += 1;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+
+    private interface Store {
+        PostResponseDto get(Long postId);
+
+        void put(Long postId, PostResponseDto post);
+
+        void invalidate(Long postId);
+
+        long size();
+
+        long weight();
+    }
+
+    /**
+     * W-TinyLFU(빈도 기반) 정책 - 한 번 조회되고 마는 게시글이 인기 게시글을 밀어내지 않는다
+     */
+    private static final class TinyLfuStore implements Store {
+
+        private final Cache<Long, PostResponseDto> cache;
+
+        TinyLfuStore(long maxWeightBytes, Duration ttl, Counter evictions) {
+            this.cache = Caffeine.newBuilder()
+                    .maximumWeight(maxWeightBytes)
+                    .weigher((Long postId, PostResponseDto post) -> weigh(post))
+                    .expireAfter(new Expiry<Long, PostResponseDto>() {
+                        @Override
+                        public long expireAfterCreate(Long postId, PostResponseDto post, long currentTime) {
+                            return ttl.toNanos();
+                        }
+
+                        // 같은 게시글을 다시 저장해도 TTL이 연장되지 않도록 남은 시간 유지
+                        @Override
+                        public long expireAfterUpdate(Long postId, PostResponseDto post, long currentTime,
+                                                      long currentDuration) {
+                            return currentDuration;
+                        }
+
+                        @Override
+                        public long expireAfterRead(Long postId, PostResponseDto post, long currentTime,
+                                                    long currentDuration) {
+                            return currentDuration;
+                        }
+                    })
+                    .evictionListener((postId, post, cause) -> evictions.increment())
+                    .build();
+        }
+
+        @Override
+        public PostResponseDto get(Long postId) {
+            return cache.getIfPresent(postId);
+        }
+
+        @Override
+        public void put(Long postId, PostResponseDto post) {
+            cache.put(postId, post);
+        }
+
+        @Override
+        public void invalidate(Long postId) {
+            cache.invalidate(postId);
+        }
+
+        @Override
+        public long size() {
+            return cache.estimatedSize();
+        }
+
+        @Override
+        public long weight() {
+            return cache.policy().eviction()
+                    .map(eviction -> eviction.weightedSize().orElse(0L))
+                    .orElse(0L);
+        }
+    }
+
+    /**
+     * LRU 정책 - 접근 순서 LinkedHashMap으로 가장 오래 사용되지 않은 항목부터 제거
+     */
+    private static final class LruStore implements Store {
+
+        private final long maxWeightBytes;
+        private final long ttlNanos;
+        private final Counter evictions;
+
+        private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+        private long totalWeight;
+
+        LruStore(long maxWeightBytes, Duration ttl, Counter evictions) {
+            this.maxWeightBytes = maxWeightBytes;
+            this.ttlNanos = ttl.toNanos();
+            this.evictions = evictions;
+        }
+
+        @Override
+        public synchronized PostResponseDto get(Long postId) {
+            Entry entry = entries.get(postId);
+            if (entry == null) {
+                return null;
+            }
+            if (System.nanoTime() - entry.expiresAt > 0) {
+                remove(postId);
+                evictions.increment();
+                return null;
+            }
+            return entry.post;
+        }
+
+        @Override
+        public synchronized void put(Long postId, PostResponseDto post) {
+            int weight = weigh(post);
+            if (weight > maxWeightBytes) {
+                return;
+            }
+            remove(postId);
+            entries.put(postId, new Entry(post, weight, System.nanoTime() + ttlNanos));
+            totalWeight += weight;
+
+            Iterator<Map.Entry<Long, Entry>> eldest = entries.entrySet().iterator();
+            while (totalWeight > maxWeightBytes && eldest.hasNext()) {
+                totalWeight -= eldest.next().getValue().weight;
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+
+        @Override
+        public synchronized void invalidate(Long postId) {
+            remove(postId);
+        }
+
+        @Override
+        public synchronized long size() {
+            return entries.size();
+        }
+
+        @Override
+        public synchronized long weight() {
+            return totalWeight;
+        }
+
+        private void remove(Long postId) {
+            Entry removed = entries.remove(postId);
+            if (removed != null) {
+                totalWeight -= removed.weight;
+            }
+        }
+
+        private record Entry(PostResponseDto post, int weight, long expiresAt) {
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.backend.cache;
+
+import com.example.backend.wire.SmileCodec;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 자주 호출되는 목록 응답의 최종 JSON 바이트와 gzip 압축본 캐시 (Smile 요청은 Smile 바이트를 따로 캐시, 압축하지 않음)
+ * - 적중하면 조회, DTO 변환, JSON 직렬화, 압축 없이 바이트를 그대로 응답한다
+ * - 항목은 만들 때의 목록 버전(FeedVersion ETag)을 함께 저장 - 게시글 생성이나 조회수 반영으로 버전이 바뀌면 다음 요청에서 다시 만든다
+ * - 버전 비교는 캐시 잠금 밖에서 하고, 낡은 항목만 지운 뒤 Cache.get으로 만든다 - 같은 키의 동시 미스는 한 요청만 만들고 나머지는 결과를 기다린다
+ * - 본문 + gzip 바이트 합계 기준 최대 용량으로 제한 (W-TinyLFU 제거)
+ * 직렬화는 MVC와 같은 ObjectMapper(Smile은 SmileCodec)를 사용하므로 캐시를 거치지 않은 응답과 내용이 같다
+ */
+@Component
+@Slf4j
+public class ResponseBodyCache {
+
+    private static final String CACHE_NAME = "responses";
+
+    private final boolean enabled;
+    private final int maxPage;
+    private final int minCompressBytes;
+    private final ObjectWriter writer;
+    private final ObjectWriter smileWriter;
+    private final Cache<String, CachedBody> cache;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public ResponseBodyCache(@Value("${app.response-cache.enabled:true}") boolean enabled,
+                             @Value("${app.response-cache.max-weight-bytes:16777216}") long maxWeightBytes,
+                             @Value("${app.response-cache.max-page:2}") int maxPage,
+                             @Value("${server.compression.min-response-size:2KB}") DataSize minCompressSize,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.maxPage = maxPage;
+        this.minCompressBytes = (int) minCompressSize.toBytes();
+        this.writer = objectMapper.writer();
+        this.smileWriter = SmileCodec.objectMapper().writer();
+
+        this.hits = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "hit")
+                .description("응답 캐시 적중 수").register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tag("cache", CACHE_NAME).tag("result", "miss")
+                .description("응답 캐시 미스 수 (버전이 바뀐 항목 포함)").register(meterRegistry);
+        Counter evictions = Counter.builder("cache.evictions").tag("cache", CACHE_NAME)
+                .description("응답 캐시 제거 수").register(meterRegistry);
+
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((String key, CachedBody body) -> body.weight())
+                .evictionListener((key, body, cause) -> evictions.increment())
+                .build();
+
+        Gauge.builder("cache.size", cache, Cache::estimatedSize).tag("cache", CACHE_NAME)
+                .description("캐시된 응답 수").register(meterRegistry);
+        Gauge.builder("cache.weight.bytes", cache, c -> c.policy().eviction()
+                        .map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L))
+                .tag("cache", CACHE_NAME)
+                .description("캐시된 응답 바이트 수 (본문 + gzip)").register(meterRegistry);
+
+        log.info("응답 캐시 설정 - 사용: {}, 최대 용량: {} bytes, 캐시할 페이지: 0~{}", enabled, maxWeightBytes, maxPage - 1);
+    }
+
+    /**
+     * 캐시를 사용할 요청이면 true - 목록 버전을 아직 모르면(시작 직후) 항목이 언제 낡는지 알 수 없으므로 캐시하지 않는다
+     */
+    public boolean isCacheable(String version, int page) {
+        return enabled && version != null && page >= 0 && page < maxPage;
+    }
+
+    /**
+     * key의 항목이 version으로 만들어졌으면 그대로, 아니면 loader 결과를 직렬화해 저장하고 반환
+     * @param smile true면 Smile, false면 JSON 본문 (형식별로 따로 캐시)
+     */
+    public CachedBody get(String key, String version, boolean smile, Supplier<?> loader) {
+        String cacheKey = smile ? "smile:" + key : key;
+        CachedBody cached = cache.getIfPresent(cacheKey);
+        if (cached != null && cached.version().equals(version)) {
+            hits.increment();
+            return cached;
+        }
+
+        if (cached != null) {
+            // 다른 요청이 이미 새 항목으로 바꿨으면 지우지 않는다
+            cache.asMap().remove(cacheKey, cached);
+        }
+        boolean[] loaded = {false};
+        CachedBody body = cache.get(cacheKey, k -> {
+            loaded[0] = true;
+            return serialize(version, smile, loader.get());
+        });
+        if (loaded[0]) {
+            misses.increment();
+            return body;
+        }
+        if (body.version().equals(version)) {
+            // 기다리는 동안 다른 요청이 같은 버전으로 만들어 두었음
+            hits.increment();
+            return body;
+        }
+        // 그 사이 버전이 또 바뀐 경우 - 캐시된 항목은 그대로 두고 이 요청의 응답만 만든다
+        misses.increment();
+        return serialize(version, smile, loader.get());
+    }
+
+    private CachedBody serialize(String version, boolean smile, Object body) {
+        try {
+            if (smile) {
+                return new CachedBody(version, SmileCodec.MEDIA_TYPE, smileWriter.writeValueAsBytes(body), null);
+            }
+            byte[] json = writer.writeValueAsBytes(body);
+            return new CachedBody(version, MediaType.APPLICATION_JSON, json,
+                    json.length >= minCompressBytes ? gzip(json) : null);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * 캐시된 응답 본문 - gzip은 압축할 만큼 크지 않거나 Smile이면 null
+     */
+    public record CachedBody(String version, MediaType contentType, byte[] body, byte[] gzip) {
+
+        int weight() {
+            return body.length + (gzip == null ? 0 : gzip.length);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.backend.config;
+
+import com.example.backend.datasource.ConnectionLimitingDataSource;
+import com.example.backend.datasource.ReadWriteRoutingDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 커넥션 풀 앞단의 세마포어 제한 설정 (app.datasource.connection-limit.enabled=true, virtual-threads 프로필에서 사용)
+ * - 읽기/쓰기 라우팅 DataSource는 감싸지 않는다 - ReadReplicaConfig가 주 DB/복제본 풀마다 따로 적용
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.connection-limit.enabled", havingValue = "true")
+@Slf4j
+public class ConnectionLimitConfig {
+
+    @Bean
+    static BeanPostProcessor connectionLimitingDataSourcePostProcessor(Environment environment) {
+        // 기본값은 Hikari 최대 풀 크기와 같게 맞춘다
+        int maxConnections = environment.getProperty("app.datasource.connection-limit.max-connections", Integer.class,
+                environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+        long acquireTimeoutMillis = environment.getProperty(
+                "app.datasource.connection-limit.acquire-timeout-ms", Long.class, 5000L);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionLimitingDataSource)
+                        && !(bean instanceof ReadWriteRoutingDataSource)) {
+                    log.info("커넥션 동시 사용 제한 적용 - DataSource: {}, 최대: {}, 대기 제한: {}ms",
+                            beanName, maxConnections, acquireTimeoutMillis);
+                    return new ConnectionLimitingDataSource(dataSource, maxConnections, acquireTimeoutMillis);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    MeterBinder connectionLimitMetrics(DataSource dataSource) throws SQLException {
+        Map<String, ConnectionLimitingDataSource> limits = limits(dataSource);
+        return registry -> limits.forEach((pool, limited) -> {
+            Gauge.builder("db.connection.limit.available", limited, ConnectionLimitingDataSource::getAvailablePermits)
+                    .tag("pool", pool)
+                    .description("남은 커넥션 사용 허가 수").register(registry);
+            Gauge.builder("db.connection.limit.waiting", limited, ConnectionLimitingDataSource::getWaitingThreads)
+                    .tag("pool", pool)
+                    .description("커넥션 사용 허가를 기다리는 스레드 수").register(registry);
+        });
+    }
+
+    // 풀 이름 - 제한 DataSource (라우팅을 쓰면 주 DB/복제본 풀마다 하나)
+    private static Map<String, ConnectionLimitingDataSource> limits(DataSource dataSource) throws SQLException {
+        Map<String, ConnectionLimitingDataSource> limits = new LinkedHashMap<>();
+        if (dataSource.isWrapperFor(ReadWriteRoutingDataSource.class)) {
+            for (Map.Entry<String, DataSource> pool
+                    : dataSource.unwrap(ReadWriteRoutingDataSource.class).getPools().entrySet()) {
+                if (pool.getValue().isWrapperFor(ConnectionLimitingDataSource.class)) {
+                    limits.put(pool.getKey(), pool.getValue().unwrap(ConnectionLimitingDataSource.class));
+                }
+            }
+        } else {
+            limits.put("primary", dataSource.unwrap(ConnectionLimitingDataSource.class));
+        }
+        return limits;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.backend.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Duration;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 비동기 읽기 경로 (reactive 프로필): SPRING_PROFILES_ACTIVE=production,reactive
+ * - GET /api/reactive/posts* 를 R2DBC로 조회 - 쿼리 동안 Tomcat 스레드와 Hikari 커넥션을 점유하지 않는다
+ * - R2DBC 풀은 Hikari 풀과 별도 (app.reactive.r2dbc.*), 지표는 r2dbc.pool.*
+ * Spring Boot R2DBC 자동 설정은 application.yml에서 제외 - 프로필이 꺼져 있으면 R2DBC 연결을 만들지 않고,
+ * R2DBC 트랜잭션 매니저가 JPA 트랜잭션 매니저와 충돌하지 않도록 이 설정에서 읽기 전용 풀만 만든다
+ */
+@Configuration
+@Profile("reactive")
+@Slf4j
+public class ReactiveReadConfig {
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool r2dbcConnectionPool(
+            @Value("${app.reactive.r2dbc.url}") String url,
+            @Value("${app.reactive.r2dbc.username:${spring.datasource.username}}") String username,
+            @Value("${app.reactive.r2dbc.password:${spring.datasource.password:}}") String password,
+            @Value("${app.reactive.r2dbc.pool.initial-size:4}") int initialSize,
+            @Value("${app.reactive.r2dbc.pool.max-size:20}") int maxSize,
+            @Value("${app.reactive.r2dbc.pool.max-acquire-time:3s}") Duration maxAcquireTime,
+            MeterRegistry meterRegistry) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        ConnectionPool pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("r2dbc")
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .maxAcquireTime(maxAcquireTime)
+                .build());
+
+        pool.getMetrics().ifPresent(metrics -> {
+            gauge(meterRegistry, "r2dbc.pool.acquired", metrics, PoolMetrics::acquiredSize, "사용 중인 R2DBC 커넥션 수");
+            gauge(meterRegistry, "r2dbc.pool.idle", metrics, PoolMetrics::idleSize, "유휴 R2DBC 커넥션 수");
+            gauge(meterRegistry, "r2dbc.pool.pending", metrics, PoolMetrics::pendingAcquireSize,
+                    "R2DBC 커넥션을 기다리는 요청 수");
+        });
+
+        log.info("비동기 읽기 경로 - R2DBC 풀 최대 {}개, 커넥션 대기 최대 {}", maxSize, maxAcquireTime);
+        return pool;
+    }
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient(ConnectionPool r2dbcConnectionPool) {
+        return DatabaseClient.create(r2dbcConnectionPool);
+    }
+
+    private static void gauge(MeterRegistry registry, String name, PoolMetrics metrics,
+                              ToDoubleFunction<PoolMetrics> value, String description) {
+        Gauge.builder(name, metrics, value).description(description).register(registry);
+    }
+}
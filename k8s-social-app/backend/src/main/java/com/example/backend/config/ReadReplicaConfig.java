@@ -0,0 +1,146 @@
+package com.example.backend.config;
+
+import com.example.backend.datasource.ConnectionLimitingDataSource;
+import com.example.backend.datasource.ReadWriteRoutingDataSource;
+import com.example.backend.datasource.ReadYourWrites;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 DataSource 분리 (app.datasource.read-replicas.enabled=true)
+ * - 주 DB 풀: spring.datasource.* / spring.datasource.hikari.*
+ * - 복제본 풀: app.datasource.read-replicas.urls의 주소마다 하나, 설정은 주 DB 풀을 복사한 뒤
+ *   app.datasource.read-replicas.hikari.*로 덮어쓴다 (username, password, maximum-pool-size 등)
+ * - 풀마다 Hikari 지표(hikaricp.connections.*{pool=...})를 따로 노출
+ * - 커넥션 동시 사용 제한(app.datasource.connection-limit.enabled)은 라우팅 DataSource가 아니라 풀마다 적용
+ *   (라우팅 DataSource의 커넥션은 첫 문장 전까지 실제 커넥션이 아니므로, 그 앞에서 제한하면 쓰지 않는 허가까지 잡고
+ *   주 DB와 복제본이 하나의 허가 수를 나눠 쓰게 된다)
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.read-replicas.enabled", havingValue = "true")
+@Slf4j
+public class ReadReplicaConfig {
+
+    private static final String PRIMARY_POOL = "primary";
+    private static final String REPLICA_POOL_PREFIX = "replica-";
+
+    @Bean
+    @Primary
+    public DataSource dataSource(DataSourceProperties properties, Environment environment,
+                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        Binder binder = Binder.get(environment);
+
+        HikariConfig primaryConfig = new HikariConfig();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primaryConfig));
+        primaryConfig.setJdbcUrl(properties.determineUrl());
+        primaryConfig.setUsername(properties.determineUsername());
+        primaryConfig.setPassword(properties.determinePassword());
+        primaryConfig.setDriverClassName(properties.determineDriverClassName());
+        primaryConfig.setPoolName(PRIMARY_POOL);
+
+        boolean limitConnections = binder.bind("app.datasource.connection-limit.enabled", Boolean.class).orElse(false);
+        long acquireTimeoutMillis = binder.bind("app.datasource.connection-limit.acquire-timeout-ms", Long.class)
+                .orElse(5000L);
+
+        List<String> replicaUrls = binder.bind("app.datasource.read-replicas.urls", Bindable.listOf(String.class))
+                .orElse(List.of()).stream()
+                .filter(url -> !url.isBlank())
+                .toList();
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariConfig replicaConfig = new HikariConfig();
+            primaryConfig.copyStateTo(replicaConfig);
+            replicaConfig.setJdbcUrl(replicaUrls.get(i));
+            replicaConfig.setReadOnly(true);
+            binder.bind("app.datasource.read-replicas.hikari", Bindable.ofInstance(replicaConfig));
+            replicaConfig.setPoolName(REPLICA_POOL_PREFIX + (i + 1));
+            HikariDataSource replica = pool(replicaConfig, meterRegistry);
+            replicas.put(replicaConfig.getPoolName(), limitConnections
+                    ? limited(replica, replicaConfig.getMaximumPoolSize(), acquireTimeoutMillis)
+                    : replica);
+        }
+
+        if (replicas.isEmpty()) {
+            log.warn("읽기 복제본 주소(app.datasource.read-replicas.urls)가 없어 모든 요청이 주 DB를 사용합니다.");
+        } else {
+            log.info("읽기 복제본 라우팅 - 복제본: {}", replicas.keySet());
+        }
+        // 주 DB 제한은 app.datasource.connection-limit.max-connections, 복제본은 각 풀 크기
+        HikariDataSource primary = pool(primaryConfig, meterRegistry);
+        int primaryLimit = binder.bind("app.datasource.connection-limit.max-connections", Integer.class)
+                .orElse(primaryConfig.getMaximumPoolSize());
+        return new ReadWriteRoutingDataSource(
+                limitConnections ? limited(primary, primaryLimit, acquireTimeoutMillis) : primary, replicas);
+    }
+
+    /**
+     * 쓰기 트랜잭션 커밋을 기록하는 필터 겸 트랜잭션 리스너 (Spring Boot가 트랜잭션 매니저에 등록)
+     */
+    @Bean
+    public ReadYourWrites readYourWrites(
+            @Value("${app.datasource.read-replicas.read-your-writes-window:5s}") Duration window) {
+        return new ReadYourWrites(window);
+    }
+
+    @Bean
+    SchedulingConfigurer replicaHealthCheck(
+            DataSource dataSource,
+            @Value("${app.datasource.read-replicas.health-check-interval-ms:5000}") long intervalMs) throws SQLException {
+        ReadWriteRoutingDataSource routing = dataSource.unwrap(ReadWriteRoutingDataSource.class);
+        return registrar -> registrar.addFixedDelayTask(routing::checkReplicaHealth, Duration.ofMillis(intervalMs));
+    }
+
+    @Bean
+    MeterBinder readReplicaMetrics(DataSource dataSource) throws SQLException {
+        ReadWriteRoutingDataSource routing = dataSource.unwrap(ReadWriteRoutingDataSource.class);
+        return registry -> {
+            for (String name : routing.getReplicaNames()) {
+                Gauge.builder("db.replica.healthy", routing, r -> r.isReplicaHealthy(name) ? 1 : 0)
+                        .tag("pool", name)
+                        .description("복제본 라우팅 포함 여부 (1: 정상)").register(registry);
+            }
+            FunctionCounter.builder("db.replica.fallbacks", routing, ReadWriteRoutingDataSource::getPrimaryFallbacks)
+                    .description("정상 복제본이 없어 읽기를 주 DB로 보낸 횟수").register(registry);
+        };
+    }
+
+    private static DataSource limited(HikariDataSource pool, int maxConnections, long acquireTimeoutMillis) {
+        log.info("커넥션 동시 사용 제한 적용 - 풀: {}, 최대: {}, 대기 제한: {}ms",
+                pool.getPoolName(), maxConnections, acquireTimeoutMillis);
+        return new ConnectionLimitingDataSource(pool, maxConnections, acquireTimeoutMillis);
+    }
+
+    // 풀이 시작되기 전에 지표 레지스트리를 연결해야 하므로 첫 커넥션 요청 때 시작되는 방식으로 만든다
+    private static HikariDataSource pool(HikariConfig config, ObjectProvider<MeterRegistry> meterRegistry) {
+        HikariDataSource pool = new HikariDataSource();
+        config.copyStateTo(pool);
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            pool.setMetricRegistry(registry);
+        }
+        return pool;
+    }
+}
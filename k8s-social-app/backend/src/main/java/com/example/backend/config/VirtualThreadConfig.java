@@ -0,0 +1,27 @@
+package com.example.backend.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * 가상 스레드 모드(virtual-threads 프로필) 확인
+ * - spring.threads.virtual.enabled는 Java 21 미만에서 조용히 무시되므로 시작 시 알려 준다
+ */
+@Configuration
+@Profile("virtual-threads")
+@Slf4j
+public class VirtualThreadConfig {
+
+    @PostConstruct
+    void checkRuntime() {
+        int javaVersion = Runtime.version().feature();
+        if (javaVersion < 21) {
+            log.warn("virtual-threads 프로필이 활성화되었지만 Java {}에서 실행 중이므로 플랫폼 스레드를 사용합니다. "
+                    + "JAVA_VERSION=21로 빌드한 이미지를 사용하세요.", javaVersion);
+        } else {
+            log.info("가상 스레드 모드 - 요청 처리, @Scheduled, @Async 실행기가 가상 스레드를 사용합니다.");
+        }
+    }
+}
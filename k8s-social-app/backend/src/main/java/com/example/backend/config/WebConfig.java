@@ -1,13 +1,17 @@
 package com.example.backend.config;
 
+import com.example.backend.wire.SmileCodec;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.util.Arrays;
+import java.util.List;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
@@ -28,4 +32,14 @@ public class WebConfig implements WebMvcConfigurer {
 
         return source;
     }
+
+    /**
+     * Accept: application/x-jackson-smile 요청에 이진(Smile) 응답 - JSON 변환기 뒤에 두어 와일드카드 요청은 계속 JSON으로 응답
+     * jackson-dataformat-smile이 있으면 Spring이 기본 설정 Smile 변환기를 추가하므로 SmileCodec 설정(epoch millis 날짜, 공유 문자열)으로 바꾼다
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(MappingJackson2SmileHttpMessageConverter.class::isInstance);
+        converters.add(new MappingJackson2SmileHttpMessageConverter(SmileCodec.objectMapper()));
+    }
 }
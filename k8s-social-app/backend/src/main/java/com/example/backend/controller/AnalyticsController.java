@@ -0,0 +1,51 @@
+package com.example.backend.controller;
+
+import com.example.backend.dto.ActivityReportDto;
+import com.example.backend.model.ActivityRollup;
+import com.example.backend.stats.ActivityRollups;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * 활동 분석 API - activity_rollups의 시간/일 구간 집계로 응답 (posts 테이블을 읽지 않는다)
+ */
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+@Slf4j
+public class AnalyticsController {
+
+    private final ActivityRollups activityRollups;
+
+    /**
+     * 기간별 활동 집계 API - 구간별 게시글 수, 조회수 증가량, 작성자 수(추정)
+     * GET /api/analytics/activity?from=2025-01-01T00:00:00&to=2025-01-08T00:00:00&granularity=hour | day
+     * 시간 단위는 최근 app.analytics.hourly-retention 기간만 제공 (그 이전은 일 단위로 조회)
+     */
+    @GetMapping("/activity")
+    public ResponseEntity<ActivityReportDto> getActivity(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "hour") String granularity) {
+
+        log.debug("활동 집계 조회 요청 - from: {}, to: {}, granularity: {}", from, to, granularity);
+
+        try {
+            ActivityRollup.Granularity unit = ActivityRollup.Granularity.valueOf(granularity.toUpperCase(Locale.ROOT));
+            return ResponseEntity.ok(activityRollups.report(from, to, unit));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 활동 집계 조회 요청 - {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("활동 집계 조회 중 오류 발생 - from: {}, to: {}", from, to, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+}
@@ -1,24 +1,48 @@
 package com.example.backend.controller;
 
 
+import com.example.backend.cache.ResponseBodyCache;
+import com.example.backend.dto.AuthorStatsDto;
+import com.example.backend.dto.CursorPage;
+import com.example.backend.dto.FeedCursor;
+import com.example.backend.dto.PostBatchResponseDto;
 import com.example.backend.dto.PostDto;
 import com.example.backend.dto.PostResponseDto;
 import com.example.backend.dto.PostSummaryDto;
+import com.example.backend.live.LiveFeed;
+import com.example.backend.service.PostBatchService;
+import com.example.backend.service.PostExportService;
+import com.example.backend.service.PostGroupCommitter;
 import com.example.backend.service.PostService;
+import com.example.backend.wire.SmileCodec;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * 게시글 관련 REST API를 제공하는 컨트롤러
+ * 응답은 기본 JSON, Accept: application/x-jackson-smile이면 Smile 이진 형식 (SmileCodec)
  */
 @RestController
 @RequestMapping("/api")
@@ -26,7 +50,15 @@ import java.util.Map;
 @Slf4j
 public class PostController {
 
+    private static final int MAX_FEED_PAGE_SIZE = 100;
+    private static final int MAX_BULK_AUTHORS = 100;
+
     private final PostService postService;
+    private final PostBatchService postBatchService;
+    private final PostExportService postExportService;
+    private final PostGroupCommitter postGroupCommitter;
+    private final ResponseBodyCache responseBodyCache;
+    private final LiveFeed liveFeed;
 
     /**
      * 헬스체크 엔드포인트
@@ -45,31 +77,77 @@ public class PostController {
      * GET /api/posts?page=0&size=10
      */
     @GetMapping("/posts")
-    public ResponseEntity<Page<PostSummaryDto>> getAllPosts(
+    public ResponseEntity<?> getAllPosts(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest request) {
 
-        log.info("게시글 목록 조회 요청 - page: {}, size: {}", page, size);
+        log.debug("게시글 목록 조회 요청 - page: {}, size: {}", page, size);
+
+        String etag = representationETag(postService.getFeedETag(), request);
+        if (isFeedNotModified(etag, request)) {
+            return null;
+        }
 
+        // 캐시 키가 size 값마다 늘어나지 않도록 피드와 같은 범위로 제한
+        int pageSize = clampPageSize(size);
         try {
-            Page<PostSummaryDto> posts = postService.getAllPosts(page, size);
-            return ResponseEntity.ok(posts);
+            if (responseBodyCache.isCacheable(etag, page)) {
+                return okCached(etag, responseBodyCache.get("posts?page=" + page + "&size=" + pageSize, etag,
+                        prefersSmile(request), () -> postService.getAllPosts(page, pageSize)), request);
+            }
+            Page<PostSummaryDto> posts = postService.getAllPosts(page, pageSize);
+            return okWithFeedETag(etag, posts);
         } catch (Exception e) {
             log.error("게시글 목록 조회 중 오류 발생", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    /**
+     * 커서 기반 게시글 피드 API - 깊은 페이지도 첫 페이지와 같은 비용
+     * GET /api/posts?cursor=&size=10[&archive=true] (첫 페이지는 빈 cursor, 이후 응답의 nextCursor 사용)
+     * 활성 테이블의 게시글에서 끝나며, archive=true이면 보관된 오래된 게시글까지 이어서 내려간다
+     */
+    @GetMapping(value = "/posts", params = "cursor")
+    public ResponseEntity<CursorPage<PostSummaryDto>> getFeed(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean archive,
+            WebRequest request) {
+
+        log.debug("게시글 피드 조회 요청 - cursor: {}, size: {}, archive: {}", cursor, size, archive);
+
+        String etag = representationETag(postService.getFeedETag(), request);
+        if (isFeedNotModified(etag, request)) {
+            return null;
+        }
+
+        try {
+            CursorPage<PostSummaryDto> posts = postService.getFeed(cursor, clampPageSize(size), archive);
+            return okWithFeedETag(etag, posts);
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 피드 커서 - cursor: {}", cursor);
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("게시글 피드 조회 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     /**
      * 새 게시글 생성 API
      * POST /api/posts
+     * 그룹 커밋(app.group-commit.enabled)이면 다른 생성 요청과 한 트랜잭션으로 묶어 저장하고, 대기열이 가득 차면 503
      */
     @PostMapping("/posts")
     public ResponseEntity<Map<String, Object>> createPost(@Valid @RequestBody PostDto requestDto) {
-        log.info("새 게시글 생성 요청 - 작성자: {}, 제목: {}", requestDto.getAuthor(), requestDto.getTitle());
+        log.debug("새 게시글 생성 요청 - 작성자: {}, 제목: {}", requestDto.getAuthor(), requestDto.getTitle());
 
         try {
-            PostResponseDto savedPost = postService.createPost(requestDto);
+            PostResponseDto savedPost = postGroupCommitter.isEnabled()
+                    ? postGroupCommitter.create(requestDto)
+                    : postService.createPost(requestDto);
 
             Map<String, Object> response = new HashMap<>();
             response.put("id", savedPost.getId());
@@ -77,6 +155,13 @@ public class PostController {
             response.put("post", savedPost);
 
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (RejectedExecutionException e) {
+            log.warn("게시글 생성 대기열 초과 - 작성자: {}", requestDto.getAuthor());
+            Map<String, Object> error = new HashMap<>();
+            error.put("error", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(error);
         } catch (Exception e) {
             log.error("게시글 생성 중 오류 발생", e);
             Map<String, Object> error = new HashMap<>();
@@ -85,17 +170,112 @@ public class PostController {
         }
     }
 
+    /**
+     * 게시글 일괄 생성 API - 본문의 JSON 배열을 한 항목씩 읽으며 검증/저장
+     * POST /api/posts/batch
+     * 200: 배열 전체 처리 (항목별 결과는 items), 400: JSON 형식 오류로 중단, 413: 최대 건수 초과로 중단
+     */
+    @PostMapping(value = "/posts/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<PostBatchResponseDto> createPosts(InputStream body) {
+        log.debug("게시글 일괄 생성 요청");
+
+        try {
+            PostBatchResponseDto result = postBatchService.ingest(body);
+            HttpStatus status = result.isTruncated() ? HttpStatus.PAYLOAD_TOO_LARGE
+                    : result.getError() != null ? HttpStatus.BAD_REQUEST
+                    : HttpStatus.OK;
+            return ResponseEntity.status(status).body(result);
+        } catch (IllegalArgumentException | IOException e) {
+            log.warn("잘못된 게시글 일괄 생성 요청 - {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("게시글 일괄 생성 중 오류 발생", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * 새 게시글 실시간 피드 API (Server-Sent Events) - 목록을 다시 불러오지 않고 새 게시글 요약만 받는다
+     * GET /api/posts/stream
+     * 이벤트: post(id: 게시글 ID, data: 게시글 요약), reset(놓친 이벤트를 다시 보낼 수 없으니 목록을 다시 불러올 것)
+     * 재연결 시 브라우저가 보내는 Last-Event-ID 이후의 이벤트부터 다시 보낸다
+     */
+    @GetMapping(value = "/posts/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public void streamPosts(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        log.debug("실시간 피드 구독 요청 - Last-Event-ID: {}", lastEventId);
+        liveFeed.subscribe(request, response, lastEventId);
+    }
+
+    /**
+     * 기간별 게시글 내보내기 API - NDJSON(한 줄에 게시글 하나)을 DB에서 읽는 대로 흘려보낸다
+     * GET /api/posts/export?from=2025-01-01T00:00:00&to=2025-02-01T00:00:00[&cursor=]
+     * 연결이 끊기면 마지막으로 받은 줄의 cursor를 넘겨 이어받는다 (보관 테이블로 옮겨진 게시글도 포함)
+     * 503: 동시 내보내기 수(app.export.max-concurrent) 초과 - Retry-After 후 다시 요청
+     */
+    @GetMapping("/posts/export")
+    public ResponseEntity<StreamingResponseBody> exportPosts(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor) {
+
+        log.debug("게시글 내보내기 요청 - from: {}, to: {}, cursor: {}", from, to, cursor);
+
+        FeedCursor after;
+        try {
+            after = postExportService.validate(from, to, cursor);
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 게시글 내보내기 요청 - {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+
+        if (!postExportService.tryAcquireSlot()) {
+            log.warn("동시 내보내기 수 초과 - from: {}, to: {}", from, to);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .build();
+        }
+
+        // 응답을 쓰기 시작한 뒤의 오류는 상태 코드로 알릴 수 없으므로 연결을 끊고 클라이언트가 cursor로 이어받는다
+        StreamingResponseBody body = out -> {
+            try {
+                postExportService.export(from, to, after, out);
+            } finally {
+                postExportService.releaseSlot();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .cacheControl(CacheControl.noStore())
+                // 프록시(nginx)가 응답 전체를 버퍼링하지 않고 바로 전달하도록
+                .header("X-Accel-Buffering", "no")
+                .body(body);
+    }
+
     /**
      * 특정 게시글 조회 API
      * GET /api/posts/{id}
      */
     @GetMapping("/posts/{id}")
-    public ResponseEntity<PostResponseDto> getPost(@PathVariable Long id) {
-        log.info("게시글 조회 요청 - ID: {}", id);
+    public ResponseEntity<PostResponseDto> getPost(@PathVariable Long id, WebRequest request) {
+        log.debug("게시글 조회 요청 - ID: {}", id);
 
         try {
+            // 304로 응답하더라도 조회수는 기록된다 (게시글은 캐시에서 읽으므로 적중 시 DB 접근 없음)
             PostResponseDto post = postService.getPostById(id);
-            return ResponseEntity.ok(post);
+
+            long lastModified = lastModifiedOf(post);
+            String etag = lastModified < 0 ? null
+                    : representationETag("W/\"" + id + "-" + Long.toHexString(lastModified) + "\"", request);
+            if (request.checkNotModified(etag, lastModified)) {
+                return null;
+            }
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache())
+                    .eTag(etag)
+                    .lastModified(lastModified)
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .body(post);
         } catch (IllegalArgumentException e) {
             log.warn("존재하지 않는 게시글 조회 요청 - ID: {}", id);
             return ResponseEntity.notFound().build();
@@ -110,22 +290,64 @@ public class PostController {
      * GET /api/posts/author/{author}?page=0&size=10
      */
     @GetMapping("/posts/author/{author}")
-    public ResponseEntity<Page<PostSummaryDto>> getPostsByAuthor(
+    public ResponseEntity<?> getPostsByAuthor(
             @PathVariable String author,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest request) {
 
-        log.info("작성자별 게시글 조회 요청 - 작성자: {}, page: {}, size: {}", author, page, size);
+        log.debug("작성자별 게시글 조회 요청 - 작성자: {}, page: {}, size: {}", author, page, size);
 
+        String etag = representationETag(postService.getFeedETag(), request);
+        if (isFeedNotModified(etag, request)) {
+            return null;
+        }
+
+        int pageSize = clampPageSize(size);
         try {
-            Page<PostSummaryDto> posts = postService.getPostsByAuthor(author, page, size);
-            return ResponseEntity.ok(posts);
+            if (responseBodyCache.isCacheable(etag, page)) {
+                String key = "posts/author/" + author + "?page=" + page + "&size=" + pageSize;
+                return okCached(etag, responseBodyCache.get(key, etag, prefersSmile(request),
+                        () -> postService.getPostsByAuthor(author, page, pageSize)), request);
+            }
+            Page<PostSummaryDto> posts = postService.getPostsByAuthor(author, page, pageSize);
+            return okWithFeedETag(etag, posts);
         } catch (Exception e) {
             log.error("작성자별 게시글 조회 중 오류 발생 - 작성자: {}", author, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    /**
+     * 커서 기반 작성자별 피드 API
+     * GET /api/posts/author/{author}?cursor=&size=10
+     */
+    @GetMapping(value = "/posts/author/{author}", params = "cursor")
+    public ResponseEntity<CursorPage<PostSummaryDto>> getAuthorFeed(
+            @PathVariable String author,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest request) {
+
+        log.debug("작성자별 피드 조회 요청 - 작성자: {}, cursor: {}, size: {}", author, cursor, size);
+
+        String etag = representationETag(postService.getFeedETag(), request);
+        if (isFeedNotModified(etag, request)) {
+            return null;
+        }
+
+        try {
+            CursorPage<PostSummaryDto> posts = postService.getAuthorFeed(author, cursor, clampPageSize(size));
+            return okWithFeedETag(etag, posts);
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 피드 커서 - 작성자: {}, cursor: {}", author, cursor);
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("작성자별 피드 조회 중 오류 발생 - 작성자: {}", author, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     /**
      * 게시글 검색 API
      * GET /api/posts/search?keyword=검색어&page=0&size=10
@@ -136,10 +358,10 @@ public class PostController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
 
-        log.info("게시글 검색 요청 - 키워드: {}, page: {}, size: {}", keyword, page, size);
+        log.debug("게시글 검색 요청 - 키워드: {}, page: {}, size: {}", keyword, page, size);
 
         try {
-            Page<PostSummaryDto> posts = postService.searchPosts(keyword, page, size);
+            Page<PostSummaryDto> posts = postService.searchPosts(keyword, page, clampPageSize(size));
             return ResponseEntity.ok(posts);
         } catch (Exception e) {
             log.error("게시글 검색 중 오류 발생 - 키워드: {}", keyword, e);
@@ -149,15 +371,35 @@ public class PostController {
 
     /**
      * 인기 게시글 조회 API
-     * GET /api/posts/popular
+     * GET /api/posts/popular?mode=views (누적 조회수) | trending (최근 조회 가중)
+     * 순위는 조회수로 바뀌므로 목록 버전(조회수 반영 시 변경)을 ETag로 사용한다
      */
     @GetMapping("/posts/popular")
-    public ResponseEntity<List<PostSummaryDto>> getPopularPosts() {
-        log.info("인기 게시글 조회 요청");
+    public ResponseEntity<?> getPopularPosts(
+            @RequestParam(defaultValue = "views") String mode,
+            WebRequest request) {
+        log.debug("인기 게시글 조회 요청 - mode: {}", mode);
 
+        String popularMode;
         try {
-            List<PostSummaryDto> posts = postService.getPopularPosts();
-            return ResponseEntity.ok(posts);
+            popularMode = PostService.popularMode(mode);
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 인기 게시글 mode - mode: {}", mode);
+            return ResponseEntity.badRequest().build();
+        }
+
+        String etag = representationETag(postService.getFeedETag(), request);
+        if (isFeedNotModified(etag, request)) {
+            return null;
+        }
+
+        try {
+            if (responseBodyCache.isCacheable(etag, 0)) {
+                return okCached(etag, responseBodyCache.get("posts/popular?mode=" + popularMode, etag,
+                        prefersSmile(request), () -> postService.getPopularPosts(popularMode)), request);
+            }
+            List<PostSummaryDto> posts = postService.getPopularPosts(popularMode);
+            return okWithFeedETag(etag, posts);
         } catch (Exception e) {
             log.error("인기 게시글 조회 중 오류 발생", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -169,20 +411,122 @@ public class PostController {
      * GET /api/authors/{author}/stats
      */
     @GetMapping("/authors/{author}/stats")
-    public ResponseEntity<Map<String, Object>> getAuthorStats(@PathVariable String author) {
-        log.info("작성자 통계 조회 요청 - 작성자: {}", author);
+    public ResponseEntity<AuthorStatsDto> getAuthorStats(@PathVariable String author) {
+        log.debug("작성자 통계 조회 요청 - 작성자: {}", author);
 
         try {
-            long postCount = postService.getPostCountByAuthor(author);
+            AuthorStatsDto stats = postService.getAuthorStats(author);
+            return ResponseEntity.ok(stats);
+        } catch (Exception e) {
+            log.error("작성자 통계 조회 중 오류 발생 - 작성자: {}", author, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * 여러 작성자 통계 일괄 조회 API
+     * GET /api/authors/stats?authors=작성자1,작성자2
+     */
+    @GetMapping("/authors/stats")
+    public ResponseEntity<List<AuthorStatsDto>> getAuthorStatsBulk(@RequestParam List<String> authors) {
+        log.debug("작성자 통계 일괄 조회 요청 - 작성자 수: {}", authors.size());
 
-            Map<String, Object> stats = new HashMap<>();
-            stats.put("author", author);
-            stats.put("totalPosts", postCount);
+        List<String> distinctAuthors = authors.stream().filter(a -> !a.isBlank()).distinct().toList();
+        if (distinctAuthors.size() > MAX_BULK_AUTHORS) {
+            log.warn("일괄 조회 작성자 수 초과 - 요청: {}, 최대: {}", distinctAuthors.size(), MAX_BULK_AUTHORS);
+            return ResponseEntity.badRequest().build();
+        }
 
+        try {
+            List<AuthorStatsDto> stats = postService.getAuthorStats(distinctAuthors);
             return ResponseEntity.ok(stats);
         } catch (Exception e) {
-            log.error("작성자 통계 조회 중 오류 발생 - 작성자: {}", author, e);
+            log.error("작성자 통계 일괄 조회 중 오류 발생", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 목록 버전이 클라이언트가 가진 ETag(If-None-Match)와 같으면 true
+     * - 이때 checkNotModified가 304 상태와 ETag 헤더를 설정하므로 컨트롤러는 null을 반환한다
+     */
+    private boolean isFeedNotModified(String etag, WebRequest request) {
+        return etag != null && request.checkNotModified(etag);
+    }
+
+    // no-cache: 브라우저가 캐시한 목록을 쓰기 전에 항상 ETag로 재검증하도록 한다
+    private <T> ResponseEntity<T> okWithFeedETag(String etag, T body) {
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT).body(body);
+    }
+
+    /**
+     * 응답 캐시의 바이트를 그대로 응답 - 클라이언트가 gzip을 받으면 미리 압축해 둔 본문과 Content-Encoding을 보낸다
+     * (Content-Encoding이 이미 있는 응답은 server.compression이 다시 압축하지 않는다)
+     */
+    private ResponseEntity<byte[]> okCached(String etag, ResponseBodyCache.CachedBody body, WebRequest request) {
+        boolean gzip = body.gzip() != null && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag)
+                .contentType(body.contentType())
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(gzip ? body.gzip() : body.body());
+    }
+
+    // 캐시 응답은 메시지 변환기를 거치지 않고, ETag는 변환기가 고르기 전에 정하므로 Accept를 직접 확인한다
+    private static boolean prefersSmile(WebRequest request) {
+        return SmileCodec.isPreferred(request.getHeader(HttpHeaders.ACCEPT));
+    }
+
+    // 같은 버전이라도 JSON과 Smile 본문 바이트가 다르므로 표현마다 다른 ETag를 쓴다
+    private static String representationETag(String etag, WebRequest request) {
+        return prefersSmile(request) ? SmileCodec.etag(etag) : etag;
+    }
+
+    // Accept-Encoding에 q=0이 아닌 gzip(또는 *)이 있으면 true
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (!name.equalsIgnoreCase("gzip") && !name.equals("*")) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=") && isZeroQuality(param.substring(2))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isZeroQuality(String quality) {
+        try {
+            return Double.parseDouble(quality) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 게시글 상세의 Last-Modified (updatedAt), 알 수 없으면 -1
+     * 조회수는 요청마다 바뀌므로 검증자에 포함하지 않는다 (상세 ETag는 약한 검증자)
+     */
+    private static long lastModifiedOf(PostResponseDto post) {
+        return post.getUpdatedAt() == null ? -1
+                : post.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_FEED_PAGE_SIZE));
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.backend.controller;
+
+import com.example.backend.dto.CursorPage;
+import com.example.backend.dto.FeedCursor;
+import com.example.backend.dto.PostExportDto;
+import com.example.backend.dto.PostResponseDto;
+import com.example.backend.dto.PostSummaryDto;
+import com.example.backend.service.PostExportService;
+import com.example.backend.service.PostService;
+import com.example.backend.service.ReactivePostService;
+import com.example.backend.wire.SmileCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 게시글 읽기 API의 비동기 버전 (reactive 프로필) - PostController의 피드/인기/상세/내보내기와 같은 응답
+ * - Mono/Flux를 반환하면 Spring MVC가 요청을 비동기로 전환하므로, R2DBC 쿼리 동안 Tomcat 스레드가 반환된다
+ * - 목록 ETag/304 처리는 PostController와 같다 (304는 쿼리 없이 바로 응답, Smile 응답은 -smile ETag)
+ * 쓰기 API와 페이지 번호 기반 목록은 기존 PostController를 사용한다
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactivePostController {
+
+    private static final int MAX_FEED_PAGE_SIZE = 100;
+
+    private final ReactivePostService reactivePostService;
+    private final PostService postService;
+    private final PostExportService postExportService;
+
+    /**
+     * 커서 기반 게시글 피드 API
+     * GET /api/reactive/posts?cursor=&size=10[&archive=true]
+     */
+    @GetMapping(value = "/posts", params = "cursor")
+    public Mono<ResponseEntity<CursorPage<PostSummaryDto>>> getFeed(
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean archive,
+            WebRequest request) {
+
+        log.debug("게시글 피드 조회 요청(reactive) - cursor: {}, size: {}, archive: {}", cursor, size, archive);
+
+        String etag = representationETag(postService.getFeedETag(), request);
+        if (isFeedNotModified(etag, request)) {
+            return null;
+        }
+
+        try {
+            return reactivePostService.getFeed(cursor, clampPageSize(size), archive)
+                    .map(posts -> okWithFeedETag(etag, posts))
+                    .onErrorResume(e -> serverError("게시글 피드 조회 중 오류 발생", e));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 피드 커서 - cursor: {}", cursor);
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+    }
+
+    /**
+     * 커서 기반 작성자별 피드 API
+     * GET /api/reactive/posts/author/{author}?cursor=&size=10
+     */
+    @GetMapping(value = "/posts/author/{author}", params = "cursor")
+    public Mono<ResponseEntity<CursorPage<PostSummaryDto>>> getAuthorFeed(
+            @PathVariable String author,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest request) {
+
+        log.debug("작성자별 피드 조회 요청(reactive) - 작성자: {}, cursor: {}, size: {}", author, cursor, size);
+
+        String etag = representationETag(postService.getFeedETag(), request);
+        if (isFeedNotModified(etag, request)) {
+            return null;
+        }
+
+        try {
+            return reactivePostService.getAuthorFeed(author, cursor, clampPageSize(size))
+                    .map(posts -> okWithFeedETag(etag, posts))
+                    .onErrorResume(e -> serverError("작성자별 피드 조회 중 오류 발생 - 작성자: " + author, e));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 피드 커서 - 작성자: {}, cursor: {}", author, cursor);
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+    }
+
+    /**
+     * 인기 게시글 조회 API
+     * GET /api/reactive/posts/popular?mode=views | trending
+     */
+    @GetMapping("/posts/popular")
+    public Mono<ResponseEntity<List<PostSummaryDto>>> getPopularPosts(
+            @RequestParam(defaultValue = "views") String mode,
+            WebRequest request) {
+        log.debug("인기 게시글 조회 요청(reactive) - mode: {}", mode);
+
+        String popularMode;
+        try {
+            popularMode = PostService.popularMode(mode);
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 인기 게시글 mode - mode: {}", mode);
+            return Mono.just(ResponseEntity.badRequest().build());
+        }
+
+        String etag = representationETag(postService.getFeedETag(), request);
+        if (isFeedNotModified(etag, request)) {
+            return null;
+        }
+
+        return reactivePostService.getPopularPosts(popularMode)
+                .map(posts -> okWithFeedETag(etag, posts))
+                .onErrorResume(e -> serverError("인기 게시글 조회 중 오류 발생", e));
+    }
+
+    /**
+     * 특정 게시글 조회 API
+     * GET /api/reactive/posts/{id}
+     */
+    @GetMapping("/posts/{id}")
+    public Mono<ResponseEntity<PostResponseDto>> getPost(@PathVariable Long id, WebRequest request) {
+        log.debug("게시글 조회 요청(reactive) - ID: {}", id);
+
+        // 비동기 처리 후에는 checkNotModified를 쓸 수 없으므로 검증자를 직접 비교한다
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        return reactivePostService.getPostById(id)
+                .map(post -> {
+                    long lastModified = lastModifiedOf(post);
+                    String etag = lastModified < 0 ? null
+                            : representationETag("W/\"" + id + "-" + Long.toHexString(lastModified) + "\"", request);
+                    if (etag != null && etag.equals(ifNoneMatch)) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).<PostResponseDto>build();
+                    }
+                    return ResponseEntity.ok()
+                            .cacheControl(CacheControl.noCache())
+                            .eTag(etag)
+                            .lastModified(lastModified)
+                            .varyBy(HttpHeaders.ACCEPT)
+                            .body(post);
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    log.warn("존재하지 않는 게시글 조회 요청 - ID: {}", id);
+                    return ResponseEntity.notFound().<PostResponseDto>build();
+                }))
+                .onErrorResume(e -> serverError("게시글 조회 중 오류 발생 - ID: " + id, e));
+    }
+
+    /**
+     * 기간별 게시글 내보내기 API (NDJSON) - 클라이언트가 읽는 속도만큼만 DB에서 행을 가져온다
+     * - 활성 테이블에 이어 보관 테이블(posts_archive)까지 같은 커서로 내보낸다
+     * - 동시 실행 수가 가득 차면 503 + Retry-After
+     * GET /api/reactive/posts/export?from=2025-01-01T00:00:00&to=2025-02-01T00:00:00[&cursor=]
+     */
+    @GetMapping(value = "/posts/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<Flux<PostExportDto>> exportPosts(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor) {
+
+        log.debug("게시글 내보내기 요청(reactive) - from: {}, to: {}, cursor: {}", from, to, cursor);
+
+        FeedCursor after;
+        try {
+            after = postExportService.validate(from, to, cursor);
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 게시글 내보내기 요청 - {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+
+        // 블로킹 내보내기(PostController)와 같은 동시 실행 한도를 나눠 쓴다
+        if (!postExportService.tryAcquireSlot()) {
+            log.warn("동시 내보내기 수 초과(reactive) - from: {}, to: {}", from, to);
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .build();
+        }
+
+        // 완료, 오류, 클라이언트 연결 끊김(cancel) 중 어느 쪽으로 끝나도 자리를 돌려준다
+        Flux<PostExportDto> body = reactivePostService.export(from, to, after)
+                .doFinally(signal -> postExportService.releaseSlot());
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .header("X-Accel-Buffering", "no")
+                .body(body);
+    }
+
+    private boolean isFeedNotModified(String etag, WebRequest request) {
+        return etag != null && request.checkNotModified(etag);
+    }
+
+    // 같은 버전이라도 JSON과 Smile 본문 바이트가 다르므로 표현마다 다른 ETag를 쓴다
+    private static String representationETag(String etag, WebRequest request) {
+        return SmileCodec.isPreferred(request.getHeader(HttpHeaders.ACCEPT)) ? SmileCodec.etag(etag) : etag;
+    }
+
+    private <T> ResponseEntity<T> okWithFeedETag(String etag, T body) {
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag)
+                .varyBy(HttpHeaders.ACCEPT).body(body);
+    }
+
+    private static <T> Mono<ResponseEntity<T>> serverError(String message, Throwable e) {
+        log.error(message, e);
+        return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
+    }
+
+    private static long lastModifiedOf(PostResponseDto post) {
+        return post.getUpdatedAt() == null ? -1
+                : post.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_FEED_PAGE_SIZE));
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.backend.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본으로, 나머지는 주 DB로 보내는 DataSource
+ * - 실제 커넥션은 첫 문장을 실행할 때 얻으므로 트랜잭션 매니저가 readOnly를 표시한 뒤에 대상이 정해진다
+ * - 복제본은 정상 상태인 것 중에서 라운드 로빈으로 고르고, 모두 사용할 수 없으면 주 DB를 사용한다
+ * - 방금 쓰기를 한 클라이언트(ReadYourWrites)는 복제 지연 동안 읽기도 주 DB에서 한다
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final AtomicLong primaryFallbacks = new AtomicLong();
+
+    /**
+     * @param replicas 이름(풀 이름) - 복제본 DataSource
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, DataSource> replicas) {
+        this.primary = primary;
+        this.replicas = new ArrayList<>(replicas.size());
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        setTargetDataSource(primary);
+        setReadOnlyDataSource(new ReplicaSelector());
+    }
+
+    /**
+     * 복제본마다 커넥션을 얻어 유효성을 확인하고 상태를 갱신 (주기적으로 호출)
+     * 장애로 제외된 복제본도 여기서 다시 확인되면 라우팅에 포함된다
+     */
+    public void checkReplicaHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (connection.isValid(2)) {
+                    replica.markUp();
+                } else {
+                    replica.markDown("유효성 검사 실패");
+                }
+            } catch (SQLException e) {
+                replica.markDown(e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 라우팅 대상 DataSource - 주 DB("primary") 다음에 복제본 이름 순서
+     */
+    public Map<String, DataSource> getPools() {
+        Map<String, DataSource> pools = new LinkedHashMap<>();
+        pools.put("primary", primary);
+        replicas.forEach(replica -> pools.put(replica.name, replica.dataSource));
+        return pools;
+    }
+
+    public List<String> getReplicaNames() {
+        return replicas.stream().map(replica -> replica.name).toList();
+    }
+
+    public boolean isReplicaHealthy(String name) {
+        return replicas.stream().anyMatch(replica -> replica.name.equals(name) && replica.healthy);
+    }
+
+    /**
+     * 읽기 전용 요청을 복제본 대신 주 DB로 보낸 횟수 (정상 복제본이 없었던 경우)
+     */
+    public long getPrimaryFallbacks() {
+        return primaryFallbacks.get();
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            close(replica.dataSource);
+        }
+        close(primary);
+    }
+
+    // 풀이 다른 DataSource(커넥션 동시 사용 제한 등)로 감싸여 있어도 실제 풀을 닫는다
+    private static void close(DataSource dataSource) throws Exception {
+        if (dataSource.isWrapperFor(AutoCloseable.class)) {
+            dataSource.unwrap(AutoCloseable.class).close();
+        }
+    }
+
+    private Connection replicaConnection() throws SQLException {
+        if (ReadYourWrites.isPinned() || replicas.isEmpty()) {
+            return primary.getConnection();
+        }
+
+        int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException e) {
+                // 다음 상태 확인에서 복구되기 전까지 라우팅에서 제외
+                replica.markDown(e.getMessage());
+            }
+        }
+
+        primaryFallbacks.incrementAndGet();
+        return primary.getConnection();
+    }
+
+    // 읽기 전용으로 표시된 커넥션이 실제 커넥션을 얻을 때 사용하는 DataSource
+    private class ReplicaSelector extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return replicaConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            throw new SQLFeatureNotSupportedException("복제본 라우팅은 사용자별 커넥션을 지원하지 않습니다.");
+        }
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        private void markUp() {
+            if (!healthy) {
+                healthy = true;
+                log.info("복제본 복구 - {}", name);
+            }
+        }
+
+        private void markDown(String reason) {
+            if (healthy) {
+                healthy = false;
+                log.warn("복제본 제외 - {}: {}", name, reason);
+            }
+        }
+    }
+}
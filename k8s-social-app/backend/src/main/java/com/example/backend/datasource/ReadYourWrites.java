@@ -0,0 +1,114 @@
+package com.example.backend.datasource;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 쓰기 직후의 읽기를 주 DB로 보내 복제 지연 동안에도 자신이 쓴 내용을 읽을 수 있게 한다
+ * - 쓰기 트랜잭션이 커밋되면 남은 요청 처리와, 쿠키로 표시한 window 동안의 같은 클라이언트 요청을 주 DB에 고정
+ * - 쿠키에 만료 시각만 담으므로 어느 백엔드 파드가 다음 요청을 받아도 같은 판단을 한다
+ */
+public class ReadYourWrites implements Filter, TransactionExecutionListener {
+
+    static final String COOKIE_NAME = "rw_primary_until";
+
+    private static final ThreadLocal<Pin> CURRENT = new ThreadLocal<>();
+
+    private final Duration window;
+
+    public ReadYourWrites(Duration window) {
+        this.window = window;
+    }
+
+    /**
+     * 현재 요청의 읽기를 주 DB에서 해야 하면 true (요청 밖의 스레드는 항상 false)
+     */
+    public static boolean isPinned() {
+        Pin pin = CURRENT.get();
+        return pin != null && pin.pinned;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        Pin pin = new Pin((HttpServletResponse) response, pinnedUntil((HttpServletRequest) request) > System.currentTimeMillis());
+        CURRENT.set(pin);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure == null && !transaction.isReadOnly()) {
+            recordWrite();
+        }
+    }
+
+    /**
+     * 현재 요청이 쓰기를 했다고 기록 - 트랜잭션 리스너가 보지 못하는 쓰기(다른 스레드에서 커밋한 그룹 커밋 등)는 요청 스레드가 직접 호출
+     */
+    public void recordWrite() {
+        Pin pin = CURRENT.get();
+        if (pin == null || pin.cookieSent) {
+            return;
+        }
+
+        pin.pinned = true;
+        if (!pin.response.isCommitted()) {
+            long until = System.currentTimeMillis() + window.toMillis();
+            ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, Long.toString(until))
+                    .path("/api")
+                    .maxAge(window)
+                    .httpOnly(true)
+                    .sameSite("Lax")
+                    .build();
+            pin.response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+            pin.cookieSent = true;
+        }
+    }
+
+    private static long pinnedUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+
+    private static final class Pin {
+
+        private final HttpServletResponse response;
+        private boolean pinned;
+        private boolean cookieSent;
+
+        private Pin(HttpServletResponse response, boolean pinned) {
+            this.response = response;
+            this.pinned = pinned;
+        }
+    }
+}
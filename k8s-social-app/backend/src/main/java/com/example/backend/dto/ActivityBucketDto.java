@@ -0,0 +1,19 @@
+package com.example.backend.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 활동 집계 구간 하나 (bucketStart부터 구간 길이만큼) - distinctAuthors는 HyperLogLog 추정값
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class ActivityBucketDto {
+
+    private LocalDateTime bucketStart;
+    private long posts;
+    private long views;
+    private long distinctAuthors;
+}
@@ -0,0 +1,23 @@
+package com.example.backend.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 기간 활동 집계 응답 - 구간별 값과 기간 전체 합계 (distinctAuthors는 구간 스케치를 합친 추정값)
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class ActivityReportDto {
+
+    private String granularity;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private long totalPosts;
+    private long totalViews;
+    private long distinctAuthors;
+    private List<ActivityBucketDto> buckets;
+}
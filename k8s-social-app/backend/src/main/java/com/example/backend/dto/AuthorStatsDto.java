@@ -0,0 +1,46 @@
+package com.example.backend.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+@ToString
+public class AuthorStatsDto {
+
+    private String author;
+    private long totalPosts;
+    private long totalViews;
+    private LocalDateTime firstPostAt;
+    private LocalDateTime lastPostAt;
+
+    // JPQL 집계 프로젝션용 (COUNT/SUM 결과는 Long)
+    public AuthorStatsDto(String author, Long totalPosts, Long totalViews,
+                          LocalDateTime firstPostAt, LocalDateTime lastPostAt) {
+        this(author, totalPosts == null ? 0 : totalPosts, totalViews == null ? 0 : totalViews,
+                firstPostAt, lastPostAt);
+    }
+
+    public double getAverageViews() {
+        return totalPosts == 0 ? 0 : (double) totalViews / totalPosts;
+    }
+
+    // 같은 작성자의 활성 테이블 집계와 보관 테이블 집계를 합친다
+    public AuthorStatsDto merge(AuthorStatsDto other) {
+        return new AuthorStatsDto(author, totalPosts + other.totalPosts, totalViews + other.totalViews,
+                earlier(firstPostAt, other.firstPostAt), later(lastPostAt, other.lastPostAt));
+    }
+
+    private static LocalDateTime earlier(LocalDateTime a, LocalDateTime b) {
+        return a == null ? b : b == null || a.isBefore(b) ? a : b;
+    }
+
+    private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+        return a == null ? b : b == null || a.isAfter(b) ? a : b;
+    }
+
+    public static AuthorStatsDto empty(String author) {
+        return new AuthorStatsDto(author, 0, 0, null, null);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.backend.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답 - 전체 개수(COUNT) 없이 다음 페이지 커서만 제공
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class CursorPage<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
@@ -0,0 +1,23 @@
+package com.example.backend.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 테이블 전체 집계 - 목록 응답의 버전(ETag) 계산에 사용
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class FeedStatsDto {
+
+    private long totalPosts;
+    private long totalViews;
+    private LocalDateTime lastUpdatedAt;
+
+    // JPQL 집계 프로젝션용 (COUNT/SUM 결과는 Long, 게시글이 없으면 SUM은 null)
+    public FeedStatsDto(Long totalPosts, Long totalViews, LocalDateTime lastUpdatedAt) {
+        this(totalPosts == null ? 0 : totalPosts, totalViews == null ? 0 : totalViews, lastUpdatedAt);
+    }
+}
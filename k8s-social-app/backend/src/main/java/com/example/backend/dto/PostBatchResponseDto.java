@@ -0,0 +1,49 @@
+package com.example.backend.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 게시글 일괄 생성 결과 - 요청 배열의 순서(index)대로 항목별 결과를 담는다
+ */
+@Getter
+@AllArgsConstructor
+@ToString(exclude = "items")
+public class PostBatchResponseDto {
+
+    private int total;
+    private int created;
+    private int failed;
+    // 최대 건수 초과로 나머지 항목을 읽지 않은 경우 true
+    private boolean truncated;
+    // JSON 형식 오류로 처리를 중단한 경우의 사유
+    private String error;
+    private List<ItemResult> items;
+
+    public enum Status {
+        CREATED, INVALID, FAILED
+    }
+
+    @Getter
+    @AllArgsConstructor
+    @ToString
+    public static class ItemResult {
+        private int index;
+        private Status status;
+        private Long id;
+        private List<String> errors;
+
+        public static ItemResult created(int index, Long id) {
+            return new ItemResult(index, Status.CREATED, id, null);
+        }
+
+        public static ItemResult invalid(int index, List<String> errors) {
+            return new ItemResult(index, Status.INVALID, null, errors);
+        }
+
+        public static ItemResult failed(int index, String error) {
+            return new ItemResult(index, Status.FAILED, null, List.of(error));
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.backend.dto;
+
+import com.example.backend.model.ArchivedPost;
+import com.example.backend.model.Post;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 내보내기(NDJSON) 한 줄
+ * cursor: 연결이 끊겼을 때 이 게시글 다음부터 이어받기 위한 토큰 (피드 커서와 같은 형식)
+ */
+@Getter
+@AllArgsConstructor
+@ToString(exclude = "content")
+public class PostExportDto {
+
+    private Long id;
+    private String title;
+    private String content;
+    private String author;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long viewCount;
+    private String cursor;
+
+    public static PostExportDto fromEntity(Post post) {
+        return new PostExportDto(post.getId(), post.getTitle(), post.getContent(), post.getAuthor(),
+                post.getCreatedAt(), post.getUpdatedAt(), post.getViewCount(),
+                new FeedCursor(post.getCreatedAt(), post.getId()).encode());
+    }
+
+    public static PostExportDto fromArchived(ArchivedPost post) {
+        return new PostExportDto(post.getId(), post.getTitle(), post.getContent(), post.getAuthor(),
+                post.getCreatedAt(), post.getUpdatedAt(), post.getViewCount(),
+                new FeedCursor(post.getCreatedAt(), post.getId()).encode());
+    }
+}
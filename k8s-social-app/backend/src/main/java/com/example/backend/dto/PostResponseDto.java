@@ -1,4 +1,5 @@
 package com.example.backend.dto;
+import com.example.backend.model.ArchivedPost;
 import com.example.backend.model.Post;
 import lombok.*;
 
@@ -30,4 +31,14 @@ public class PostResponseDto {
                 .viewCount(post.getViewCount())
                 .build();
     }
+
+    public static PostResponseDto fromArchived(ArchivedPost post) {
+        return new PostResponseDto(post.getId(), post.getTitle(), post.getContent(), post.getAuthor(),
+                post.getCreatedAt(), post.getUpdatedAt(), post.getViewCount());
+    }
+
+    // 조회수만 바꾼 사본 (캐시된 객체는 변경하지 않는다)
+    public PostResponseDto withViewCount(Long viewCount) {
+        return new PostResponseDto(id, title, content, author, createdAt, updatedAt, viewCount);
+    }
 }
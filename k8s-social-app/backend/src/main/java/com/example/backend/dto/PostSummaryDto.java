@@ -20,9 +20,9 @@ public class PostSummaryDto {
     private String contentPreview;
 
     public static PostSummaryDto fromEntity(Post post) {
-        String contentPreview = post.getContent().length() > 50
-                ? post.getContent().substring(0, 50) + "..."
-                : post.getContent();
+        String contentPreview = post.getContentPreview() != null
+                ? post.getContentPreview()
+                : Post.previewOf(post.getContent());
 
         return PostSummaryDto.builder()
                 .id(post.getId())
@@ -33,4 +33,20 @@ public class PostSummaryDto {
                 .contentPreview(contentPreview)
                 .build();
     }
+
+    public static PostSummaryDto fromResponse(PostResponseDto post) {
+        return PostSummaryDto.builder()
+                .id(post.getId())
+                .title(post.getTitle())
+                .author(post.getAuthor())
+                .createdAt(post.getCreatedAt())
+                .viewCount(post.getViewCount())
+                .contentPreview(Post.previewOf(post.getContent()))
+                .build();
+    }
+
+    // 조회수만 바꾼 사본
+    public PostSummaryDto withViewCount(Long viewCount) {
+        return new PostSummaryDto(id, title, author, createdAt, viewCount, contentPreview);
+    }
 }
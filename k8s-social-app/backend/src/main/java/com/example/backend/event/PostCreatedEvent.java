@@ -0,0 +1,9 @@
+package com.example.backend.event;
+
+import com.example.backend.dto.PostResponseDto;
+
+/**
+ * 게시글 생성 이벤트 - 트랜잭션 커밋 후 검색 색인 등 메모리 구조 갱신에 사용
+ */
+public record PostCreatedEvent(PostResponseDto post) {
+}
@@ -0,0 +1,9 @@
+package com.example.backend.event;
+
+import java.util.List;
+
+/**
+ * 게시글 한 청크가 보관 테이블로 옮겨진 이벤트 - 트랜잭션 커밋 후 검색 색인, 인기 순위 등 활성 게시글 기준의 메모리 구조에서 제거
+ */
+public record PostsArchivedEvent(List<Long> postIds) {
+}
@@ -0,0 +1,12 @@
+package com.example.backend.event;
+
+import java.util.List;
+
+/**
+ * 버퍼에 모인 조회수가 DB에 반영된 뒤 발행되는 이벤트
+ */
+public record ViewCountsFlushedEvent(List<ViewDelta> deltas) {
+
+    public record ViewDelta(Long postId, String author, long views) {
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.backend.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 지연 시간 기울기(gradient)로 동시 처리 한도를 조절한다
+ * - windowSize개 요청마다 평균 지연(short)을 장기 지연(long)과 비교: 한도 = 한도 × min(1, tolerance × long / short) + √한도
+ *   (지연이 장기 지연의 tolerance배를 넘으면 한도를 줄이고, 그 이하면 √한도만큼 늘린다)
+ * - 장기 지연은 window 평균의 EWMA(약 LONG_RTT_WINDOWS개 window) - 갑자기 오른 지연에는 한도를 줄이고,
+ *   지연이 계속 높으면(작업 구성 변화, 느려진 DB) 기준이 따라 올라가 한도가 최솟값에 머물지 않는다
+ * - 지연이 장기 지연의 절반 아래로 내려가면 장기 지연을 더 빨리 낮춰 다음 상승을 놓치지 않는다
+ * - 실패(예외, 5xx)가 있으면 window마다 한 번 한도를 BACKOFF_RATIO배로 줄인다
+ * - 처리 중인 요청이 한도의 절반에도 못 미친 window는 부하가 부족해 판단 근거가 없으므로 한도를 바꾸지 않는다
+ * - 우선순위별로 한도 중 사용할 수 있는 비율(share)을 달리해, 낮은 우선순위부터 거절한다
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private static final int LONG_RTT_WINDOWS = 20;
+    private static final double LONG_RTT_ALPHA = 2.0 / (LONG_RTT_WINDOWS + 1);
+    private static final double LONG_RTT_RECOVERY = 0.95;
+    private static final double SMOOTHING = 0.2;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final int windowSize;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    // 한도 추정값과 window 상태 - this로 보호 (한도가 작을 때도 √한도 증가분이 반올림으로 사라지지 않도록 실수로 유지)
+    private double estimate;
+    private long windowRttSum;
+    private int windowSamples;
+    private int windowMaxInFlight;
+    private boolean windowDropped;
+    private double longRtt;
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, int windowSize) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("한도 범위가 올바르지 않습니다: " + minLimit + "~" + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.windowSize = windowSize;
+        this.estimate = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimate;
+    }
+
+    /**
+     * 처리 중인 요청이 한도 × share보다 적으면 자리를 차지하고 true
+     */
+    public boolean tryAcquire(double share) {
+        int allowed = Math.max(1, (int) (limit * share));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 자리를 반납하고 처리 결과를 한도 계산에 반영한다
+     */
+    public void release(long rttNanos, boolean dropped) {
+        int concurrency = inFlight.getAndDecrement();
+        onSample(rttNanos, concurrency, dropped);
+    }
+
+    /**
+     * 한도 계산에 쓰지 않을 요청(오래 걸리는 스트리밍 응답 등)의 자리 반납
+     */
+    public void releaseWithoutSample() {
+        inFlight.decrementAndGet();
+    }
+
+    private synchronized void onSample(long rttNanos, int concurrency, boolean dropped) {
+        if (dropped && !windowDropped) {
+            windowDropped = true;
+            update(estimate * BACKOFF_RATIO);
+        }
+        windowRttSum += rttNanos;
+        windowMaxInFlight = Math.max(windowMaxInFlight, concurrency);
+        if (++windowSamples < windowSize) {
+            return;
+        }
+
+        double shortRtt = (double) windowRttSum / windowSamples;
+        boolean appLimited = windowMaxInFlight < limit / 2;
+        boolean droppedInWindow = windowDropped;
+        windowRttSum = 0;
+        windowSamples = 0;
+        windowMaxInFlight = 0;
+        windowDropped = false;
+
+        if (longRtt == 0) {
+            longRtt = shortRtt;
+        } else {
+            longRtt += (shortRtt - longRtt) * LONG_RTT_ALPHA;
+            if (longRtt > shortRtt * 2) {
+                longRtt *= LONG_RTT_RECOVERY;
+            }
+        }
+        if (appLimited || droppedInWindow) {
+            return;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRtt / shortRtt));
+        double target = estimate * gradient + Math.sqrt(estimate);
+        update(estimate * (1 - SMOOTHING) + target * SMOOTHING);
+    }
+
+    private void update(double next) {
+        estimate = Math.max(minLimit, Math.min(maxLimit, next));
+        limit = (int) estimate;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.backend.limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 과부하 시 요청을 커넥션 풀 앞에서 빠르게 거절한다 (app.concurrency-limit.enabled)
+ * - 동시 처리 한도는 AdaptiveConcurrencyLimit이 응답 지연으로 조절 - 풀 대기(최대 connection-timeout)로 쌓이기 전에 503 + Retry-After
+ * - 쓰기는 한도 전체, 읽기는 한도의 read-share 비율까지만 사용 - 읽기부터 거절해 쓰기 몫을 남긴다
+ * - /api/health, /actuator/**(프로브, 지표 수집)는 제한하지 않고 한도 계산에도 넣지 않는다
+ * - 오래 열려 있는 스트림(실시간 피드 SSE, NDJSON 내보내기)도 제외 - 탭마다 여는 SSE가 자리를 차지하면 읽기가 모두 거절된다
+ *   (내보내기는 app.export.max-concurrent로 따로 제한)
+ * - 그 외 비동기로 넘어간 요청(reactive 조회)은 응답이 끝날 때 자리를 반납하며 지연은 한도 계산에 넣지 않는다
+ * 요청 지표(http.server.requests)와 요청 로그에 503이 남도록 그 필터들 뒤에서 실행한다
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 3)
+@ConditionalOnProperty(name = "app.concurrency-limit.enabled", havingValue = "true")
+@Slf4j
+public class ConcurrencyLimitFilter implements Filter {
+
+    private static final byte[] REJECTED_BODY =
+            "{\"error\":\"요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final AdaptiveConcurrencyLimit limit;
+    private final double readShare;
+    private final String retryAfterSeconds;
+    private final Counter readRejected;
+    private final Counter writeRejected;
+
+    public ConcurrencyLimitFilter(MeterRegistry meterRegistry,
+                                  @Value("${app.concurrency-limit.initial-limit:20}") int initialLimit,
+                                  @Value("${app.concurrency-limit.min-limit:4}") int minLimit,
+                                  @Value("${app.concurrency-limit.max-limit:200}") int maxLimit,
+                                  @Value("${app.concurrency-limit.rtt-tolerance:1.5}") double rttTolerance,
+                                  @Value("${app.concurrency-limit.window-size:50}") int windowSize,
+                                  @Value("${app.concurrency-limit.read-share:0.8}") double readShare,
+                                  @Value("${app.concurrency-limit.retry-after:1s}") Duration retryAfter) {
+        this.limit = new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit, rttTolerance, windowSize);
+        this.readShare = readShare;
+        this.retryAfterSeconds = Long.toString(Math.max(1, retryAfter.toSeconds()));
+
+        Gauge.builder("http.server.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                .description("현재 동시 처리 한도").register(meterRegistry);
+        Gauge.builder("http.server.concurrency.in.flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                .description("한도에 포함된 처리 중인 요청 수").register(meterRegistry);
+        this.readRejected = Counter.builder("http.server.requests.rejected").tag("priority", "read")
+                .description("동시 처리 한도 초과로 거절한 요청 수").register(meterRegistry);
+        this.writeRejected = Counter.builder("http.server.requests.rejected").tag("priority", "write")
+                .description("동시 처리 한도 초과로 거절한 요청 수").register(meterRegistry);
+
+        log.info("동시 처리 한도 적용 - 초기: {}, 범위: {}~{}, 읽기 비율: {}", initialLimit, minLimit, maxLimit, readShare);
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        HttpServletRequest httpRequest = (HttpServletRequest) request;
+        String uri = httpRequest.getRequestURI();
+        if (isProbe(uri) || isLongLivedStream(uri)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        boolean write = isWrite(httpRequest.getMethod());
+        if (!limit.tryAcquire(write ? 1.0 : readShare)) {
+            (write ? writeRejected : readRejected).increment();
+            reject((HttpServletResponse) response);
+            return;
+        }
+
+        long started = System.nanoTime();
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete());
+            } else {
+                int status = ((HttpServletResponse) response).getStatus();
+                limit.release(System.nanoTime() - started, failed || status >= 500);
+            }
+        }
+    }
+
+    /**
+     * 비동기 응답이 끝나면 자리 반납 - 오류/시간 초과 뒤에도 onComplete가 호출되므로 여기서 한 번만 반납한다
+     */
+    private class ReleaseOnComplete implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            limit.releaseWithoutSample();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentLength(REJECTED_BODY.length);
+        response.getOutputStream().write(REJECTED_BODY);
+    }
+
+    private static boolean isProbe(String uri) {
+        return uri.equals("/api/health") || uri.startsWith("/actuator/");
+    }
+
+    private static boolean isLongLivedStream(String uri) {
+        return uri.equals("/api/posts/stream") || uri.equals("/api/posts/export") || uri.equals("/api/reactive/posts/export");
+    }
+
+    private static boolean isWrite(String method) {
+        return !("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method));
+    }
+}
@@ -0,0 +1,308 @@
+package com.example.backend.live;
+
+import com.example.backend.dto.PostSummaryDto;
+import com.example.backend.event.PostCreatedEvent;
+import com.example.backend.repository.PostRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 새 게시글 실시간 피드 (GET /api/posts/stream, Server-Sent Events)
+ * - 게시글마다 JSON 직렬화와 SSE 인코딩을 한 번만 하고, 모든 구독자가 같은 바이트 배열을 공유한다
+ * - 구독자마다 최대 buffer-size개 이벤트를 쌓아 두고, 넘치면(느린 구독자) 연결을 끊는다
+ * - 최근 buffer-size개 이벤트를 링 버퍼에 보관 - 재연결 시 Last-Event-ID(게시글 ID) 이후 이벤트를 다시 보낸다
+ *   링 버퍼에 없는 ID(오래되었거나 다른 파드에서 받은 ID)면 reset 이벤트로 목록을 다시 불러오게 한다
+ * - 이 인스턴스의 게시글은 커밋 직후, 다른 레플리카의 게시글은 catch-up-interval-ms마다 최근 게시글을 조회해 보낸다
+ *   한 번에 조회하는 수(CATCH_UP_LIMIT)를 넘게 밀려 있으면 모두 보내지 않고 reset 이벤트로 목록을 다시 불러오게 한다
+ * - 직렬화와 구독자 전달은 발행 전용 스레드 하나가 순서대로 처리 - 커밋한 요청 스레드는 구독자 수와 관계없이 바로 돌아간다
+ */
+@Component
+@Slf4j
+public class LiveFeed {
+
+    private static final SseFrame HEARTBEAT = SseFrame.text(":\n\n");
+    private static final SseFrame RESET = SseFrame.text("event: reset\ndata: {}\n\n");
+
+    // 커밋 순서와 생성 시각 순서가 다를 수 있고 파드 간 시계 차이도 있으므로 최근 구간을 겹쳐서 다시 확인
+    private static final Duration CATCH_UP_WINDOW = Duration.ofSeconds(10);
+    private static final int CATCH_UP_LIMIT = 500;
+
+    private final PostRepository postRepository;
+    private final ObjectWriter writer;
+    private final int bufferSize;
+    private final long connectionTimeoutMillis;
+    private final SseFrame retry;
+
+    private final Set<SseSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService publisher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "live-feed-publish");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 링 버퍼, 최근 발행한 게시글(중복 발행 방지), 마지막 reset까지 조회한 생성 시각 - this로 보호
+    private final SseFrame[] ring;
+    private int ringStart;
+    private int ringSize;
+    private final Map<Long, LocalDateTime> recentlyPublished = new HashMap<>();
+    private LocalDateTime resyncedUpTo;
+
+    private final Timer fanOut;
+    private final Counter events;
+    private final Counter evictions;
+    private final Counter resyncs;
+
+    public LiveFeed(PostRepository postRepository,
+                    ObjectMapper objectMapper,
+                    MeterRegistry meterRegistry,
+                    @Value("${app.live-feed.buffer-size:256}") int bufferSize,
+                    @Value("${app.live-feed.connection-timeout:30m}") Duration connectionTimeout,
+                    @Value("${app.live-feed.retry-ms:3000}") long retryMillis) {
+        this.postRepository = postRepository;
+        this.writer = objectMapper.writerFor(PostSummaryDto.class);
+        this.bufferSize = bufferSize;
+        this.connectionTimeoutMillis = connectionTimeout.toMillis();
+        this.retry = SseFrame.text("retry: " + retryMillis + "\n\n");
+        this.ring = new SseFrame[bufferSize];
+
+        Gauge.builder("live.feed.subscribers", subscribers, Set::size)
+                .description("실시간 피드 구독자 수").register(meterRegistry);
+        this.fanOut = Timer.builder("live.feed.fanout")
+                .description("이벤트 하나를 모든 구독자에게 넘기는 데 걸린 시간").register(meterRegistry);
+        this.events = Counter.builder("live.feed.events")
+                .description("실시간 피드로 보낸 게시글 수").register(meterRegistry);
+        this.evictions = Counter.builder("live.feed.evictions")
+                .description("대기 이벤트가 넘쳐 연결을 끊은 구독자 수").register(meterRegistry);
+        this.resyncs = Counter.builder("live.feed.resyncs")
+                .description("밀린 게시글이 많아 모든 구독자에게 reset을 보낸 횟수").register(meterRegistry);
+    }
+
+    /**
+     * 요청을 비동기로 전환하고 구독자로 등록한다 - 응답은 연결이 끊길 때까지 열려 있다
+     */
+    public void subscribe(HttpServletRequest request, HttpServletResponse response, String lastEventId)
+            throws IOException {
+        response.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        // nginx 프록시가 이벤트를 모아 두지 않도록
+        response.setHeader("X-Accel-Buffering", "no");
+
+        AsyncContext asyncContext = request.startAsync(request, response);
+        asyncContext.setTimeout(connectionTimeoutMillis);
+
+        // 다시 보낼 이벤트(최대 buffer-size개)와 retry, reset 프레임이 들어갈 자리
+        SseSubscriber subscriber = new SseSubscriber(asyncContext, bufferSize + 2, subscribers::remove);
+        subscriber.offer(retry);
+        // 다시 보내기와 등록 사이에 발행된 이벤트를 놓치거나 두 번 보내지 않도록 발행과 같은 잠금 안에서 처리
+        synchronized (this) {
+            replay(subscriber, lastEventId);
+            subscribers.add(subscriber);
+        }
+        subscriber.start();
+    }
+
+    @TransactionalEventListener
+    public void onPostCreated(PostCreatedEvent event) {
+        publish(PostSummaryDto.fromResponse(event.post()));
+    }
+
+    /**
+     * 다른 레플리카에서 생성된 게시글을 찾아 보낸다 (구독자가 없으면 조회하지 않는다)
+     */
+    @Scheduled(fixedDelayString = "${app.live-feed.catch-up-interval-ms:2000}")
+    public void catchUp() {
+        LocalDateTime windowStart = LocalDateTime.now().minus(CATCH_UP_WINDOW);
+        LocalDateTime since;
+        synchronized (this) {
+            recentlyPublished.values().removeIf(createdAt -> createdAt.isBefore(windowStart));
+            // reset으로 대신한 구간은 다시 조회하지 않는다
+            since = resyncedUpTo != null && resyncedUpTo.isAfter(windowStart) ? resyncedUpTo : windowStart;
+        }
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        List<PostSummaryDto> posts = postRepository.findSummariesCreatedSince(since, Limit.of(CATCH_UP_LIMIT));
+        if (posts.size() >= CATCH_UP_LIMIT) {
+            submit(() -> resync(posts));
+        } else {
+            submit(() -> posts.forEach(this::deliver));
+        }
+    }
+
+    /**
+     * 유휴 연결이 프록시에서 끊기지 않도록 주석 줄을 보내고, 끊어진 클라이언트를 정리한다
+     */
+    @Scheduled(fixedDelayString = "${app.live-feed.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        for (SseSubscriber subscriber : subscribers) {
+            if (!subscriber.offer(HEARTBEAT)) {
+                evict(subscriber);
+            }
+        }
+    }
+
+    /**
+     * 종료 시작 시 모든 연결을 끊어 graceful shutdown이 기다리지 않게 한다 (클라이언트는 다른 파드로 다시 연결)
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void closeAll() {
+        for (SseSubscriber subscriber : subscribers) {
+            subscriber.close();
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        publisher.shutdownNow();
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    void publish(PostSummaryDto post) {
+        submit(() -> deliver(post));
+    }
+
+    private void submit(Runnable task) {
+        try {
+            publisher.execute(task);
+        } catch (RejectedExecutionException e) {
+            // 종료 중 - 구독자 연결은 이미 끊었다
+            log.debug("종료 중이라 실시간 피드 이벤트를 보내지 않음");
+        }
+    }
+
+    // 발행 스레드에서 호출
+    private synchronized void deliver(PostSummaryDto post) {
+        if (post.getId() == null || recentlyPublished.containsKey(post.getId())) {
+            return;
+        }
+        recentlyPublished.put(post.getId(), post.getCreatedAt() != null ? post.getCreatedAt() : LocalDateTime.now());
+
+        SseFrame frame = SseFrame.post(post.getId(), serialize(post));
+        ring[(ringStart + ringSize) % ring.length] = frame;
+        if (ringSize < ring.length) {
+            ringSize++;
+        } else {
+            ringStart = (ringStart + 1) % ring.length;
+        }
+
+        long started = System.nanoTime();
+        broadcast(frame);
+        fanOut.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        events.increment();
+    }
+
+    /**
+     * 밀린 게시글을 하나씩 보내지 않고 reset으로 목록을 다시 불러오게 한다 (발행 스레드에서 호출)
+     * 링 버퍼도 비워, 이 구간 이전의 Last-Event-ID로 재연결한 클라이언트도 reset을 받는다
+     */
+    private synchronized void resync(List<PostSummaryDto> posts) {
+        for (PostSummaryDto post : posts) {
+            if (post.getId() != null) {
+                recentlyPublished.putIfAbsent(post.getId(),
+                        post.getCreatedAt() != null ? post.getCreatedAt() : LocalDateTime.now());
+            }
+        }
+        resyncedUpTo = posts.get(posts.size() - 1).getCreatedAt();
+        Arrays.fill(ring, null);
+        ringStart = 0;
+        ringSize = 0;
+
+        log.info("실시간 피드 밀린 게시글 {}건 이상 - 모든 구독자에게 reset 전송", posts.size());
+        resyncs.increment();
+        broadcast(RESET);
+    }
+
+    // this 잠금 안에서 호출 - 대기 이벤트가 넘친 구독자는 연결을 끊는다
+    private void broadcast(SseFrame frame) {
+        List<SseSubscriber> slow = null;
+        for (SseSubscriber subscriber : subscribers) {
+            if (!subscriber.offer(frame)) {
+                if (slow == null) {
+                    slow = new ArrayList<>();
+                }
+                slow.add(subscriber);
+            }
+        }
+        if (slow != null) {
+            slow.forEach(this::evict);
+        }
+    }
+
+    // this 잠금 안에서 호출
+    private void replay(SseSubscriber subscriber, String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return;
+        }
+        long lastPostId;
+        try {
+            lastPostId = Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            subscriber.offer(RESET);
+            return;
+        }
+
+        for (int i = ringSize - 1; i >= 0; i--) {
+            if (ring[(ringStart + i) % ring.length].postId() == lastPostId) {
+                for (int j = i + 1; j < ringSize; j++) {
+                    subscriber.offer(ring[(ringStart + j) % ring.length]);
+                }
+                return;
+            }
+        }
+        subscriber.offer(RESET);
+    }
+
+    private void evict(SseSubscriber subscriber) {
+        evictions.increment();
+        log.debug("느린 실시간 피드 구독자 연결 종료 - 남은 구독자: {}", subscribers.size() - 1);
+        subscriber.close();
+    }
+
+    private byte[] serialize(PostSummaryDto post) {
+        try {
+            return writer.writeValueAsBytes(post);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
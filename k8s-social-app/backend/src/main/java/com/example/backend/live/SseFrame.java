@@ -0,0 +1,26 @@
+package com.example.backend.live;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 인코딩이 끝난 SSE 이벤트 - 모든 구독자가 같은 바이트 배열을 공유한다
+ * postId: 게시글 이벤트의 게시글 ID (Last-Event-ID), 그 외 이벤트는 NO_POST
+ */
+record SseFrame(long postId, byte[] bytes) {
+
+    static final long NO_POST = -1;
+
+    static SseFrame post(long postId, byte[] json) {
+        byte[] header = ("id: " + postId + "\nevent: post\ndata: ").getBytes(StandardCharsets.UTF_8);
+        byte[] bytes = new byte[header.length + json.length + 2];
+        System.arraycopy(header, 0, bytes, 0, header.length);
+        System.arraycopy(json, 0, bytes, header.length, json.length);
+        bytes[bytes.length - 2] = '\n';
+        bytes[bytes.length - 1] = '\n';
+        return new SseFrame(postId, bytes);
+    }
+
+    static SseFrame text(String text) {
+        return new SseFrame(NO_POST, text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.backend.live;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.function.Consumer;
+
+/**
+ * SSE 구독자 하나 - 논블로킹 서블릿 출력으로 이벤트를 보낸다
+ * - 발행 스레드는 큐에 프레임 참조를 넣고 블로킹 없이 쓸 수 있는 만큼만 쓴다 (느린 구독자가 다른 구독자를 막지 않는다)
+ * - 소켓에 쓸 수 있을 때(isReady) 큐를 비우고 flush, 나머지는 onWritePossible에서 이어서 쓴다
+ * - 큐가 가득 차면 offer가 false를 반환하고 LiveFeed가 연결을 끊는다 (클라이언트는 Last-Event-ID로 다시 연결)
+ */
+final class SseSubscriber implements WriteListener, AsyncListener {
+
+    private final AsyncContext asyncContext;
+    private final ServletOutputStream out;
+    private final int capacity;
+    private final Consumer<SseSubscriber> onClose;
+
+    // this로 보호
+    private final ArrayDeque<SseFrame> queue = new ArrayDeque<>();
+    private boolean started;
+    private boolean closed;
+    private boolean unflushed;
+
+    SseSubscriber(AsyncContext asyncContext, int capacity, Consumer<SseSubscriber> onClose) throws IOException {
+        this.asyncContext = asyncContext;
+        this.out = asyncContext.getResponse().getOutputStream();
+        this.capacity = capacity;
+        this.onClose = onClose;
+    }
+
+    /**
+     * 쓰기 리스너를 등록하면 컨테이너가 onWritePossible을 호출해 그때까지 쌓인 프레임부터 보낸다
+     */
+    void start() {
+        asyncContext.addListener(this);
+        out.setWriteListener(this);
+    }
+
+    /**
+     * 큐에 프레임을 넣고 바로 쓸 수 있으면 보낸다 - 큐가 가득 차면 false
+     */
+    synchronized boolean offer(SseFrame frame) {
+        if (closed) {
+            return true;
+        }
+        if (queue.size() >= capacity) {
+            return false;
+        }
+        queue.add(frame);
+        drain();
+        return true;
+    }
+
+    @Override
+    public synchronized void onWritePossible() {
+        started = true;
+        drain();
+    }
+
+    // isReady가 false를 반환하면 컨테이너가 쓸 수 있게 되었을 때 onWritePossible을 다시 호출한다
+    private void drain() {
+        if (!started || closed) {
+            return;
+        }
+        try {
+            while (out.isReady()) {
+                SseFrame frame = queue.poll();
+                if (frame != null) {
+                    out.write(frame.bytes());
+                    unflushed = true;
+                } else if (unflushed) {
+                    unflushed = false;
+                    out.flush();
+                } else {
+                    return;
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            close();
+        }
+    }
+
+    /**
+     * 연결을 끝낸다 (여러 번 호출해도 한 번만 처리)
+     */
+    void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            queue.clear();
+        }
+        onClose.accept(this);
+        try {
+            asyncContext.complete();
+        } catch (IllegalStateException e) {
+            // 컨테이너가 이미 비동기 처리를 끝낸 경우 (타임아웃, 연결 오류)
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        close();
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+        close();
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+        close();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+        close();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.backend.logging;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 구조화된 요청 로그 (로거 이름: access)
+ * - 오류 응답(4xx/5xx)과 쓰기 요청(GET/HEAD 외)은 항상 기록
+ * - 성공한 읽기 요청은 app.access-log.sample-rate 비율만 기록
+ * - 메시지 문자열을 만들지 않고 키-값으로 넘기므로 JSON 인코더가 필드로 바로 출력한다
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class AccessLogFilter implements Filter {
+
+    private static final Logger accessLog = LoggerFactory.getLogger("access");
+
+    private final boolean enabled;
+    private final double sampleRate;
+
+    public AccessLogFilter(@Value("${app.access-log.enabled:true}") boolean enabled,
+                           @Value("${app.access-log.sample-rate:1.0}") double sampleRate) {
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        if (!enabled || !accessLog.isInfoEnabled()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        long started = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            HttpServletRequest httpRequest = (HttpServletRequest) request;
+            int status = ((HttpServletResponse) response).getStatus();
+            if (shouldLog(httpRequest.getMethod(), status)) {
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                accessLog.atInfo()
+                        .addKeyValue("method", httpRequest.getMethod())
+                        .addKeyValue("uri", httpRequest.getRequestURI())
+                        .addKeyValue("pattern", pattern)
+                        .addKeyValue("status", status)
+                        .addKeyValue("durationMicros", (System.nanoTime() - started) / 1_000)
+                        .addKeyValue("sampled", status < 400 && isRead(httpRequest.getMethod()))
+                        .log("request");
+            }
+        }
+    }
+
+    private boolean shouldLog(String method, int status) {
+        if (status >= 400 || !isRead(method)) {
+            return true;
+        }
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private static boolean isRead(String method) {
+        return "GET".equals(method) || "HEAD".equals(method);
+    }
+}
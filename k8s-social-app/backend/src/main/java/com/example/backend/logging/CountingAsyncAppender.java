@@ -0,0 +1,31 @@
+package com.example.backend.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 버려진 로그 수를 세는 비동기 어펜더 (logback-spring.xml의 production 설정에서 사용)
+ * - 고정 크기 큐(링 버퍼)에 이벤트를 넣고 별도 스레드가 실제 어펜더로 출력하므로 요청 스레드가 콘솔 I/O를 기다리지 않는다
+ * - neverBlock=true면 큐가 가득 찼을 때 기다리지 않고 버리고, 큐 여유가 discardingThreshold보다 적으면 INFO 이하를 먼저 버린다
+ * - 버린 수는 logging.events.dropped 지표로 노출 (LoggingMetrics)
+ */
+public class CountingAsyncAppender extends AsyncAppender {
+
+    private final LongAdder dropped = new LongAdder();
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        // 부모 클래스가 버리는 조건을 그대로 따라 센다 (여러 스레드가 동시에 넣는 경우 근사값)
+        int remaining = getRemainingCapacity();
+        if (remaining == 0 || (remaining < getDiscardingThreshold() && isDiscardable(event))) {
+            dropped.increment();
+        }
+        super.append(event);
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+}
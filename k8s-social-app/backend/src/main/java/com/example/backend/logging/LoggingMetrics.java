@@ -0,0 +1,42 @@
+package com.example.backend.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+
+/**
+ * 비동기 로그 어펜더 지표
+ * - logging.events.dropped: 큐가 가득 차서 버린 로그 수
+ * - logging.queue.size: 출력을 기다리는 로그 수
+ */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            return;
+        }
+
+        Iterator<Appender<ch.qos.logback.classic.spi.ILoggingEvent>> appenders =
+                context.getLogger(Logger.ROOT_LOGGER_NAME).iteratorForAppenders();
+        while (appenders.hasNext()) {
+            if (appenders.next() instanceof CountingAsyncAppender appender) {
+                FunctionCounter.builder("logging.events.dropped", appender, CountingAsyncAppender::getDroppedCount)
+                        .tag("appender", appender.getName())
+                        .description("큐가 가득 차서 버린 로그 수").register(registry);
+                Gauge.builder("logging.queue.size", appender, CountingAsyncAppender::getNumberOfElementsInQueue)
+                        .tag("appender", appender.getName())
+                        .description("출력을 기다리는 로그 수").register(registry);
+            }
+        }
+    }
+}
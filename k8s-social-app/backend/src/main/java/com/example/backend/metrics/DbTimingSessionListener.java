@@ -0,0 +1,41 @@
+package com.example.backend.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate 세션의 JDBC 이벤트를 현재 스레드의 RequestDbStats에 기록
+ * - hibernate.session.events.auto로 등록되어 세션마다 생성되므로 필드 없이 유지한다
+ * - 배치 실행(executeBatch)은 한 번의 왕복으로 센다
+ */
+public class DbTimingSessionListener implements SessionEventListener {
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        RequestDbStats.current().connectionAcquisitionStarted();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        RequestDbStats.current().connectionAcquired();
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        RequestDbStats.current().executionStarted();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestDbStats.current().executionEnded();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        RequestDbStats.current().executionStarted();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestDbStats.current().executionEnded();
+    }
+}
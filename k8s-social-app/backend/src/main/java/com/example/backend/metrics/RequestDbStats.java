@@ -0,0 +1,65 @@
+package com.example.backend.metrics;
+
+/**
+ * 요청 하나가 DB에 쓴 시간을 모으는 스레드별 누적기
+ * - 커넥션 대기 시간(풀에서 커넥션을 얻기까지)과 쿼리 실행 시간, 실행한 문장 수를 구분해서 센다
+ * - 스레드마다 하나를 만들어 요청 시작 시 초기화하여 재사용하므로 요청당 할당이 없다
+ */
+public final class RequestDbStats {
+
+    private static final ThreadLocal<RequestDbStats> CURRENT = ThreadLocal.withInitial(RequestDbStats::new);
+
+    private long connectionWaitNanos;
+    private long queryNanos;
+    private int statements;
+
+    private long acquisitionStartedAt;
+    private long executionStartedAt;
+
+    private RequestDbStats() {
+    }
+
+    static RequestDbStats current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 현재 스레드의 누적값을 비우고 반환 (요청 시작 시 호출)
+     */
+    static RequestDbStats start() {
+        RequestDbStats stats = CURRENT.get();
+        stats.connectionWaitNanos = 0;
+        stats.queryNanos = 0;
+        stats.statements = 0;
+        return stats;
+    }
+
+    void connectionAcquisitionStarted() {
+        acquisitionStartedAt = System.nanoTime();
+    }
+
+    void connectionAcquired() {
+        connectionWaitNanos += System.nanoTime() - acquisitionStartedAt;
+    }
+
+    void executionStarted() {
+        executionStartedAt = System.nanoTime();
+    }
+
+    void executionEnded() {
+        queryNanos += System.nanoTime() - executionStartedAt;
+        statements++;
+    }
+
+    public long getConnectionWaitNanos() {
+        return connectionWaitNanos;
+    }
+
+    public long getQueryNanos() {
+        return queryNanos;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+}
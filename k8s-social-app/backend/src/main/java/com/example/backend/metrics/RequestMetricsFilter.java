@@ -0,0 +1,92 @@
+package com.example.backend.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 요청별 DB 시간 분해와 처리 중인 요청 수 측정
+ * - http.server.requests.db.wait: 커넥션을 얻기까지 기다린 시간
+ * - http.server.requests.db.query: 쿼리 실행 시간
+ * - http.server.requests.db.statements: 실행한 SQL 문장 수
+ * - http.server.requests.in.flight: 처리 중인 요청 수
+ * 엔드포인트 지연 시간 자체는 Spring Boot의 http.server.requests로 측정된다
+ * 미터는 URI 패턴마다 한 번만 만들어 두고 재사용하므로 요청당 할당이 없다
+ * (OncePerRequestFilter는 요청마다 속성 이름 문자열을 만들므로 사용하지 않는다 - REQUEST 디스패치에만 등록됨)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class RequestMetricsFilter implements Filter {
+
+    // 매핑되지 않은 요청(404 등)은 하나의 태그로 묶어 태그 수가 늘어나지 않게 한다
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    // 문장 수 버킷 (설정 파일의 slo 값은 숫자만 쓰면 시간으로 해석되므로 코드에서 지정)
+    private static final double[] STATEMENT_COUNT_BUCKETS = {1, 2, 3, 5, 10, 20, 50};
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<String, RequestMeters> metersByUri = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public RequestMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("http.server.requests.in.flight", inFlight, AtomicInteger::get)
+                .description("처리 중인 요청 수").register(meterRegistry);
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        inFlight.incrementAndGet();
+        RequestDbStats stats = RequestDbStats.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            inFlight.decrementAndGet();
+            metersFor(request).record(stats);
+        }
+    }
+
+    private RequestMeters metersFor(ServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern instanceof String value ? value : UNKNOWN_URI;
+
+        RequestMeters meters = metersByUri.get(uri);
+        return meters != null ? meters : metersByUri.computeIfAbsent(uri, this::createMeters);
+    }
+
+    private RequestMeters createMeters(String uri) {
+        return new RequestMeters(
+                Timer.builder("http.server.requests.db.wait").tag("uri", uri)
+                        .description("요청당 커넥션 대기 시간").register(meterRegistry),
+                Timer.builder("http.server.requests.db.query").tag("uri", uri)
+                        .description("요청당 쿼리 실행 시간").register(meterRegistry),
+                DistributionSummary.builder("http.server.requests.db.statements").tag("uri", uri)
+                        .serviceLevelObjectives(STATEMENT_COUNT_BUCKETS)
+                        .description("요청당 실행한 SQL 문장 수").register(meterRegistry));
+    }
+
+    private record RequestMeters(Timer connectionWait, Timer query, DistributionSummary statements) {
+
+        void record(RequestDbStats stats) {
+            connectionWait.record(stats.getConnectionWaitNanos(), TimeUnit.NANOSECONDS);
+            query.record(stats.getQueryNanos(), TimeUnit.NANOSECONDS);
+            statements.record(stats.getStatements());
+        }
+    }
+}
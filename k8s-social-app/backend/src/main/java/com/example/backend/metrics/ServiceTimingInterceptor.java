@@ -0,0 +1,66 @@
+package com.example.backend.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 메서드 실행 시간 측정 (service.method{class, method, outcome})
+ * - @Timed/TimedAspect는 호출마다 Timer를 다시 찾으며 태그 객체를 만들기 때문에
+ *   메서드별 Timer를 처음 호출될 때 만들어 두고 재사용한다
+ */
+public class ServiceTimingInterceptor implements MethodInterceptor {
+
+    private static final int SUCCESS = 0;
+    private static final int ERROR = 1;
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final ConcurrentHashMap<Method, Timer[]> timersByMethod = new ConcurrentHashMap<>();
+
+    public ServiceTimingInterceptor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Timer[] timers = timersFor(invocation.getMethod());
+        long started = System.nanoTime();
+        boolean success = false;
+        try {
+            Object result = invocation.proceed();
+            success = true;
+            return result;
+        } finally {
+            timers[success ? SUCCESS : ERROR].record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer[] timersFor(Method method) {
+        Timer[] timers = timersByMethod.get(method);
+        return timers != null ? timers : timersByMethod.computeIfAbsent(method, this::createTimers);
+    }
+
+    private Timer[] createTimers(Method method) {
+        MeterRegistry registry = meterRegistry.getObject();
+        String className = method.getDeclaringClass().getSimpleName();
+        return new Timer[]{
+                timer(registry, className, method.getName(), "success"),
+                timer(registry, className, method.getName(), "error")
+        };
+    }
+
+    private static Timer timer(MeterRegistry registry, String className, String methodName, String outcome) {
+        return Timer.builder("service.method")
+                .tag("class", className)
+                .tag("method", methodName)
+                .tag("outcome", outcome)
+                .description("서비스 메서드 실행 시간")
+                .register(registry);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 시간 구간(시간/일)별 활동 집계 - 게시글 수, 조회수 증가량, 작성자 수 추정용 HyperLogLog 레지스터
+ * 시간 구간 행은 보존 기간이 지나면 일 구간 행으로 합쳐진다 (ActivityRollups)
+ */
+@Entity
+@Table(name = "activity_rollups")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString(exclude = "authorSketch")
+public class ActivityRollup {
+
+    @EmbeddedId
+    private Key key;
+
+    @Column(name = "post_count", nullable = false)
+    private long postCount;
+
+    @Column(name = "view_count", nullable = false)
+    private long viewCount;
+
+    // 작성자 HyperLogLog 레지스터 (레지스터당 1바이트)
+    @Column(name = "author_sketch", nullable = false, length = 1024)
+    private byte[] authorSketch;
+
+    public void add(long posts, long views, byte[] mergedSketch) {
+        this.postCount += posts;
+        this.viewCount += views;
+        this.authorSketch = mergedSketch;
+    }
+
+    public enum Granularity {
+        HOUR(ChronoUnit.HOURS),
+        DAY(ChronoUnit.DAYS);
+
+        private final ChronoUnit unit;
+
+        Granularity(ChronoUnit unit) {
+            this.unit = unit;
+        }
+
+        public LocalDateTime truncate(LocalDateTime time) {
+            return time.truncatedTo(unit);
+        }
+
+        public LocalDateTime next(LocalDateTime bucketStart) {
+            return bucketStart.plus(1, unit);
+        }
+
+        public long bucketsBetween(LocalDateTime from, LocalDateTime to) {
+            return unit.between(from, to);
+        }
+    }
+
+    @Embeddable
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    @ToString
+    public static class Key implements Serializable {
+
+        @Enumerated(EnumType.STRING)
+        @Column(name = "granularity", nullable = false, length = 4)
+        private Granularity granularity;
+
+        @Column(name = "bucket_start", nullable = false)
+        private LocalDateTime bucketStart;
+    }
+}
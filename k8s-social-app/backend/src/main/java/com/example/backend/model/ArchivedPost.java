@@ -0,0 +1,52 @@
+package com.example.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관 테이블(posts_archive)로 옮긴 오래된 게시글 - 컬럼은 Post와 같고 옮긴 시각만 추가
+ * 행은 PostArchiver가 posts에서 INSERT ... SELECT로 옮기므로 ID를 새로 만들지 않는다
+ */
+@Entity
+@Table(name = "posts_archive", indexes = {
+        // 활성 테이블과 같은 키셋 페이지네이션용 인덱스 (H2는 인덱스 이름이 스키마 전체에서 유일해야 한다)
+        @Index(name = "idx_archive_author_created_at_id", columnList = "author, created_at, id"),
+        @Index(name = "idx_archive_created_at_id", columnList = "created_at, id")
+})
+@Getter
+@NoArgsConstructor
+@ToString(exclude = {"content"})
+@EqualsAndHashCode(of = "id")
+public class ArchivedPost {
+
+    public static final String TABLE = "posts_archive";
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String content;
+
+    @Column(nullable = false, length = 50)
+    private String author;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "content_preview", nullable = false, length = Post.PREVIEW_LENGTH + 3)
+    private String contentPreview;
+
+    @Column(name = "view_count", nullable = false)
+    private Long viewCount;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
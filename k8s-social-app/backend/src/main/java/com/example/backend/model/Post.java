@@ -11,8 +11,11 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "posts", indexes = {
-        @Index(name = "idx_author", columnList = "author"),
-        @Index(name = "idx_created_at", columnList = "created_at")
+        // 키셋 페이지네이션(created_at, id)을 인덱스 범위 조회로 처리하기 위한 복합 인덱스
+        @Index(name = "idx_author_created_at_id", columnList = "author, created_at, id"),
+        @Index(name = "idx_created_at_id", columnList = "created_at, id"),
+        // 인기 게시글 순위가 준비되기 전의 조회수 상위 조회 (ORDER BY view_count DESC LIMIT)를 인덱스 역순 조회로 처리
+        @Index(name = "idx_view_count", columnList = "view_count")
 })
 @Getter
 @Setter
@@ -23,8 +26,20 @@ import java.time.LocalDateTime;
 @EqualsAndHashCode(of = "id")
 public class Post {
 
+    // 목록용 내용 미리보기 길이
+    public static final int PREVIEW_LENGTH = 50;
+
+    // ID 생성 테이블에서 한 번에 ID_ALLOCATION_SIZE개씩 할당받는다
+    // (IDENTITY는 INSERT마다 생성된 키를 받아야 하므로 JDBC 배치가 불가능)
+    public static final String ID_GENERATOR_TABLE = "id_generators";
+    public static final String ID_GENERATOR_KEY = "posts";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "post_id_generator")
+    @TableGenerator(name = "post_id_generator", table = ID_GENERATOR_TABLE,
+            pkColumnName = "name", valueColumnName = "next_val", pkColumnValue = ID_GENERATOR_KEY,
+            allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @NotBlank(message = "제목은 필수 항목입니다.")
@@ -50,10 +65,28 @@ public class Post {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
+    // 목록 조회에서 TEXT 컬럼을 읽지 않도록 저장 시점에 미리 계산해 두는 미리보기
+    // 기존 테이블에 컬럼을 추가(ddl-auto: update)할 때 NOT NULL이면 MySQL이 기존 행을 ''로 채워 구분할 수 없으므로
+    // nullable로 추가하고, 기존 행을 채운 뒤 PostPreviewBackfill이 NOT NULL로 바꾼다
+    @Column(name = "content_preview", length = PREVIEW_LENGTH + 3)
+    private String contentPreview;
+
     @Builder.Default
     @Column(name = "view_count", nullable = false)
     private Long viewCount = 0L;
 
+    @PrePersist
+    @PreUpdate
+    void updateContentPreview() {
+        this.contentPreview = previewOf(content);
+    }
+
+    public static String previewOf(String content) {
+        return content.length() > PREVIEW_LENGTH
+                ? content.substring(0, PREVIEW_LENGTH) + "..."
+                : content;
+    }
+
     // 조회수 증가 메서드
     public void incrementViewCount() {
         this.viewCount++;
@@ -0,0 +1,48 @@
+package com.example.backend.ranking;
+
+/**
+ * 시간 감쇠 가중치를 누적하는 Count-Min Sketch
+ * - 모든 게시글의 감쇠 점수를 고정 크기 배열(depth x width)로 근사 (과대 추정만 발생)
+ * - 가중치 재조정(rescale) 시 모든 칸에 같은 비율을 곱해 상대 순서를 유지
+ */
+class DecayingCountMinSketch {
+
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L
+    };
+
+    private final int width;
+    private final double[][] table;
+
+    DecayingCountMinSketch(int width) {
+        this.width = width;
+        this.table = new double[SEEDS.length][width];
+    }
+
+    /**
+     * 가중치를 더하고 더한 뒤의 추정 점수를 반환
+     */
+    double add(long key, double weight) {
+        double estimate = Double.MAX_VALUE;
+        for (int row = 0; row < SEEDS.length; row++) {
+            int column = index(key, row);
+            table[row][column] += weight;
+            estimate = Math.min(estimate, table[row][column]);
+        }
+        return estimate;
+    }
+
+    void scale(double factor) {
+        for (double[] row : table) {
+            for (int column = 0; column < width; column++) {
+                row[column] *= factor;
+            }
+        }
+    }
+
+    private int index(long key, int row) {
+        long hash = (key + SEEDS[row]) * 0xBF58476D1CE4E5B9L;
+        hash ^= hash >>> 31;
+        return (int) Math.floorMod(hash, (long) width);
+    }
+}
@@ -0,0 +1,302 @@
+package com.example.backend.ranking;
+
+import com.example.backend.dto.PostResponseDto;
+import com.example.backend.dto.PostSummaryDto;
+import com.example.backend.event.PostsArchivedEvent;
+import com.example.backend.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 인기 게시글 순위를 메모리에서 관리
+ * - views: 누적 조회수 상위 후보를 제한된 개수만 유지 (시작 시/주기적으로 DB에서 재구성)
+ * - trending: 반감기 기반 시간 감쇠 점수 - Count-Min Sketch로 전체 게시글 점수를 근사하고 상위 후보 목록만 유지
+ * 조회가 기록될 때마다 갱신되며, 조회 API는 정렬된 스냅샷을 그대로 반환
+ */
+@Component
+@Slf4j
+public class PopularPostRanking {
+
+    public static final String MODE_VIEWS = "views";
+    public static final String MODE_TRENDING = "trending";
+
+    private static final int SKETCH_WIDTH = 4096;
+    // 감쇠 가중치 exp(지수)가 너무 커지기 전에 기준 시각을 옮겨 전체 점수를 재조정
+    private static final double RESCALE_EXPONENT = 40;
+
+    private final PostRepository postRepository;
+    private final int capacity;
+    private final double decayPerMillis;
+
+    private final Object viewsLock = new Object();
+    private final Map<Long, Candidate> viewLeaders = new ConcurrentHashMap<>();
+    private volatile long minLeaderViews;
+    private List<PostSummaryDto> viewsSnapshot = List.of();
+    private boolean viewsDirty;
+    private volatile boolean ready;
+
+    private final Object trendingLock = new Object();
+    private final DecayingCountMinSketch sketch = new DecayingCountMinSketch(SKETCH_WIDTH);
+    private final Map<Long, Candidate> trendingLeaders = new HashMap<>();
+    private double minTrendingScore;
+    private long landmarkMillis = System.currentTimeMillis();
+    private List<PostSummaryDto> trendingSnapshot = List.of();
+    private boolean trendingDirty;
+
+    public PopularPostRanking(PostRepository postRepository,
+                              @Value("${app.popular.capacity:100}") int capacity,
+                              @Value("${app.popular.trending-half-life-minutes:60}") long halfLifeMinutes) {
+        this.postRepository = postRepository;
+        this.capacity = capacity;
+        this.decayPerMillis = Math.log(2) / (halfLifeMinutes * 60_000.0);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * mode를 views | trending으로 정규화 (대소문자 무시) - 그 외의 값은 IllegalArgumentException
+     */
+    public static String normalizeMode(String mode) {
+        if (MODE_VIEWS.equalsIgnoreCase(mode)) {
+            return MODE_VIEWS;
+        }
+        if (MODE_TRENDING.equalsIgnoreCase(mode)) {
+            return MODE_TRENDING;
+        }
+        throw new IllegalArgumentException("지원하지 않는 인기 게시글 mode입니다: " + mode);
+    }
+
+    /**
+     * 조회 1건 반영 - post.viewCount는 조회 시점의 누적 조회수
+     */
+    public void recordView(PostResponseDto post) {
+        offerViews(post);
+        offerTrending(post);
+    }
+
+    /**
+     * 상위 게시글 k개 (trending 후보가 부족하면 누적 조회수 순위로 채운다)
+     */
+    public List<PostSummaryDto> top(String mode, int k) {
+        if (MODE_VIEWS.equals(normalizeMode(mode))) {
+            return head(viewsSnapshot(), k);
+        }
+
+        List<PostSummaryDto> trending = head(trendingSnapshot(), k);
+        if (trending.size() >= k) {
+            return trending;
+        }
+        List<PostSummaryDto> result = new ArrayList<>(trending);
+        Set<Long> included = new HashSet<>();
+        trending.forEach(post -> included.add(post.getId()));
+        for (PostSummaryDto post : viewsSnapshot()) {
+            if (result.size() == k) {
+                break;
+            }
+            if (included.add(post.getId())) {
+                result.add(post);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 누적 조회수 순위를 DB 기준으로 재구성 (다른 레플리카에서 반영된 조회수 포함)
+     */
+    @Scheduled(fixedDelayString = "${app.popular.rebuild-interval-ms:300000}")
+    public void rebuild() {
+        List<PostSummaryDto> leaders = postRepository.findTopSummariesByViewCount(Limit.of(capacity));
+
+        synchronized (viewsLock) {
+            Map<Long, Candidate> previous = new HashMap<>(viewLeaders);
+            viewLeaders.clear();
+            for (PostSummaryDto post : leaders) {
+                // 아직 DB에 반영되지 않은 조회수가 있으면 메모리 값 유지
+                Candidate known = previous.get(post.getId());
+                long views = known != null ? Math.max(known.views, post.getViewCount()) : post.getViewCount();
+                viewLeaders.put(post.getId(), new Candidate(post, views, 0));
+            }
+            minLeaderViews = viewLeaders.size() < capacity ? 0 : min(viewLeaders, c -> c.views).views;
+            viewsDirty = true;
+        }
+
+        if (!ready) {
+            ready = true;
+            log.info("인기 게시글 순위 구성 완료 - 후보 수: {}", leaders.size());
+        }
+    }
+
+    /**
+     * 보관 테이블로 옮겨진 게시글을 두 순위에서 제외 (빈자리는 이후 조회와 재구성에서 채워진다)
+     */
+    @TransactionalEventListener
+    public void onPostsArchived(PostsArchivedEvent event) {
+        remove(event.postIds());
+    }
+
+    private void remove(Collection<Long> postIds) {
+        synchronized (viewsLock) {
+            if (viewLeaders.keySet().removeAll(postIds)) {
+                minLeaderViews = viewLeaders.size() < capacity ? 0 : min(viewLeaders, c -> c.views).views;
+                viewsDirty = true;
+            }
+        }
+        synchronized (trendingLock) {
+            if (trendingLeaders.keySet().removeAll(postIds)) {
+                trendingDirty = true;
+            }
+        }
+    }
+
+    private void offerViews(PostResponseDto post) {
+        long views = post.getViewCount();
+        // 순위 밖 게시글 대부분은 락 없이 걸러낸다
+        if (views <= minLeaderViews && !viewLeaders.containsKey(post.getId())) {
+            return;
+        }
+
+        synchronized (viewsLock) {
+            Candidate leader = viewLeaders.get(post.getId());
+            if (leader != null) {
+                if (views > leader.views) {
+                    leader.views = views;
+                    viewsDirty = true;
+                }
+                return;
+            }
+
+            if (viewLeaders.size() >= capacity) {
+                Candidate lowest = min(viewLeaders, c -> c.views);
+                if (views <= lowest.views) {
+                    minLeaderViews = lowest.views;
+                    return;
+                }
+                viewLeaders.remove(lowest.post.getId());
+            }
+            viewLeaders.put(post.getId(), new Candidate(PostSummaryDto.fromResponse(post), views, 0));
+            if (viewLeaders.size() >= capacity) {
+                minLeaderViews = min(viewLeaders, c -> c.views).views;
+            }
+            viewsDirty = true;
+        }
+    }
+
+    private void offerTrending(PostResponseDto post) {
+        long now = System.currentTimeMillis();
+
+        synchronized (trendingLock) {
+            double exponent = decayPerMillis * (now - landmarkMillis);
+            if (exponent > RESCALE_EXPONENT) {
+                rescaleTrending(now);
+                exponent = 0;
+            }
+            // 전방 감쇠: 최근 조회일수록 큰 가중치를 더해 과거 점수를 매번 깎지 않는다
+            double score = sketch.add(post.getId(), Math.exp(exponent));
+
+            Candidate leader = trendingLeaders.get(post.getId());
+            if (leader != null) {
+                leader.score = score;
+                leader.views = post.getViewCount();
+                trendingDirty = true;
+                return;
+            }
+
+            if (trendingLeaders.size() >= capacity) {
+                if (score <= minTrendingScore) {
+                    return;
+                }
+                Candidate lowest = min(trendingLeaders, c -> c.score);
+                if (score <= lowest.score) {
+                    minTrendingScore = lowest.score;
+                    return;
+                }
+                trendingLeaders.remove(lowest.post.getId());
+            }
+            trendingLeaders.put(post.getId(),
+                    new Candidate(PostSummaryDto.fromResponse(post), post.getViewCount(), score));
+            if (trendingLeaders.size() >= capacity) {
+                minTrendingScore = min(trendingLeaders, c -> c.score).score;
+            }
+            trendingDirty = true;
+        }
+    }
+
+    private void rescaleTrending(long now) {
+        double factor = Math.exp(-decayPerMillis * (now - landmarkMillis));
+        sketch.scale(factor);
+        trendingLeaders.values().forEach(candidate -> candidate.score *= factor);
+        minTrendingScore *= factor;
+        landmarkMillis = now;
+    }
+
+    private List<PostSummaryDto> viewsSnapshot() {
+        synchronized (viewsLock) {
+            if (viewsDirty) {
+                viewsSnapshot = snapshot(viewLeaders, Comparator.comparingLong((Candidate c) -> c.views));
+                viewsDirty = false;
+            }
+            return viewsSnapshot;
+        }
+    }
+
+    private List<PostSummaryDto> trendingSnapshot() {
+        synchronized (trendingLock) {
+            if (trendingDirty) {
+                trendingSnapshot = snapshot(trendingLeaders, Comparator.comparingDouble((Candidate c) -> c.score));
+                trendingDirty = false;
+            }
+            return trendingSnapshot;
+        }
+    }
+
+    private static List<PostSummaryDto> snapshot(Map<Long, Candidate> leaders, Comparator<Candidate> order) {
+        return leaders.values().stream()
+                .sorted(order.thenComparingLong(c -> c.post.getId()).reversed())
+                .map(candidate -> candidate.post.withViewCount(candidate.views))
+                .toList();
+    }
+
+    private static Candidate min(Map<Long, Candidate> leaders, ToDoubleFunction<Candidate> key) {
+        Candidate lowest = null;
+        for (Candidate candidate : leaders.values()) {
+            if (lowest == null || key.applyAsDouble(candidate) < key.applyAsDouble(lowest)) {
+                lowest = candidate;
+            }
+        }
+        return lowest;
+    }
+
+    private static List<PostSummaryDto> head(List<PostSummaryDto> posts, int k) {
+        return posts.size() <= k ? posts : posts.subList(0, k);
+    }
+
+    private static final class Candidate {
+
+        private final PostSummaryDto post;
+        private long views;
+        private double score;
+
+        Candidate(PostSummaryDto post, long views, double score) {
+            this.post = post;
+            this.views = views;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.ActivityRollup;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ActivityRollupRepository extends JpaRepository<ActivityRollup, ActivityRollup.Key> {
+
+    // 구간 행 갱신용 조회 - 여러 레플리카가 같은 구간에 동시에 더해도 증가분을 잃지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM ActivityRollup r WHERE r.key = :key")
+    Optional<ActivityRollup> findForUpdate(@Param("key") ActivityRollup.Key key);
+
+    // 기간 조회 - 기본 키(granularity, bucket_start) 범위 조회이므로 읽는 행 수 = 구간 수
+    @Query("SELECT r FROM ActivityRollup r WHERE r.key.granularity = :granularity " +
+            "AND r.key.bucketStart >= :from AND r.key.bucketStart < :to ORDER BY r.key.bucketStart")
+    List<ActivityRollup> findRange(@Param("granularity") ActivityRollup.Granularity granularity,
+                                   @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // 일 구간으로 합칠 오래된 시간 구간 행 (합친 뒤 같은 트랜잭션에서 삭제하므로 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM ActivityRollup r WHERE r.key.granularity = :granularity " +
+            "AND r.key.bucketStart < :before ORDER BY r.key.bucketStart")
+    List<ActivityRollup> findForCompaction(@Param("granularity") ActivityRollup.Granularity granularity,
+                                           @Param("before") LocalDateTime before, Limit limit);
+
+    // 일 구간으로 합친 시간 구간 행 삭제 (findForCompaction으로 잠근 첫 행부터 마지막 행까지)
+    @Modifying
+    @Query("DELETE FROM ActivityRollup r WHERE r.key.granularity = :granularity " +
+            "AND r.key.bucketStart >= :first AND r.key.bucketStart <= :last")
+    int deleteRange(@Param("granularity") ActivityRollup.Granularity granularity,
+                    @Param("first") LocalDateTime first, @Param("last") LocalDateTime last);
+}
@@ -0,0 +1,66 @@
+package com.example.backend.repository;
+
+import com.example.backend.dto.AuthorStatsDto;
+import com.example.backend.dto.PostSummaryDto;
+import com.example.backend.model.ArchivedPost;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 보관 테이블(posts_archive) 조회 - PostRepository의 피드/작성자 피드와 같은 키셋 쿼리
+ */
+public interface ArchivedPostRepository extends JpaRepository<ArchivedPost, Long> {
+
+    String SUMMARY_SELECT = PostRepository.SUMMARY_COLUMNS + "FROM ArchivedPost p ";
+
+    // 최신순 피드 첫 페이지 (idx_archive_created_at_id)
+    @Query(SUMMARY_SELECT + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryDto> findFeed(Limit limit);
+
+    // 최신순 피드 다음 페이지 - 커서(createdAt, id) 이후
+    @Query(SUMMARY_SELECT + "WHERE " +
+            "p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryDto> findFeedAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
+    // 작성자별 피드 첫 페이지 (idx_archive_author_created_at_id)
+    @Query(SUMMARY_SELECT + "WHERE p.author = :author ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryDto> findAuthorFeed(@Param("author") String author, Limit limit);
+
+    // 작성자별 피드 다음 페이지
+    @Query(SUMMARY_SELECT + "WHERE p.author = :author AND " +
+            "(p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryDto> findAuthorFeedAfter(@Param("author") String author,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Long id, Limit limit);
+
+    long countByAuthor(String author);
+
+    // posts의 게시글을 그대로 복사 (같은 트랜잭션에서 posts 행을 삭제한다)
+    @Modifying
+    @Query(value = "INSERT INTO " + ArchivedPost.TABLE + " (id, title, content, author, created_at, updated_at, " +
+            "content_preview, view_count, archived_at) " +
+            "SELECT id, title, content, author, created_at, updated_at, content_preview, view_count, :archivedAt " +
+            "FROM posts WHERE id IN :ids", nativeQuery = true)
+    int copyFromPosts(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    // 보관된 게시글의 조회수 반영 (posts에서 찾지 못한 ID만)
+    @Modifying
+    @Query("UPDATE ArchivedPost p SET p.viewCount = p.viewCount + :delta WHERE p.id IN :ids")
+    int incrementViewCounts(@Param("ids") Collection<Long> ids, @Param("delta") long delta);
+
+    @Query(PostRepository.AUTHOR_STATS_COLUMNS + "FROM ArchivedPost p WHERE p.author = :author GROUP BY p.author")
+    Optional<AuthorStatsDto> findAuthorStats(@Param("author") String author);
+
+    @Query(PostRepository.AUTHOR_STATS_COLUMNS + "FROM ArchivedPost p GROUP BY p.author")
+    List<AuthorStatsDto> findAllAuthorStats();
+}
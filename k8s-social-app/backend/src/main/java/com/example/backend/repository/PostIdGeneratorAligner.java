@@ -0,0 +1,74 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.ArchivedPost;
+import com.example.backend.model.Post;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 ID 생성 테이블(id_generators)의 값을 기존 게시글 ID보다 크게 맞춘다
+ * - AUTO_INCREMENT 시절에 저장된 게시글이나 init.sql 샘플 데이터, 보관된 게시글과 ID가 겹치지 않도록 시작 시 한 번 실행
+ * - 값을 올리기만 하므로 여러 레플리카가 동시에 실행해도 안전
+ * - app.post-id.align-on-startup=false이면 건너뛴다 (DB 없이 실행하는 AppCDS 학습 실행용)
+ */
+@Component
+@Slf4j
+public class PostIdGeneratorAligner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean alignOnStartup;
+
+    // 스키마 생성(ddl-auto)이 끝난 뒤 실행되도록 EntityManagerFactory에 의존
+    public PostIdGeneratorAligner(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory,
+                                  @Value("${app.post-id.align-on-startup:true}") boolean alignOnStartup) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.alignOnStartup = alignOnStartup;
+    }
+
+    @PostConstruct
+    public void align() {
+        if (!alignOnStartup) {
+            log.info("게시글 ID 생성 값 조정 건너뜀 (app.post-id.align-on-startup=false)");
+            return;
+        }
+
+        // 보관 테이블로 옮긴 게시글 ID도 다시 쓰지 않는다
+        Long maxId = jdbcTemplate.queryForObject("SELECT GREATEST(" +
+                "(SELECT COALESCE(MAX(id), 0) FROM posts), " +
+                "(SELECT COALESCE(MAX(id), 0) FROM " + ArchivedPost.TABLE + "))", Long.class);
+        // 할당 단위만큼 여유를 두어 풀링 옵티마이저가 어느 쪽 경계를 쓰더라도 기존 ID를 넘도록 한다
+        long minNextValue = maxId + Post.ID_ALLOCATION_SIZE + 1;
+
+        if (raiseTo(minNextValue) > 0) {
+            log.info("게시글 ID 생성 값 조정 - 최대 ID: {}, 다음 값: {}", maxId, minNextValue);
+            return;
+        }
+
+        Integer rows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + Post.ID_GENERATOR_TABLE + " WHERE name = ?", Integer.class,
+                Post.ID_GENERATOR_KEY);
+        if (rows != null && rows > 0) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.update("INSERT INTO " + Post.ID_GENERATOR_TABLE + " (name, next_val) VALUES (?, ?)",
+                    Post.ID_GENERATOR_KEY, minNextValue);
+            log.info("게시글 ID 생성 값 초기화 - 최대 ID: {}, 다음 값: {}", maxId, minNextValue);
+        } catch (DuplicateKeyException e) {
+            // 다른 레플리카가 먼저 만든 경우
+            raiseTo(minNextValue);
+        }
+    }
+
+    private int raiseTo(long minNextValue) {
+        return jdbcTemplate.update("UPDATE " + Post.ID_GENERATOR_TABLE
+                        + " SET next_val = ? WHERE name = ? AND next_val < ?",
+                minNextValue, Post.ID_GENERATOR_KEY, minNextValue);
+    }
+}
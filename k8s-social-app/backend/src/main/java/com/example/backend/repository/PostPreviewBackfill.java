@@ -0,0 +1,84 @@
+package com.example.backend.repository;
+
+import com.example.backend.model.ArchivedPost;
+import com.example.backend.model.Post;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * content_preview 컬럼 추가 전에 저장된 게시글의 미리보기를 채우고 컬럼을 NOT NULL로 바꾼다
+ * - 목록 쿼리가 TEXT 타입 content를 읽지 않고 content_preview만 읽을 수 있도록 시작 시 한 번 실행
+ * - 엔티티가 컬럼을 nullable로 선언하므로 ddl-auto: update로 추가된 컬럼은 기존 행이 NULL이다 (Post.contentPreview)
+ * - BACKFILL_CHUNK_SIZE건씩 나눠 갱신해 잠금을 짧게 유지하며, 컬럼이 이미 NOT NULL이면 메타데이터 조회만 한다
+ * - 같은 값을 쓰므로 여러 레플리카가 동시에 실행해도 안전 (NOT NULL 변경이 겹쳐도 결과는 같다)
+ * - app.post-preview.backfill-on-startup=false이면 건너뛴다 (DB 없이 실행하는 AppCDS 학습 실행용)
+ */
+@Component
+@Slf4j
+public class PostPreviewBackfill {
+
+    private static final int BACKFILL_CHUNK_SIZE = 1000;
+    private static final String COLUMN = "content_preview";
+
+    // Post.previewOf와 같은 규칙
+    private static final String PREVIEW_EXPRESSION = "CASE WHEN CHAR_LENGTH(content) > " + Post.PREVIEW_LENGTH +
+            " THEN CONCAT(SUBSTRING(content, 1, " + Post.PREVIEW_LENGTH + "), '...') ELSE content END";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean backfillOnStartup;
+
+    // 스키마 생성(ddl-auto)이 끝난 뒤 실행되도록 EntityManagerFactory에 의존
+    public PostPreviewBackfill(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory,
+                               @Value("${app.post-preview.backfill-on-startup:true}") boolean backfillOnStartup) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.backfillOnStartup = backfillOnStartup;
+    }
+
+    @PostConstruct
+    public void backfill() {
+        if (!backfillOnStartup) {
+            log.info("게시글 미리보기 채우기 건너뜀 (app.post-preview.backfill-on-startup=false)");
+            return;
+        }
+
+        // 이미 NOT NULL이면 채울 행이 없으므로 테이블을 읽지 않는다
+        for (String table : List.of("posts", ArchivedPost.TABLE)) {
+            if (!isNullable(table)) {
+                continue;
+            }
+            long filled = fill(table);
+            jdbcTemplate.execute("ALTER TABLE " + table + " MODIFY " + COLUMN +
+                    " VARCHAR(" + (Post.PREVIEW_LENGTH + 3) + ") NOT NULL");
+            log.info("게시글 미리보기 채우기 완료, 컬럼을 NOT NULL로 변경 - 테이블: {}, 채운 게시글 수: {}", table, filled);
+        }
+    }
+
+    private long fill(String table) {
+        long filled = 0;
+        int updated;
+        do {
+            updated = jdbcTemplate.update("UPDATE " + table + " SET " + COLUMN + " = " + PREVIEW_EXPRESSION +
+                    " WHERE " + COLUMN + " IS NULL LIMIT " + BACKFILL_CHUNK_SIZE);
+            filled += updated;
+        } while (updated == BACKFILL_CHUNK_SIZE);
+        return filled;
+    }
+
+    private boolean isNullable(String table) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null, table, COLUMN)) {
+                return columns.next() && columns.getInt("NULLABLE") == DatabaseMetaData.columnNullable;
+            }
+        }));
+    }
+}
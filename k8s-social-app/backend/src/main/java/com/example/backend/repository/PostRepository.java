@@ -1,5 +1,9 @@
 package com.example.backend.repository;
+import com.example.backend.dto.AuthorStatsDto;
+import com.example.backend.dto.FeedStatsDto;
+import com.example.backend.dto.PostSummaryDto;
 import com.example.backend.model.Post;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,16 +12,56 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
     // 페이징을 지원하는 전체 게시글 조회 (최신순)
     Page<Post> findAllByOrderByCreatedAtDesc(Pageable pageable);
 
+    // 목록 조회용 요약 프로젝션 - TEXT 타입 content 대신 미리 계산된 content_preview만 읽는다
+    // (컬럼 추가 전 게시글은 시작 시 PostPreviewBackfill이 채운다, 보관 테이블 조회도 같은 프로젝션)
+    String SUMMARY_COLUMNS = "SELECT new com.example.backend.dto.PostSummaryDto(" +
+            "p.id, p.title, p.author, p.createdAt, p.viewCount, p.contentPreview) ";
+    String SUMMARY_SELECT = SUMMARY_COLUMNS + "FROM Post p ";
+
+    // 최신순 게시글 요약 조회 (페이징 지원)
+    @Query(value = SUMMARY_SELECT + "ORDER BY p.createdAt DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p")
+    Page<PostSummaryDto> findSummaries(Pageable pageable);
+
+    // 최신순 피드 첫 페이지 (키셋 페이지네이션, COUNT 쿼리 없음)
+    @Query(SUMMARY_SELECT + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryDto> findFeed(Limit limit);
+
+    // 최신순 피드 다음 페이지 - 커서(createdAt, id) 이후부터 idx_created_at_id 인덱스 범위 조회
+    @Query(SUMMARY_SELECT + "WHERE " +
+            "p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryDto> findFeedAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Limit limit);
+
     // 작성자별 게시글 조회 (페이징 지원)
     Page<Post> findByAuthorOrderByCreatedAtDesc(String author, Pageable pageable);
 
+    // 작성자별 게시글 요약 조회 (페이징 지원)
+    @Query(value = SUMMARY_SELECT + "WHERE p.author = :author ORDER BY p.createdAt DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.author = :author")
+    Page<PostSummaryDto> findSummariesByAuthor(@Param("author") String author, Pageable pageable);
+
+    // 작성자별 피드 첫 페이지 (키셋 페이지네이션)
+    @Query(SUMMARY_SELECT + "WHERE p.author = :author ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryDto> findAuthorFeed(@Param("author") String author, Limit limit);
+
+    // 작성자별 피드 다음 페이지 - idx_author_created_at_id 인덱스 범위 조회
+    @Query(SUMMARY_SELECT + "WHERE p.author = :author AND " +
+            "(p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryDto> findAuthorFeedAfter(@Param("author") String author,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Long id, Limit limit);
+
     // 제목으로 검색 (대소문자 구분 없음, 페이징 지원)
     Page<Post> findByTitleContainingIgnoreCaseOrderByCreatedAtDesc(String title, Pageable pageable);
 
@@ -28,17 +72,70 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             "ORDER BY p.createdAt DESC")
     Page<Post> findByKeyword(@Param("keyword") String keyword, Pageable pageable);
 
-    // 특정 기간 내 게시글 조회
-    List<Post> findByCreatedAtBetweenOrderByCreatedAtDesc(LocalDateTime startDate, LocalDateTime endDate);
+    // 제목 또는 내용으로 검색 (요약 프로젝션)
+    @Query(value = SUMMARY_SELECT + "WHERE " +
+            "LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(p.content) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+            "ORDER BY p.createdAt DESC",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE " +
+                    "LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+                    "LOWER(p.content) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+    Page<PostSummaryDto> findSummariesByKeyword(@Param("keyword") String keyword, Pageable pageable);
+
+    // ID 목록으로 게시글 요약 조회 (검색 결과 등)
+    @Query(SUMMARY_SELECT + "WHERE p.id IN :ids")
+    List<PostSummaryDto> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 최근 생성된 게시글, 오래된 순 (실시간 피드가 다른 레플리카에서 생성된 게시글을 찾는 용도)
+    @Query(SUMMARY_SELECT + "WHERE p.createdAt >= :since ORDER BY p.createdAt ASC, p.id ASC")
+    List<PostSummaryDto> findSummariesCreatedSince(@Param("since") LocalDateTime since, Limit limit);
+
+    // ID 순 전체 게시글 순회 (검색 색인 구축/갱신용)
+    List<Post> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
 
     // 조회수 상위 게시글 조회
     List<Post> findTop10ByOrderByViewCountDesc();
 
+    // 조회수 상위 게시글 요약 조회
+    @Query(SUMMARY_SELECT + "ORDER BY p.viewCount DESC")
+    List<PostSummaryDto> findTopSummariesByViewCount(Limit limit);
+
     // 조회수 증가 쿼리
     @Modifying
     @Query("UPDATE Post p SET p.viewCount = p.viewCount + 1 WHERE p.id = :id")
     void incrementViewCount(@Param("id") Long id);
 
+    // 조회수 일괄 증가 쿼리 (같은 증가량을 가진 게시글을 묶어서 반영)
+    @Modifying
+    @Query("UPDATE Post p SET p.viewCount = p.viewCount + :delta WHERE p.id IN :ids")
+    int incrementViewCounts(@Param("ids") Collection<Long> ids, @Param("delta") long delta);
+
     // 작성자별 게시글 수 조회
     long countByAuthor(String author);
+
+    String AUTHOR_STATS_COLUMNS = "SELECT new com.example.backend.dto.AuthorStatsDto(" +
+            "p.author, COUNT(p), SUM(p.viewCount), MIN(p.createdAt), MAX(p.createdAt)) ";
+    String AUTHOR_STATS_SELECT = AUTHOR_STATS_COLUMNS + "FROM Post p ";
+
+    // 작성자 한 명의 통계 집계 (메모리 통계가 준비되기 전에만 사용)
+    @Query(AUTHOR_STATS_SELECT + "WHERE p.author = :author GROUP BY p.author")
+    Optional<AuthorStatsDto> findAuthorStats(@Param("author") String author);
+
+    // 전체 작성자 통계 집계 (주기적인 재집계용)
+    @Query(AUTHOR_STATS_SELECT + "GROUP BY p.author")
+    List<AuthorStatsDto> findAllAuthorStats();
+
+    // 보관 대상(created_at < before) 게시글 ID를 오래된 순으로 잠근다 - 옮기는 동안 조회수 반영 UPDATE가 끼어들지 않도록
+    @Query(value = "SELECT id FROM posts WHERE created_at < :before ORDER BY created_at, id LIMIT :limit FOR UPDATE",
+            nativeQuery = true)
+    List<Long> lockIdsCreatedBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    // 보관 테이블로 옮긴 게시글 삭제
+    @Modifying
+    @Query("DELETE FROM Post p WHERE p.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 목록 버전 계산용 전체 집계 (게시글 수, 총 조회수, 마지막 변경 시각)
+    @Query("SELECT new com.example.backend.dto.FeedStatsDto(COUNT(p), SUM(p.viewCount), MAX(p.updatedAt)) FROM Post p")
+    FeedStatsDto findFeedStats();
 }
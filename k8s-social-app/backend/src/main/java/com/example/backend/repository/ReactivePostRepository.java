@@ -0,0 +1,176 @@
+package com.example.backend.repository;
+
+import com.example.backend.dto.FeedCursor;
+import com.example.backend.dto.PostExportDto;
+import com.example.backend.dto.PostResponseDto;
+import com.example.backend.dto.PostSummaryDto;
+import com.example.backend.model.ArchivedPost;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 읽기 전용 R2DBC 저장소 (reactive 프로필) - PostRepository의 목록/피드/상세 쿼리와 같은 SQL
+ * - 결과는 행 단위로 흘려보내며, 구독자의 요청량(backpressure)만큼만 드라이버에서 행을 읽는다
+ * - 쿼리가 실행되는 동안 스레드나 JDBC 커넥션을 점유하지 않는다 (커넥션은 R2DBC 풀에서 쿼리 동안만 사용)
+ */
+@Repository
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactivePostRepository {
+
+    // PostRepository.SUMMARY_SELECT와 같은 요약 프로젝션 (TEXT 타입 content는 읽지 않는다)
+    private static final String SUMMARY_COLUMNS = "SELECT id, title, author, created_at, view_count, content_preview ";
+    private static final String SUMMARY_SELECT = SUMMARY_COLUMNS + "FROM posts ";
+    private static final String ARCHIVED_SUMMARY_SELECT = SUMMARY_COLUMNS + "FROM " + ArchivedPost.TABLE + " ";
+
+    private static final String POST_COLUMNS = "SELECT id, title, content, author, created_at, updated_at, view_count ";
+    private static final String POST_SELECT = POST_COLUMNS + "FROM posts ";
+
+    private static final String AFTER_CURSOR = "(created_at < :createdAt OR (created_at = :createdAt AND id < :id)) ";
+
+    private final DatabaseClient databaseClient;
+
+    // 최신순 피드 첫 페이지 (idx_created_at_id)
+    public Flux<PostSummaryDto> findFeed(int limit) {
+        return databaseClient.sql(SUMMARY_SELECT + "ORDER BY created_at DESC, id DESC LIMIT :limit")
+                .bind("limit", limit)
+                .map(ReactivePostRepository::toSummary)
+                .all();
+    }
+
+    // 최신순 피드 다음 페이지 - 커서(createdAt, id) 이후
+    public Flux<PostSummaryDto> findFeedAfter(FeedCursor after, int limit) {
+        return databaseClient.sql(SUMMARY_SELECT + "WHERE " + AFTER_CURSOR +
+                        "ORDER BY created_at DESC, id DESC LIMIT :limit")
+                .bind("createdAt", after.createdAt())
+                .bind("id", after.id())
+                .bind("limit", limit)
+                .map(ReactivePostRepository::toSummary)
+                .all();
+    }
+
+    // 작성자별 피드 첫 페이지 (idx_author_created_at_id)
+    public Flux<PostSummaryDto> findAuthorFeed(String author, int limit) {
+        return databaseClient.sql(SUMMARY_SELECT + "WHERE author = :author " +
+                        "ORDER BY created_at DESC, id DESC LIMIT :limit")
+                .bind("author", author)
+                .bind("limit", limit)
+                .map(ReactivePostRepository::toSummary)
+                .all();
+    }
+
+    // 작성자별 피드 다음 페이지
+    public Flux<PostSummaryDto> findAuthorFeedAfter(String author, FeedCursor after, int limit) {
+        return databaseClient.sql(SUMMARY_SELECT + "WHERE author = :author AND " + AFTER_CURSOR +
+                        "ORDER BY created_at DESC, id DESC LIMIT :limit")
+                .bind("author", author)
+                .bind("createdAt", after.createdAt())
+                .bind("id", after.id())
+                .bind("limit", limit)
+                .map(ReactivePostRepository::toSummary)
+                .all();
+    }
+
+    // 보관 테이블 최신순 피드 - after가 null이면 첫 페이지부터 (활성 테이블 결과에 이어 붙이는 용도)
+    public Flux<PostSummaryDto> findArchivedFeed(FeedCursor after, int limit) {
+        return after == null
+                ? findSummaries(ARCHIVED_SUMMARY_SELECT, null, null, limit)
+                : findSummaries(ARCHIVED_SUMMARY_SELECT + "WHERE " + AFTER_CURSOR, null, after, limit);
+    }
+
+    // 보관 테이블 작성자별 피드
+    public Flux<PostSummaryDto> findArchivedAuthorFeed(String author, FeedCursor after, int limit) {
+        return after == null
+                ? findSummaries(ARCHIVED_SUMMARY_SELECT + "WHERE author = :author ", author, null, limit)
+                : findSummaries(ARCHIVED_SUMMARY_SELECT + "WHERE author = :author AND " + AFTER_CURSOR,
+                        author, after, limit);
+    }
+
+    // 조회수 상위 게시글 요약
+    public Flux<PostSummaryDto> findTopSummariesByViewCount(int limit) {
+        return databaseClient.sql(SUMMARY_SELECT + "ORDER BY view_count DESC LIMIT :limit")
+                .bind("limit", limit)
+                .map(ReactivePostRepository::toSummary)
+                .all();
+    }
+
+    public Mono<PostResponseDto> findById(Long id) {
+        return findPost(POST_SELECT, id);
+    }
+
+    public Mono<PostResponseDto> findArchivedById(Long id) {
+        return findPost(POST_COLUMNS + "FROM " + ArchivedPost.TABLE + " ", id);
+    }
+
+    private Mono<PostResponseDto> findPost(String select, Long id) {
+        return databaseClient.sql(select + "WHERE id = :id")
+                .bind("id", id)
+                .map(row -> new PostResponseDto(
+                        row.get("id", Long.class),
+                        row.get("title", String.class),
+                        row.get("content", String.class),
+                        row.get("author", String.class),
+                        row.get("created_at", LocalDateTime.class),
+                        row.get("updated_at", LocalDateTime.class),
+                        row.get("view_count", Long.class)))
+                .one();
+    }
+
+    // 기간별 내보내기 [from, to) - 커서가 있으면 그 이후부터, 한 행씩 흘려보낸다
+    // 활성 테이블을 다 읽은 뒤 같은 기간과 커서로 보관 테이블을 이어 읽는다 (보관 게시글이 항상 더 오래됐으므로 순서 유지)
+    public Flux<PostExportDto> streamByCreatedAtRange(LocalDateTime from, LocalDateTime to, FeedCursor after) {
+        return Flux.concat(
+                streamRange(POST_SELECT, from, to, after),
+                streamRange(POST_COLUMNS + "FROM " + ArchivedPost.TABLE + " ", from, to, after));
+    }
+
+    private Flux<PostExportDto> streamRange(String select, LocalDateTime from, LocalDateTime to, FeedCursor after) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(select +
+                        "WHERE created_at >= :from AND created_at < :to " +
+                        (after != null ? "AND " + AFTER_CURSOR : "") +
+                        "ORDER BY created_at DESC, id DESC")
+                .bind("from", from)
+                .bind("to", to);
+        if (after != null) {
+            spec = spec.bind("createdAt", after.createdAt()).bind("id", after.id());
+        }
+        return spec.map(row -> {
+                    LocalDateTime createdAt = row.get("created_at", LocalDateTime.class);
+                    Long id = row.get("id", Long.class);
+                    return new PostExportDto(id, row.get("title", String.class), row.get("content", String.class),
+                            row.get("author", String.class), createdAt, row.get("updated_at", LocalDateTime.class),
+                            row.get("view_count", Long.class), new FeedCursor(createdAt, id).encode());
+                })
+                .all();
+    }
+
+    private Flux<PostSummaryDto> findSummaries(String select, String author, FeedCursor after, int limit) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(select +
+                        "ORDER BY created_at DESC, id DESC LIMIT :limit")
+                .bind("limit", limit);
+        if (author != null) {
+            spec = spec.bind("author", author);
+        }
+        if (after != null) {
+            spec = spec.bind("createdAt", after.createdAt()).bind("id", after.id());
+        }
+        return spec.map(ReactivePostRepository::toSummary).all();
+    }
+
+    private static PostSummaryDto toSummary(Readable row) {
+        return new PostSummaryDto(
+                row.get("id", Long.class),
+                row.get("title", String.class),
+                row.get("author", String.class),
+                row.get("created_at", LocalDateTime.class),
+                row.get("view_count", Long.class),
+                row.get("content_preview", String.class));
+    }
+}
@@ -0,0 +1,313 @@
+package com.example.backend.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목/내용에 대한 바이그램 역색인
+ * - 포스팅 리스트는 문서 번호(int[])와 빈도(short[])의 원시 배열로 저장
+ * - 검색은 검색어의 모든 바이그램을 포함하는 문서(AND)를 BM25 점수순으로 반환
+ *   (LIKE '%검색어%'와 같은 결과 + 바이그램이 떨어져 있는 문서까지 포함하는 상위 집합)
+ * - 추정 메모리 사용량이 예산을 넘으면 더 이상 문서를 추가하지 않는다
+ * - 제거한 문서는 표시만 해 두고 검색에서 제외하며, compact()에서 포스팅 리스트와 메모리를 정리한다
+ *   (정리 전까지 BM25 통계(문서 수, 문서 빈도)에는 제거한 문서도 포함된다)
+ */
+public class InvertedIndex {
+
+    // 제목에 포함된 바이그램은 내용보다 가중치를 높게
+    private static final int TITLE_WEIGHT = 3;
+
+    private static final float BM25_K1 = 1.2f;
+    private static final float BM25_B = 0.75f;
+
+    // 메모리 예산 계산용 대략적인 크기 (HashMap 노드 + Integer 키 + PostingList 객체와 배열 헤더)
+    private static final long TERM_OVERHEAD_BYTES = 112;
+    // 문서 하나당 배열 항목 + postId 맵 노드
+    private static final long DOCUMENT_OVERHEAD_BYTES = 72;
+    // 포스팅 하나당 int + short, 배열 확장 여유분 포함
+    private static final long POSTING_BYTES = 9;
+
+    private final long maxMemoryBytes;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Integer, PostingList> postings = new HashMap<>();
+    private final Map<Long, Integer> documentsByPostId = new HashMap<>();
+    private long[] postIds = new long[1024];
+    private int[] documentLengths = new int[1024];
+    private int documentCount;
+    private final BitSet removed = new BitSet();
+    private int removedCount;
+    private long totalDocumentLength;
+    private long estimatedBytes;
+
+    public enum AddResult {
+        ADDED, DUPLICATE, OVER_BUDGET
+    }
+
+    public record SearchResult(int totalHits, List<Long> postIds) {
+    }
+
+    public InvertedIndex(long maxMemoryBytes) {
+        this.maxMemoryBytes = maxMemoryBytes;
+    }
+
+    public AddResult add(long postId, String title, String content) {
+        Map<Integer, int[]> termFrequencies = new HashMap<>();
+        int length = NGramTokenizer.forEachTerm(title,
+                term -> termFrequencies.computeIfAbsent(term, t -> new int[1])[0] += TITLE_WEIGHT);
+        length += NGramTokenizer.forEachTerm(content,
+                term -> termFrequencies.computeIfAbsent(term, t -> new int[1])[0]++);
+
+        lock.writeLock().lock();
+        try {
+            if (documentsByPostId.containsKey(postId)) {
+                return AddResult.DUPLICATE;
+            }
+
+            long additionalBytes = DOCUMENT_OVERHEAD_BYTES + termFrequencies.size() * POSTING_BYTES;
+            for (Integer term : termFrequencies.keySet()) {
+                if (!postings.containsKey(term)) {
+                    additionalBytes += TERM_OVERHEAD_BYTES;
+                }
+            }
+            if (estimatedBytes + additionalBytes > maxMemoryBytes) {
+                return AddResult.OVER_BUDGET;
+            }
+
+            int document = documentCount++;
+            if (document == postIds.length) {
+                postIds = Arrays.copyOf(postIds, document * 2);
+                documentLengths = Arrays.copyOf(documentLengths, document * 2);
+            }
+            postIds[document] = postId;
+            documentLengths[document] = length;
+            totalDocumentLength += length;
+            documentsByPostId.put(postId, document);
+
+            // 문서 번호가 증가하는 순서로 추가되므로 포스팅 리스트는 항상 정렬 상태
+            termFrequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, t -> new PostingList()).add(document, frequency[0]));
+            estimatedBytes += additionalBytes;
+            return AddResult.ADDED;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글을 검색 대상에서 제외 - 색인에 없으면 false
+     */
+    public boolean remove(long postId) {
+        lock.writeLock().lock();
+        try {
+            Integer document = documentsByPostId.remove(postId);
+            if (document == null) {
+                return false;
+            }
+            removed.set(document);
+            removedCount++;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 제거한 문서를 포스팅 리스트에서 빼고 문서 번호를 다시 매겨 메모리를 돌려받는다
+     * 문서 번호는 순서를 유지한 채 당겨지므로 포스팅 리스트의 정렬 상태가 유지된다
+     */
+    public void compact() {
+        lock.writeLock().lock();
+        try {
+            if (removedCount == 0) {
+                return;
+            }
+
+            int[] renumbered = new int[documentCount];
+            int live = 0;
+            long liveLength = 0;
+            for (int document = 0; document < documentCount; document++) {
+                if (removed.get(document)) {
+                    renumbered[document] = -1;
+                    continue;
+                }
+                renumbered[document] = live;
+                postIds[live] = postIds[document];
+                documentLengths[live] = documentLengths[document];
+                liveLength += documentLengths[document];
+                live++;
+            }
+            documentsByPostId.replaceAll((postId, document) -> renumbered[document]);
+
+            long bytes = live * DOCUMENT_OVERHEAD_BYTES;
+            Iterator<PostingList> lists = postings.values().iterator();
+            while (lists.hasNext()) {
+                PostingList list = lists.next();
+                list.retain(renumbered);
+                if (list.size == 0) {
+                    lists.remove();
+                } else {
+                    bytes += TERM_OVERHEAD_BYTES + list.size * POSTING_BYTES;
+                }
+            }
+
+            documentCount = live;
+            totalDocumentLength = liveLength;
+            removed.clear();
+            removedCount = 0;
+            estimatedBytes = bytes;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어를 바이그램으로 표현할 수 없으면(한 글자 단어만 있는 경우) null 반환
+     */
+    public SearchResult search(String query, int offset, int limit) {
+        int[] terms = NGramTokenizer.queryTerms(query);
+        if (terms == null) {
+            return null;
+        }
+
+        lock.readLock().lock();
+        try {
+            List<PostingList> lists = new ArrayList<>(terms.length);
+            for (int term : terms) {
+                PostingList list = postings.get(term);
+                if (list == null) {
+                    return new SearchResult(0, List.of());
+                }
+                lists.add(list);
+            }
+            // 가장 짧은 포스팅 리스트부터 교집합을 구해 비교 횟수를 줄인다
+            lists.sort(Comparator.comparingInt(list -> list.size));
+
+            PostingList shortest = lists.get(0);
+            int[] candidates = new int[shortest.size];
+            float[] scores = new float[shortest.size];
+            int candidateCount = 0;
+            for (int i = 0; i < shortest.size; i++) {
+                if (!removed.get(shortest.documents[i])) {
+                    candidates[candidateCount++] = shortest.documents[i];
+                }
+            }
+            float averageLength = (float) totalDocumentLength / documentCount;
+
+            for (PostingList list : lists) {
+                float idf = idf(list.size);
+                int kept = 0;
+                int position = 0;
+                for (int i = 0; i < candidateCount; i++) {
+                    int document = candidates[i];
+                    while (position < list.size && list.documents[position] < document) {
+                        position++;
+                    }
+                    if (position < list.size && list.documents[position] == document) {
+                        candidates[kept] = document;
+                        scores[kept] = scores[i] + bm25(idf, list.frequencies[position],
+                                documentLengths[document], averageLength);
+                        kept++;
+                    }
+                }
+                candidateCount = kept;
+            }
+
+            // (점수, 문서 번호)를 long 하나로 묶어 원시 배열 정렬 - 점수가 같으면 최근 문서 우선
+            long[] ranked = new long[candidateCount];
+            for (int i = 0; i < candidateCount; i++) {
+                ranked[i] = ((long) Float.floatToIntBits(scores[i]) << 32) | candidates[i];
+            }
+            Arrays.sort(ranked);
+
+            List<Long> page = new ArrayList<>(Math.max(0, Math.min(limit, candidateCount - offset)));
+            for (int i = candidateCount - 1 - offset; i >= 0 && page.size() < limit; i--) {
+                page.add(postIds[(int) ranked[i]]);
+            }
+            return new SearchResult(candidateCount, page);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 제거하지 않은 문서 수
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return documentCount - removedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 제거 표시만 하고 아직 정리하지 않은 문서 수
+    public int removedCount() {
+        lock.readLock().lock();
+        try {
+            return removedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long estimatedBytes() {
+        lock.readLock().lock();
+        try {
+            return estimatedBytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private float idf(int documentFrequency) {
+        return (float) Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private static float bm25(float idf, int frequency, int documentLength, float averageLength) {
+        float normalization = BM25_K1 * (1 - BM25_B + BM25_B * documentLength / averageLength);
+        return idf * frequency * (BM25_K1 + 1) / (frequency + normalization);
+    }
+
+    private static final class PostingList {
+
+        private int[] documents = new int[4];
+        private short[] frequencies = new short[4];
+        private int size;
+
+        void add(int document, int frequency) {
+            if (size == documents.length) {
+                int capacity = size + (size >> 1);
+                documents = Arrays.copyOf(documents, capacity);
+                frequencies = Arrays.copyOf(frequencies, capacity);
+            }
+            documents[size] = document;
+            frequencies[size] = (short) Math.min(frequency, Short.MAX_VALUE);
+            size++;
+        }
+
+        // 다시 매긴 번호가 -1(제거)인 문서를 빼고, 많이 줄었으면 배열도 줄인다
+        void retain(int[] renumbered) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int document = renumbered[documents[i]];
+                if (document >= 0) {
+                    documents[kept] = document;
+                    frequencies[kept] = frequencies[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            if (size < documents.length / 2) {
+                documents = Arrays.copyOf(documents, Math.max(4, size));
+                frequencies = Arrays.copyOf(frequencies, Math.max(4, size));
+            }
+        }
+    }
+}
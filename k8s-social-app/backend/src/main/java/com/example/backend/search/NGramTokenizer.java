@@ -0,0 +1,71 @@
+package com.example.backend.search;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * 문자 바이그램(2-gram) 토크나이저
+ * - 형태소 분석 없이 한글/영문/숫자를 모두 처리 (한글은 음절 단위 바이그램)
+ * - 글자/숫자가 아닌 문자를 구분자로 보고 소문자로 정규화
+ * - 바이그램은 두 문자를 int 하나에 담아 표현하여 객체 할당 없이 색인
+ */
+final class NGramTokenizer {
+
+    // 긴 검색어는 앞쪽 바이그램만 사용 (AND 조건이므로 결과가 줄지 않는다)
+    private static final int MAX_QUERY_TERMS = 16;
+
+    private NGramTokenizer() {
+    }
+
+    /**
+     * 텍스트의 모든 바이그램을 consumer에 전달하고 바이그램 개수를 반환
+     */
+    static int forEachTerm(String text, IntConsumer consumer) {
+        if (text == null) {
+            return 0;
+        }
+
+        int count = 0;
+        char previous = 0;
+        int tokenLength = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                tokenLength = 0;
+                continue;
+            }
+
+            c = Character.toLowerCase(c);
+            if (tokenLength > 0) {
+                consumer.accept(bigram(previous, c));
+                count++;
+            }
+            previous = c;
+            tokenLength++;
+        }
+        return count;
+    }
+
+    /**
+     * 검색어의 중복 없는 바이그램 목록
+     * 한 글자짜리 단어만 있는 검색어는 바이그램으로 표현할 수 없으므로 null 반환
+     */
+    static int[] queryTerms(String query) {
+        int[] terms = new int[MAX_QUERY_TERMS];
+        int[] size = {0};
+        forEachTerm(query, term -> {
+            if (size[0] == terms.length) {
+                return;
+            }
+            terms[size[0]++] = term;
+        });
+        if (size[0] == 0) {
+            return null;
+        }
+        return Arrays.stream(terms, 0, size[0]).distinct().toArray();
+    }
+
+    private static int bigram(char first, char second) {
+        return (first << 16) | second;
+    }
+}
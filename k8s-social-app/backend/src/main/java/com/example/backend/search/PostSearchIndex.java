@@ -0,0 +1,177 @@
+package com.example.backend.search;
+
+import com.example.backend.event.PostCreatedEvent;
+import com.example.backend.event.PostsArchivedEvent;
+import com.example.backend.model.Post;
+import com.example.backend.repository.PostRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 게시글 검색 색인 관리
+ * - 시작 후 첫 갱신에서 전체 게시글을 ID 순으로 읽어 색인을 구축
+ * - 이후 주기적으로 새 게시글을 따라잡아 다른 레플리카에서 생성된 게시글도 반영
+ * - 이 인스턴스에서 생성된 게시글은 커밋 직후 바로 색인
+ * - 구축 전이거나 메모리 예산을 넘으면 검색 결과를 제공하지 않는다 (DB 검색으로 대체)
+ * - 제거한 게시글은 주기적으로 정리(compact)하며, 예산을 넘었던 색인도 정리 후 다시 따라잡아 예산 안이면 다시 사용
+ */
+@Component
+@Slf4j
+public class PostSearchIndex {
+
+    private static final int CATCH_UP_CHUNK_SIZE = 500;
+
+    // 커밋 순서가 ID 순서와 다를 수 있으므로 최근 게시글 구간은 다음 갱신 때 다시 확인
+    private static final Duration COMMIT_GRACE = Duration.ofSeconds(30);
+
+    // 제거한 문서가 남은 문서의 1/4을 넘으면 정리
+    private static final int COMPACT_RATIO = 4;
+
+    private final PostRepository postRepository;
+    private final boolean enabled;
+    private final InvertedIndex index;
+
+    private volatile boolean ready;
+    private volatile boolean overBudget;
+    private long scanWatermark;
+
+    public PostSearchIndex(PostRepository postRepository,
+                           @Value("${app.search.enabled:true}") boolean enabled,
+                           @Value("${app.search.max-memory-bytes:67108864}") long maxMemoryBytes,
+                           MeterRegistry meterRegistry) {
+        this.postRepository = postRepository;
+        this.enabled = enabled;
+        this.index = new InvertedIndex(maxMemoryBytes);
+
+        Gauge.builder("search.index.documents", index, InvertedIndex::documentCount)
+                .description("검색 색인에 포함된 게시글 수").register(meterRegistry);
+        Gauge.builder("search.index.memory.bytes", index, InvertedIndex::estimatedBytes)
+                .description("검색 색인 추정 메모리 사용량").register(meterRegistry);
+    }
+
+    /**
+     * 검색어와 일치하는 게시글 ID를 관련도순으로 반환
+     * 색인으로 답할 수 없으면 빈 Optional (호출 측에서 DB 검색으로 대체)
+     * page * size가 int 범위를 넘으면 결과 범위 밖이므로 빈 페이지 (전체 건수는 그대로)
+     */
+    public Optional<InvertedIndex.SearchResult> search(String keyword, int page, int size) {
+        if (!enabled || !ready || overBudget) {
+            return Optional.empty();
+        }
+        int offset;
+        try {
+            offset = Math.multiplyExact(page, size);
+        } catch (ArithmeticException e) {
+            offset = Integer.MAX_VALUE;
+        }
+        return Optional.ofNullable(index.search(keyword, offset, size));
+    }
+
+    /**
+     * 게시글을 검색 대상에서 제외 (보관 테이블로 옮겨지는 등 활성 테이블에서 빠진 게시글)
+     */
+    public void remove(Collection<Long> postIds) {
+        if (enabled) {
+            postIds.forEach(index::remove);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.refresh-interval-ms:10000}")
+    public synchronized void refresh() {
+        if (!enabled) {
+            return;
+        }
+        if (!compactIfNeeded()) {
+            return;
+        }
+
+        long started = System.currentTimeMillis();
+        LocalDateTime graceLimit = LocalDateTime.now().minus(COMMIT_GRACE);
+        boolean withinGrace = false;
+        long lastId = scanWatermark;
+        int scanned = 0;
+
+        List<Post> posts;
+        do {
+            posts = postRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(CATCH_UP_CHUNK_SIZE));
+            for (Post post : posts) {
+                if (!add(post.getId(), post.getTitle(), post.getContent())) {
+                    return;
+                }
+                lastId = post.getId();
+                withinGrace |= !post.getCreatedAt().isBefore(graceLimit);
+                if (!withinGrace) {
+                    scanWatermark = lastId;
+                }
+            }
+            scanned += posts.size();
+        } while (posts.size() == CATCH_UP_CHUNK_SIZE);
+
+        if (overBudget) {
+            overBudget = false;
+            log.info("검색 색인이 메모리 예산 안으로 돌아와 다시 사용합니다 - 색인된 게시글 수: {}, 추정 메모리: {} bytes",
+                    index.documentCount(), index.estimatedBytes());
+        }
+        if (!ready) {
+            ready = true;
+            log.info("검색 색인 구축 완료 - 게시글 수: {}, 추정 메모리: {} bytes, 소요 시간: {}ms",
+                    index.documentCount(), index.estimatedBytes(), System.currentTimeMillis() - started);
+        } else if (scanned > 0) {
+            log.debug("검색 색인 갱신 - 확인한 게시글 수: {}", scanned);
+        }
+    }
+
+    /**
+     * 제거한 문서가 많이 쌓였으면 정리
+     * 예산을 넘은 상태에서는 정리할 문서가 있을 때만 다시 따라잡기를 시도한다 (없으면 false)
+     */
+    private boolean compactIfNeeded() {
+        int removed = index.removedCount();
+        if (overBudget) {
+            if (removed == 0) {
+                return false;
+            }
+            index.compact();
+            log.info("예산을 넘은 검색 색인 정리 - 정리한 게시글 수: {}, 추정 메모리: {} bytes",
+                    removed, index.estimatedBytes());
+        } else if (removed > 0 && removed >= index.documentCount() / COMPACT_RATIO) {
+            index.compact();
+            log.debug("검색 색인 정리 - 정리한 게시글 수: {}", removed);
+        }
+        return true;
+    }
+
+    @TransactionalEventListener
+    public void onPostCreated(PostCreatedEvent event) {
+        if (enabled && !overBudget) {
+            add(event.post().getId(), event.post().getTitle(), event.post().getContent());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPostsArchived(PostsArchivedEvent event) {
+        remove(event.postIds());
+    }
+
+    private boolean add(Long postId, String title, String content) {
+        if (index.add(postId, title, content) == InvertedIndex.AddResult.OVER_BUDGET) {
+            overBudget = true;
+            log.warn("검색 색인이 메모리 예산을 초과하여 DB 검색으로 전환합니다 - 색인된 게시글 수: {}, 추정 메모리: {} bytes",
+                    index.documentCount(), index.estimatedBytes());
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.backend.service;
+
+import com.example.backend.event.PostsArchivedEvent;
+import com.example.backend.repository.ArchivedPostRepository;
+import com.example.backend.repository.PostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 오래된 게시글을 보관 테이블(posts_archive)로 옮기는 백그라운드 작업 (app.archive.enabled=true)
+ * - 작성 후 max-age가 지난 게시글을 (created_at, id) 오래된 순으로 chunk-size건씩 옮긴다
+ *   (복사 + 삭제가 한 트랜잭션, 청크 사이에 chunk-pause만큼 쉬어 쓰기 부하와 복제 지연을 제한)
+ * - 오래된 순으로 옮기므로 보관 테이블의 모든 게시글은 활성 테이블의 모든 게시글보다 앞선다(오래됐다)
+ *   → 피드는 활성 테이블을 먼저 읽고 모자란 만큼 같은 커서로 보관 테이블에서 이어 읽는다 (PostService)
+ * - 대상 행을 잠그고 옮기므로 여러 레플리카가 동시에 실행해도 같은 게시글을 두 번 옮기지 않는다
+ * - 청크가 커밋되면 PostsArchivedEvent를 발행해 검색 색인과 인기 순위에서 옮긴 게시글을 뺀다
+ */
+@Component
+@Slf4j
+public class PostArchiver {
+
+    private final PostRepository postRepository;
+    private final ArchivedPostRepository archivedPostRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final Duration maxAge;
+    private final int chunkSize;
+    private final long chunkPauseMillis;
+    private volatile boolean running = true;
+
+    private final Counter movedRows;
+    private final Timer chunkTime;
+
+    public PostArchiver(PostRepository postRepository, ArchivedPostRepository archivedPostRepository,
+                        PlatformTransactionManager transactionManager, ApplicationEventPublisher eventPublisher,
+                        @Value("${app.archive.enabled:false}") boolean enabled,
+                        @Value("${app.archive.max-age:365d}") Duration maxAge,
+                        @Value("${app.archive.chunk-size:1000}") int chunkSize,
+                        @Value("${app.archive.chunk-pause:200ms}") Duration chunkPause,
+                        MeterRegistry meterRegistry) {
+        this.postRepository = postRepository;
+        this.archivedPostRepository = archivedPostRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.maxAge = maxAge;
+        this.chunkSize = chunkSize;
+        this.chunkPauseMillis = chunkPause.toMillis();
+
+        this.movedRows = Counter.builder("posts.archive.moved")
+                .description("보관 테이블로 옮긴 게시글 수").register(meterRegistry);
+        this.chunkTime = Timer.builder("posts.archive.chunk")
+                .description("게시글 한 청크를 보관 테이블로 옮기는 시간 (복사 + 삭제 + 커밋)").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.archive.interval-ms:600000}")
+    public void scheduledArchive() {
+        if (enabled) {
+            archive();
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+    }
+
+    /**
+     * max-age가 지난 게시글을 모두 옮길 때까지 청크 단위로 반복
+     * @return 옮긴 게시글 수
+     */
+    public long archive() {
+        return archiveOlderThan(LocalDateTime.now().minus(maxAge));
+    }
+
+    /**
+     * created_at이 before보다 이전인 게시글을 보관 테이블로 옮긴다 (종료 요청 시 현재 청크까지만)
+     */
+    public long archiveOlderThan(LocalDateTime before) {
+        long started = System.currentTimeMillis();
+        long moved = 0;
+        try {
+            int chunk;
+            do {
+                chunk = chunkTime.record(() -> transactionTemplate.execute(status -> moveChunk(before)));
+                moved += chunk;
+                movedRows.increment(chunk);
+                if (chunk == chunkSize && chunkPauseMillis > 0) {
+                    Thread.sleep(chunkPauseMillis);
+                }
+            } while (chunk == chunkSize && running);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("게시글 보관 중단 - 옮긴 게시글 수: {}", moved);
+        } catch (RuntimeException e) {
+            log.error("게시글 보관 중 오류 발생 - 옮긴 게시글 수: {}", moved, e);
+        }
+
+        if (moved > 0) {
+            log.info("게시글 보관 완료 - 기준 시각: {}, 옮긴 게시글 수: {}, 소요 시간: {}ms",
+                    before, moved, System.currentTimeMillis() - started);
+        }
+        return moved;
+    }
+
+    private int moveChunk(LocalDateTime before) {
+        List<Long> ids = postRepository.lockIdsCreatedBefore(before, chunkSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int copied = archivedPostRepository.copyFromPosts(ids, LocalDateTime.now());
+        int deleted = postRepository.deleteByIdIn(ids);
+        if (copied != ids.size() || deleted != ids.size()) {
+            // 잠근 행이 그대로 옮겨지지 않았으면 이 청크를 되돌린다
+            throw new IllegalStateException("게시글 보관 행 수 불일치 - 대상: " + ids.size()
+                    + ", 복사: " + copied + ", 삭제: " + deleted);
+        }
+        // 리스너는 이 청크가 커밋된 뒤에 실행된다 (롤백되면 실행되지 않음)
+        eventPublisher.publishEvent(new PostsArchivedEvent(ids));
+        return ids.size();
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.PostDto;
+import com.example.backend.dto.PostResponseDto;
+import com.example.backend.event.PostCreatedEvent;
+import com.example.backend.model.Post;
+import com.example.backend.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 검증을 마친 게시글 묶음을 한 트랜잭션에서 JDBC 배치 INSERT로 저장
+ * - ID는 테이블 생성기에서 미리 할당받으므로 hibernate.jdbc.batch_size 단위로 묶여 전송된다
+ * - 묶음 저장이 실패하면 한 건씩 다시 저장하여 문제가 있는 항목만 실패로 처리
+ * - 저장된 게시글마다 PostCreatedEvent를 발행 (커밋 후 색인/통계에 반영)
+ */
+@Component
+@Slf4j
+public class PostBatchInserter {
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public PostBatchInserter(PostRepository postRepository, PlatformTransactionManager transactionManager,
+                             ApplicationEventPublisher eventPublisher) {
+        this.postRepository = postRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 요청 순서대로 항목별 저장 결과를 반환
+     */
+    public List<Outcome> insert(List<PostDto> requests) {
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+
+        try {
+            List<PostResponseDto> saved = transactionTemplate.execute(status -> persist(requests));
+            return saved.stream().map(Outcome::success).toList();
+        } catch (RuntimeException e) {
+            log.warn("게시글 일괄 저장 실패, 한 건씩 재시도 - 건수: {}", requests.size(), e);
+        }
+
+        List<Outcome> outcomes = new ArrayList<>(requests.size());
+        for (PostDto request : requests) {
+            try {
+                List<PostResponseDto> saved = transactionTemplate.execute(status -> persist(List.of(request)));
+                outcomes.add(Outcome.success(saved.get(0)));
+            } catch (RuntimeException e) {
+                log.error("게시글 저장 실패 - 작성자: {}, 제목: {}", request.getAuthor(), request.getTitle(), e);
+                outcomes.add(Outcome.failure("저장 중 오류가 발생했습니다."));
+            }
+        }
+        return outcomes;
+    }
+
+    private List<PostResponseDto> persist(List<PostDto> requests) {
+        // 실패 후 재시도할 때 이전 시도에서 ID가 할당된 엔티티를 재사용하지 않도록 매번 새로 만든다
+        List<Post> posts = requests.stream().map(PostBatchInserter::toEntity).toList();
+        postRepository.saveAll(posts);
+        postRepository.flush();
+
+        List<PostResponseDto> responses = posts.stream().map(PostResponseDto::fromEntity).toList();
+        responses.forEach(response -> eventPublisher.publishEvent(new PostCreatedEvent(response)));
+        return responses;
+    }
+
+    private static Post toEntity(PostDto request) {
+        return Post.builder()
+                .title(request.getTitle().trim())
+                .content(request.getContent().trim())
+                .author(request.getAuthor().trim())
+                .build();
+    }
+
+    public record Outcome(PostResponseDto post, String error) {
+
+        static Outcome success(PostResponseDto post) {
+            return new Outcome(post, null);
+        }
+
+        static Outcome failure(String error) {
+            return new Outcome(null, error);
+        }
+
+        public boolean isSuccess() {
+            return post != null;
+        }
+    }
+}
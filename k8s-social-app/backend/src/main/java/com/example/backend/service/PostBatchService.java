@@ -0,0 +1,135 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.PostBatchResponseDto;
+import com.example.backend.dto.PostBatchResponseDto.ItemResult;
+import com.example.backend.dto.PostDto;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 게시글 일괄 생성 서비스
+ * - 요청 본문(JSON 배열)을 한 항목씩 읽으며 검증하므로 전체 배열을 메모리에 올리지 않는다
+ * - 검증을 통과한 항목을 chunk-size개씩 모아 PostBatchInserter로 저장 (청크마다 별도 트랜잭션)
+ */
+@Service
+@Slf4j
+public class PostBatchService {
+
+    private final PostBatchInserter postBatchInserter;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public PostBatchService(PostBatchInserter postBatchInserter, ObjectMapper objectMapper, Validator validator,
+                            @Value("${app.post-batch.chunk-size:500}") int chunkSize,
+                            @Value("${app.post-batch.max-items:10000}") int maxItems) {
+        this.postBatchInserter = postBatchInserter;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * JSON 배열 형식의 게시글 목록을 읽어 저장
+     *
+     * @throws IllegalArgumentException 본문이 JSON 배열이 아닌 경우
+     */
+    public PostBatchResponseDto ingest(InputStream body) throws IOException {
+        List<ItemResult> results = new ArrayList<>();
+        List<PostDto> chunk = new ArrayList<>(chunkSize);
+        List<Integer> chunkIndexes = new ArrayList<>(chunkSize);
+        boolean truncated = false;
+        String error = null;
+        int index = 0;
+
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("게시글 배열이 필요합니다.");
+            }
+
+            try {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    if (index >= maxItems) {
+                        truncated = true;
+                        break;
+                    }
+
+                    // 항목 하나만 트리로 읽어, 타입이 맞지 않는 항목도 나머지 처리를 막지 않게 한다
+                    PostDto dto = toPostDto(parser.readValueAsTree());
+                    List<String> violations = dto == null ? List.of("게시글 형식이 올바르지 않습니다.") : validate(dto);
+                    if (violations.isEmpty()) {
+                        chunk.add(dto);
+                        chunkIndexes.add(index);
+                        if (chunk.size() >= chunkSize) {
+                            insertChunk(chunk, chunkIndexes, results);
+                        }
+                    } else {
+                        results.add(ItemResult.invalid(index, violations));
+                    }
+                    index++;
+                }
+            } catch (JsonProcessingException e) {
+                // 배열 구조가 깨진 경우 이후 항목을 읽을 수 없으므로 지금까지의 결과만 반환
+                log.warn("게시글 일괄 생성 본문 파싱 중단 - index: {}", index, e);
+                error = "JSON 형식 오류로 " + index + "번째 항목부터 처리하지 못했습니다.";
+            }
+        }
+
+        insertChunk(chunk, chunkIndexes, results);
+        results.sort(Comparator.comparingInt(ItemResult::getIndex));
+
+        int created = (int) results.stream()
+                .filter(result -> result.getStatus() == PostBatchResponseDto.Status.CREATED)
+                .count();
+        log.info("게시글 일괄 생성 완료 - 전체: {}, 성공: {}, 실패: {}", results.size(), created, results.size() - created);
+        return new PostBatchResponseDto(results.size(), created, results.size() - created, truncated, error, results);
+    }
+
+    private PostDto toPostDto(JsonNode node) {
+        try {
+            return objectMapper.treeToValue(node, PostDto.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private List<String> validate(PostDto dto) {
+        return validator.validate(dto).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .toList();
+    }
+
+    private void insertChunk(List<PostDto> chunk, List<Integer> chunkIndexes, List<ItemResult> results) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        List<PostBatchInserter.Outcome> outcomes = postBatchInserter.insert(chunk);
+        for (int i = 0; i < outcomes.size(); i++) {
+            PostBatchInserter.Outcome outcome = outcomes.get(i);
+            int index = chunkIndexes.get(i);
+            results.add(outcome.isSuccess()
+                    ? ItemResult.created(index, outcome.post().getId())
+                    : ItemResult.failed(index, outcome.error()));
+        }
+        chunk.clear();
+        chunkIndexes.clear();
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.FeedCursor;
+import com.example.backend.dto.PostExportDto;
+import com.example.backend.model.ArchivedPost;
+import com.example.backend.model.Post;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 기간별 게시글 내보내기 (NDJSON)
+ * - 결과를 List로 만들지 않고 DB 커서에서 한 행씩 읽어 바로 응답에 쓴다
+ * - 쓴 게시글은 영속성 컨텍스트에서 분리하므로 내보내는 건수와 무관하게 메모리 사용량이 일정하다
+ * - 각 줄의 cursor를 넘기면 그 게시글 다음부터 이어받을 수 있다 (createdAt, id 내림차순)
+ * - 활성 테이블 다음에 같은 기간과 커서로 보관 테이블(posts_archive)을 이어 읽는다
+ *   (보관 테이블의 게시글은 모두 활성 테이블 게시글보다 오래됐으므로(PostArchiver) 전체 순서가 유지된다)
+ * - 내보내기는 끝날 때까지 커넥션을 점유하므로 동시에 max-concurrent개까지만 실행한다
+ */
+@Service
+@Slf4j
+public class PostExportService {
+
+    // 이 건수마다 응답을 flush하여 클라이언트가 진행 상황(마지막 cursor)을 받도록 한다
+    private static final int FLUSH_INTERVAL = 100;
+
+    // MySQL 외 DB에서 한 번에 가져오는 행 수
+    private static final int FETCH_SIZE = 500;
+
+    // 기간별 내보내기 [from, to), 이어받기는 커서(createdAt, id) 이후부터
+    private static final String EXPORT_QUERY = "SELECT p FROM Post p WHERE p.createdAt >= :from AND p.createdAt < :to ";
+    private static final String ARCHIVE_EXPORT_QUERY =
+            "SELECT p FROM ArchivedPost p WHERE p.createdAt >= :from AND p.createdAt < :to ";
+    private static final String AFTER_CURSOR = "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) ";
+    private static final String EXPORT_ORDER = "ORDER BY p.createdAt DESC, p.id DESC";
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter lineWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final int fetchSize;
+    private final Semaphore exportSlots;
+
+    public PostExportService(EntityManager entityManager, EntityManagerFactory entityManagerFactory,
+                             ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+                             @Value("${app.export.max-concurrent:2}") int maxConcurrent) {
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        // 줄마다 flush하지 않고 FLUSH_INTERVAL 단위로 모아서 내보낸다
+        this.lineWriter = objectMapper.writerFor(PostExportDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        // MySQL 드라이버는 fetch size가 Integer.MIN_VALUE일 때만 결과를 한 행씩 흘려보내고, 그 외에는 전체 결과를 메모리에 올린다
+        // (연결 URL의 useCursorFetch는 모든 쿼리를 서버 커서로 읽게 하므로 쓰지 않고 내보내기 쿼리에만 적용)
+        boolean mysql = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof MySQLDialect;
+        this.fetchSize = mysql ? Integer.MIN_VALUE : FETCH_SIZE;
+        this.exportSlots = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * 내보내기 자리 확보 - 성공하면 내보내기가 끝난 뒤 반드시 releaseSlot을 호출해야 한다
+     *
+     * @return 동시 실행 수가 가득 찼으면 false
+     */
+    public boolean tryAcquireSlot() {
+        return exportSlots.tryAcquire();
+    }
+
+    public void releaseSlot() {
+        exportSlots.release();
+    }
+
+    /**
+     * 요청 검증 - 응답을 쓰기 시작하기 전에 호출하여 잘못된 요청을 400으로 돌려준다
+     *
+     * @throws IllegalArgumentException 기간이 올바르지 않거나 커서를 해석할 수 없는 경우
+     */
+    public FeedCursor validate(LocalDateTime from, LocalDateTime to, String cursor) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from은 to보다 이전이어야 합니다.");
+        }
+        return cursor == null || cursor.isBlank() ? null : FeedCursor.decode(cursor);
+    }
+
+    /**
+     * [from, to) 기간의 게시글을 최신순으로 한 줄에 하나씩 출력하고 출력한 건수를 반환
+     * 스트림은 열려 있는 트랜잭션 안에서만 읽을 수 있으므로 출력이 끝날 때까지 커넥션을 점유한다
+     */
+    public long export(LocalDateTime from, LocalDateTime to, FeedCursor after, OutputStream out) {
+        Long exported = transactionTemplate.execute(status -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+                // 응답 스트림은 서블릿 컨테이너가 닫는다
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                // 값 사이의 기본 구분자(공백) 대신 줄바꿈을 직접 쓴다
+                generator.setRootValueSeparator(null);
+                long count = writeLines(query(Post.class, EXPORT_QUERY, from, to, after),
+                        PostExportDto::fromEntity, generator);
+                // 한 커넥션에서 스트리밍 결과는 하나만 열 수 있으므로(MySQL) 활성 테이블 결과를 닫은 뒤 읽는다
+                count += writeLines(query(ArchivedPost.class, ARCHIVE_EXPORT_QUERY, from, to, after),
+                        PostExportDto::fromArchived, generator);
+                generator.flush();
+                return count;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        log.info("게시글 내보내기 완료 - from: {}, to: {}, 건수: {}", from, to, exported);
+        return exported;
+    }
+
+    // 결과 전체를 List로 만들지 않고 한 행씩 읽는다 (호출 측 트랜잭션 안에서 소비)
+    private <T> TypedQuery<T> query(Class<T> type, String select, LocalDateTime from, LocalDateTime to,
+                                    FeedCursor after) {
+        TypedQuery<T> query = entityManager.createQuery(
+                        select + (after == null ? "" : AFTER_CURSOR) + EXPORT_ORDER, type)
+                .setParameter("from", from)
+                .setParameter("to", to)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+        if (after != null) {
+            query.setParameter("createdAt", after.createdAt())
+                    .setParameter("id", after.id());
+        }
+        return query;
+    }
+
+    private <T> long writeLines(TypedQuery<T> query, Function<T, PostExportDto> toLine, JsonGenerator generator)
+            throws IOException {
+        long count = 0;
+        try (Stream<T> posts = query.getResultStream()) {
+            Iterator<T> iterator = posts.iterator();
+            while (iterator.hasNext()) {
+                T post = iterator.next();
+                lineWriter.writeValue(generator, toLine.apply(post));
+                generator.writeRaw('\n');
+                // 읽은 엔티티가 영속성 컨텍스트에 쌓이지 않도록 바로 분리
+                entityManager.detach(post);
+
+                if (++count % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+        }
+        return count;
+    }
+}
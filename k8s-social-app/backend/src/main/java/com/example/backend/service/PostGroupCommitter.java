@@ -0,0 +1,213 @@
+package com.example.backend.service;
+
+import com.example.backend.cache.PostCache;
+import com.example.backend.datasource.ReadYourWrites;
+import com.example.backend.dto.PostDto;
+import com.example.backend.dto.PostResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 게시글 생성 그룹 커밋 (app.group-commit.enabled=true)
+ * - 요청 스레드는 생성 요청을 고정 크기 큐에 넣고 결과를 기다린다
+ * - 쓰기 스레드 하나가 첫 요청 후 최대 max-latency까지 또는 max-batch건이 모일 때까지 모아 한 트랜잭션으로 저장
+ *   (커밋 한 번 = fsync 한 번을 여러 요청이 나눠 쓴다)
+ * - 묶음 저장이 실패하면 PostBatchInserter가 한 건씩 다시 저장하므로 문제가 있는 요청만 실패한다
+ * - 큐가 가득 차면 기다리지 않고 RejectedExecutionException (컨트롤러가 503 + Retry-After로 응답)
+ * - 커밋은 쓰기 스레드에서 하므로, 저장을 기다린 요청 스레드가 게시글 캐시 무효화와 읽기 고정(ReadYourWrites)을 직접 한다
+ */
+@Component
+@Slf4j
+public class PostGroupCommitter {
+
+    // 종료 요청을 확인하는 간격
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final PostBatchInserter postBatchInserter;
+    private final PostCache postCache;
+    private final ObjectProvider<ReadYourWrites> readYourWrites;
+    private final boolean enabled;
+    private final int maxBatch;
+    private final long maxLatencyNanos;
+    private final long awaitTimeoutMillis;
+    private final BlockingQueue<PendingCreate> queue;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    private final DistributionSummary batchSize;
+    private final Timer commitTime;
+    private final Counter rejected;
+
+    public PostGroupCommitter(PostBatchInserter postBatchInserter,
+                              PostCache postCache,
+                              ObjectProvider<ReadYourWrites> readYourWrites,
+                              @Value("${app.group-commit.enabled:false}") boolean enabled,
+                              @Value("${app.group-commit.max-batch:50}") int maxBatch,
+                              @Value("${app.group-commit.max-latency:5ms}") Duration maxLatency,
+                              @Value("${app.group-commit.queue-capacity:1000}") int queueCapacity,
+                              @Value("${app.group-commit.await-timeout:10s}") Duration awaitTimeout,
+                              MeterRegistry meterRegistry) {
+        this.postBatchInserter = postBatchInserter;
+        this.postCache = postCache;
+        this.readYourWrites = readYourWrites;
+        this.enabled = enabled;
+        this.maxBatch = maxBatch;
+        this.maxLatencyNanos = maxLatency.toNanos();
+        this.awaitTimeoutMillis = awaitTimeout.toMillis();
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.writer = new Thread(this::run, "post-group-commit");
+        this.writer.setDaemon(true);
+
+        Gauge.builder("posts.group-commit.queue.size", queue, BlockingQueue::size)
+                .description("저장을 기다리는 게시글 생성 요청 수").register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("posts.group-commit.batch.size")
+                .description("한 트랜잭션으로 저장한 게시글 수").register(meterRegistry);
+        this.commitTime = Timer.builder("posts.group-commit.commit")
+                .description("묶음 저장(INSERT + 커밋) 시간").register(meterRegistry);
+        this.rejected = Counter.builder("posts.group-commit.rejected")
+                .description("큐가 가득 차 거절한 게시글 생성 요청 수").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (enabled) {
+            log.info("게시글 생성 그룹 커밋 - 최대 {}건, 최대 대기 {}us, 큐 {}건",
+                    maxBatch, TimeUnit.NANOSECONDS.toMicros(maxLatencyNanos), queue.remainingCapacity());
+            writer.start();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 생성 요청을 큐에 넣고 저장될 때까지 기다린다
+     * @throws RejectedExecutionException 큐가 가득 찼거나 종료 중인 경우 (저장하지 않음)
+     * @throws IllegalStateException 저장에 실패했거나 await-timeout 안에 끝나지 않은 경우 (시간 초과 시 이후에 저장될 수 있음)
+     */
+    public PostResponseDto create(PostDto request) {
+        PendingCreate pending = new PendingCreate(request, System.nanoTime(), new CompletableFuture<>());
+        if (!running || !queue.offer(pending)) {
+            rejected.increment();
+            throw new RejectedExecutionException("게시글 생성 대기열이 가득 찼습니다.");
+        }
+        // 넣는 사이에 종료가 시작되어 쓰기 스레드가 이미 끝났을 수 있다 - 아직 큐에 남아 있으면 거두어 거절
+        if (!running && queue.remove(pending)) {
+            rejected.increment();
+            throw new RejectedExecutionException("종료 중이라 게시글 생성 요청을 받지 않습니다.");
+        }
+
+        PostResponseDto post;
+        try {
+            post = pending.result().get(awaitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RejectedExecutionException rejection) {
+                throw rejection;
+            }
+            throw new IllegalStateException(e.getCause().getMessage(), e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("게시글 저장 대기 시간을 초과했습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("게시글 저장 대기 중 중단되었습니다.", e);
+        }
+
+        postCache.invalidate(post.getId());
+        readYourWrites.ifAvailable(ReadYourWrites::recordWrite);
+        return post;
+    }
+
+    /**
+     * 새 요청을 받지 않고, 이미 큐에 들어온 요청은 모두 저장한 뒤 쓰기 스레드를 끝낸다
+     * 그 뒤에도 남은 요청(쓰기 스레드가 시간 안에 끝나지 않은 경우)은 저장하지 않고 거절로 완료한다
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writer.isAlive()) {
+            log.info("종료 전 대기 중인 게시글 생성 요청 저장 - {}건", queue.size());
+            writer.join(awaitTimeoutMillis);
+        }
+        List<PendingCreate> leftovers = new ArrayList<>();
+        queue.drainTo(leftovers);
+        if (!leftovers.isEmpty()) {
+            log.warn("종료 시 저장하지 못한 게시글 생성 요청 - {}건", leftovers.size());
+            RejectedExecutionException rejection = new RejectedExecutionException("종료 중이라 게시글을 저장하지 못했습니다.");
+            leftovers.forEach(pending -> pending.result().completeExceptionally(rejection));
+        }
+    }
+
+    private void run() {
+        List<PendingCreate> batch = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingCreate first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                // 첫 요청이 들어온 시각 기준으로 max-latency까지 모은다 - 그 뒤에는 이미 큐에 있는 요청만 더 담는다
+                long deadline = first.enqueuedAt() + maxLatencyNanos;
+                while (batch.size() < maxBatch) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingCreate next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                log.warn("게시글 그룹 커밋 스레드 중단 - 모은 요청을 저장하고 종료");
+                running = false;
+            }
+
+            if (!batch.isEmpty()) {
+                commit(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void commit(List<PendingCreate> batch) {
+        batchSize.record(batch.size());
+        List<PostDto> requests = batch.stream().map(PendingCreate::request).toList();
+        try {
+            List<PostBatchInserter.Outcome> outcomes = commitTime.record(() -> postBatchInserter.insert(requests));
+            for (int i = 0; i < batch.size(); i++) {
+                PostBatchInserter.Outcome outcome = outcomes.get(i);
+                if (outcome.isSuccess()) {
+                    batch.get(i).result().complete(outcome.post());
+                } else {
+                    batch.get(i).result().completeExceptionally(new IllegalStateException(outcome.error()));
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("게시글 묶음 저장 실패 - 건수: {}", batch.size(), e);
+            batch.forEach(pending -> pending.result().completeExceptionally(e));
+        }
+    }
+
+    private record PendingCreate(PostDto request, long enqueuedAt, CompletableFuture<PostResponseDto> result) {
+    }
+}
@@ -1,36 +1,186 @@
 package com.example.backend.service;
 
+import com.example.backend.cache.FeedVersion;
+import com.example.backend.cache.PostCache;
+import com.example.backend.dto.AuthorStatsDto;
+import com.example.backend.dto.CursorPage;
+import com.example.backend.dto.FeedCursor;
 import com.example.backend.dto.PostDto;
 import com.example.backend.dto.PostResponseDto;
 import com.example.backend.dto.PostSummaryDto;
+import com.example.backend.event.PostCreatedEvent;
 import com.example.backend.model.Post;
+import com.example.backend.ranking.PopularPostRanking;
+import com.example.backend.repository.ArchivedPostRepository;
 import com.example.backend.repository.PostRepository;
-import lombok.RequiredArgsConstructor;
+import com.example.backend.search.InvertedIndex;
+import com.example.backend.search.PostSearchIndex;
+import com.example.backend.stats.AuthorStatsStore;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
 public class PostService {
 
+    static final int POPULAR_POST_COUNT = 10;
+
     private final PostRepository postRepository;
+    private final ArchivedPostRepository archivedPostRepository;
+    private final ViewCountBuffer viewCountBuffer;
+    private final PostCache postCache;
+    private final PostSearchIndex postSearchIndex;
+    private final PopularPostRanking popularPostRanking;
+    private final AuthorStatsStore authorStatsStore;
+    private final FeedVersion feedVersion;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    public PostService(PostRepository postRepository, ArchivedPostRepository archivedPostRepository,
+                       ViewCountBuffer viewCountBuffer, PostCache postCache, PostSearchIndex postSearchIndex,
+                       PopularPostRanking popularPostRanking, AuthorStatsStore authorStatsStore,
+                       FeedVersion feedVersion, ApplicationEventPublisher eventPublisher,
+                       PlatformTransactionManager transactionManager) {
+        this.postRepository = postRepository;
+        this.archivedPostRepository = archivedPostRepository;
+        this.viewCountBuffer = viewCountBuffer;
+        this.postCache = postCache;
+        this.postSearchIndex = postSearchIndex;
+        this.popularPostRanking = popularPostRanking;
+        this.authorStatsStore = authorStatsStore;
+        this.feedVersion = feedVersion;
+        this.eventPublisher = eventPublisher;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * 목록 응답의 현재 버전(ETag) - 아직 모르면 null
+     * 목록/피드는 모두 게시글 테이블에서 바로 읽으므로 하나의 버전을 함께 사용한다
+     * (검색은 주기적으로 갱신되는 메모리 색인을 거치므로 이 버전으로 변경 여부를 알 수 없다)
+     */
+    // 304 응답은 커넥션을 빌리지 않도록 트랜잭션을 열지 않는다
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public String getFeedETag() {
+        return feedVersion.etag();
+    }
 
     public Page<PostSummaryDto> getAllPosts(int page, int size) {
         log.debug("모든 게시글 조회 - page: {}, size: {}", page, size);
 
         Pageable pageable = PageRequest.of(page, size);
-        Page<Post> posts = postRepository.findAllByOrderByCreatedAtDesc(pageable);
+        return postRepository.findSummaries(pageable);
+    }
+
+    /**
+     * 커서 기반 최신순 피드 - OFFSET/COUNT 없이 (createdAt, id) 이후 게시글을 조회
+     * 활성 테이블에서 끝나며, includeArchive이면 보관 테이블의 게시글까지 이어서 내려간다
+     */
+    public CursorPage<PostSummaryDto> getFeed(String cursor, int size, boolean includeArchive) {
+        log.debug("피드 조회 - cursor: {}, size: {}, archive: {}", cursor, size, includeArchive);
+
+        Limit limit = Limit.of(size + 1);
+        List<PostSummaryDto> posts;
+        if (isFirstPage(cursor)) {
+            posts = postRepository.findFeed(limit);
+        } else {
+            FeedCursor after = FeedCursor.decode(cursor);
+            posts = postRepository.findFeedAfter(after.createdAt(), after.id(), limit);
+        }
+
+        if (includeArchive) {
+            posts = continueInArchive(posts, cursor, size + 1, archivedPostRepository::findFeed,
+                    (after, rest) -> archivedPostRepository.findFeedAfter(after.createdAt(), after.id(), rest));
+        }
+        return toCursorPage(posts, size);
+    }
+
+    /**
+     * 커서 기반 작성자별 피드
+     */
+    public CursorPage<PostSummaryDto> getAuthorFeed(String author, String cursor, int size) {
+        log.debug("작성자별 피드 조회 - 작성자: {}, cursor: {}, size: {}", author, cursor, size);
+
+        Limit limit = Limit.of(size + 1);
+        List<PostSummaryDto> posts;
+        if (isFirstPage(cursor)) {
+            posts = postRepository.findAuthorFeed(author, limit);
+        } else {
+            FeedCursor after = FeedCursor.decode(cursor);
+            posts = postRepository.findAuthorFeedAfter(author, after.createdAt(), after.id(), limit);
+        }
+
+        posts = continueInArchive(posts, cursor, size + 1, rest -> archivedPostRepository.findAuthorFeed(author, rest),
+                (after, rest) -> archivedPostRepository.findAuthorFeedAfter(author, after.createdAt(), after.id(), rest));
+        return toCursorPage(posts, size);
+    }
+
+    /**
+     * 활성 테이블 결과가 limit건에 못 미치면 보관 테이블에서 이어서 채운다
+     * 보관 테이블의 게시글은 모두 활성 테이블 게시글보다 앞서므로(PostArchiver) 같은 커서로 이어 읽으면 순서가 맞다
+     * - 마지막 활성 게시글 이후, 활성 결과가 없으면 요청 커서 이후(커서가 이미 보관 구간을 가리키는 경우)부터
+     */
+    private static List<PostSummaryDto> continueInArchive(List<PostSummaryDto> hot, String cursor, int limit,
+                                                          Function<Limit, List<PostSummaryDto>> first,
+                                                          BiFunction<FeedCursor, Limit, List<PostSummaryDto>> after) {
+        if (hot.size() >= limit) {
+            return hot;
+        }
+
+        Limit rest = Limit.of(limit - hot.size());
+        FeedCursor from = hot.isEmpty()
+                ? (isFirstPage(cursor) ? null : FeedCursor.decode(cursor))
+                : cursorOf(hot.get(hot.size() - 1));
+        List<PostSummaryDto> archived = from == null ? first.apply(rest) : after.apply(from, rest);
+        if (archived.isEmpty()) {
+            return hot;
+        }
+
+        List<PostSummaryDto> merged = new ArrayList<>(hot.size() + archived.size());
+        merged.addAll(hot);
+        merged.addAll(archived);
+        return merged;
+    }
 
-        return posts.map(PostSummaryDto::fromEntity);
+    static boolean isFirstPage(String cursor) {
+        return cursor == null || cursor.isBlank();
+    }
+
+    private static FeedCursor cursorOf(PostSummaryDto post) {
+        return new FeedCursor(post.getCreatedAt(), post.getId());
+    }
+
+    // size + 1건을 조회하여 다음 페이지 존재 여부를 판단 (ReactivePostService와 공용)
+    static CursorPage<PostSummaryDto> toCursorPage(List<PostSummaryDto> posts, int size) {
+        boolean hasNext = posts.size() > size;
+        List<PostSummaryDto> content = hasNext ? posts.subList(0, size) : posts;
+
+        String nextCursor = null;
+        if (hasNext) {
+            nextCursor = cursorOf(content.get(content.size() - 1)).encode();
+        }
+
+        return new CursorPage<>(content, content.size(), hasNext, nextCursor);
     }
 
     @Transactional
@@ -46,50 +196,112 @@ public class PostService {
         Post savedPost = postRepository.save(post);
         log.info("게시글 생성 완료 - ID: {}", savedPost.getId());
 
-        return PostResponseDto.fromEntity(savedPost);
+        PostResponseDto response = PostResponseDto.fromEntity(savedPost);
+        eventPublisher.publishEvent(new PostCreatedEvent(response));
+        return response;
     }
 
-    @Transactional
+    // 캐시 적중 시에는 커넥션을 빌리지 않도록 트랜잭션을 열지 않는다
+    // 미스 시에는 활성/보관 테이블 조회를 하나의 읽기 전용 트랜잭션으로 묶어 복제본에서 읽는다 (호출 측 트랜잭션이 있으면 참여)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public PostResponseDto getPostById(Long id) {
         log.debug("게시글 조회 - ID: {}", id);
 
-        Post post = postRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다. ID: " + id));
+        PostResponseDto post = postCache.get(id, key -> readOnlyTransactionTemplate.execute(status -> loadPost(key)));
 
-        post.incrementViewCount();
-        postRepository.save(post);
+        // 조회수는 버퍼에 기록하고 주기적으로 일괄 반영 (읽기 트랜잭션에서 쓰기 제거)
+        long pendingViews = viewCountBuffer.recordView(id, post.getAuthor());
 
-        return PostResponseDto.fromEntity(post);
+        PostResponseDto response = post.withViewCount(post.getViewCount() + pendingViews);
+        popularPostRanking.recordView(response);
+        return response;
     }
 
+    // 활성 테이블에 없으면 보관 테이블에서 찾는다
+    private PostResponseDto loadPost(Long id) {
+        return postRepository.findById(id)
+                .map(PostResponseDto::fromEntity)
+                .or(() -> archivedPostRepository.findById(id).map(PostResponseDto::fromArchived))
+                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다. ID: " + id));
+    }
+
+    /**
+     * 작성자별 게시글 (페이지 번호) - 활성 테이블 뒤에 보관 테이블 게시글이 이어진다
+     */
     public Page<PostSummaryDto> getPostsByAuthor(String author, int page, int size) {
         log.debug("작성자별 게시글 조회 - 작성자: {}, page: {}, size: {}", author, page, size);
 
         Pageable pageable = PageRequest.of(page, size);
-        Page<Post> posts = postRepository.findByAuthorOrderByCreatedAtDesc(author, pageable);
+        Page<PostSummaryDto> hot = postRepository.findSummariesByAuthor(author, pageable);
+        long archivedTotal = archivedPostRepository.countByAuthor(author);
+        if (archivedTotal == 0) {
+            return hot;
+        }
 
-        return posts.map(PostSummaryDto::fromEntity);
+        long total = hot.getTotalElements() + archivedTotal;
+        int missing = size - hot.getNumberOfElements();
+        if (missing == 0) {
+            return new PageImpl<>(hot.getContent(), pageable, total);
+        }
+
+        // 보관 테이블 안에서의 시작 위치 - OFFSET처럼 앞의 행을 읽고 건너뛴다 (깊은 페이지는 커서 API 사용)
+        int archivedOffset = (int) Math.max(0, pageable.getOffset() - hot.getTotalElements());
+        List<PostSummaryDto> archived = archivedPostRepository.findAuthorFeed(author, Limit.of(archivedOffset + missing));
+        List<PostSummaryDto> content = new ArrayList<>(hot.getContent());
+        content.addAll(archived.subList(Math.min(archivedOffset, archived.size()), archived.size()));
+        return new PageImpl<>(content, pageable, total);
     }
 
     public Page<PostSummaryDto> searchPosts(String keyword, int page, int size) {
         log.debug("게시글 검색 - 키워드: {}, page: {}, size: {}", keyword, page, size);
 
         Pageable pageable = PageRequest.of(page, size);
-        Page<Post> posts = postRepository.findByKeyword(keyword, pageable);
 
-        return posts.map(PostSummaryDto::fromEntity);
+        // 메모리 검색 색인으로 관련도순 ID를 구하고 해당 게시글만 조회
+        Optional<InvertedIndex.SearchResult> result = postSearchIndex.search(keyword, page, size);
+        if (result.isPresent()) {
+            List<Long> postIds = result.get().postIds();
+            Map<Long, PostSummaryDto> postsById = postRepository.findSummariesByIdIn(postIds).stream()
+                    .collect(Collectors.toMap(PostSummaryDto::getId, Function.identity()));
+            List<PostSummaryDto> content = postIds.stream()
+                    .map(postsById::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+            return new PageImpl<>(content, pageable, result.get().totalHits());
+        }
+
+        return postRepository.findSummariesByKeyword(keyword, pageable);
     }
 
-    public List<PostSummaryDto> getPopularPosts() {
-        log.debug("인기 게시글 조회");
+    /**
+     * 인기 게시글 조회 - mode: views(누적 조회수) | trending(시간 감쇠 점수)
+     */
+    public List<PostSummaryDto> getPopularPosts(String mode) {
+        log.debug("인기 게시글 조회 - mode: {}", mode);
+
+        // 메모리 순위가 구성되기 전(시작 직후)에만 DB에서 정렬 (idx_view_count 역순 조회)
+        String popularMode = popularMode(mode);
+        if (popularPostRanking.isReady()) {
+            return popularPostRanking.top(popularMode, POPULAR_POST_COUNT);
+        }
+        return postRepository.findTopSummariesByViewCount(Limit.of(POPULAR_POST_COUNT));
+    }
+
+    /**
+     * 인기 게시글 mode 정규화 - views | trending (대소문자 무시), 그 외의 값은 IllegalArgumentException
+     */
+    public static String popularMode(String mode) {
+        return PopularPostRanking.normalizeMode(mode);
+    }
 
-        List<Post> posts = postRepository.findTop10ByOrderByViewCountDesc();
-        return posts.stream()
-                .map(PostSummaryDto::fromEntity)
-                .collect(Collectors.toList());
+    /**
+     * 작성자 통계 조회 - 메모리에 유지되는 집계를 사용하므로 게시글 수와 무관하게 일정한 비용
+     */
+    public AuthorStatsDto getAuthorStats(String author) {
+        return authorStatsStore.get(author);
     }
 
-    public long getPostCountByAuthor(String author) {
-        return postRepository.countByAuthor(author);
+    public List<AuthorStatsDto> getAuthorStats(List<String> authors) {
+        return authorStatsStore.getAll(authors);
     }
 }
\ No newline at end of file
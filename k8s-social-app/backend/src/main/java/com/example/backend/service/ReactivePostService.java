@@ -0,0 +1,126 @@
+package com.example.backend.service;
+
+import com.example.backend.cache.PostCache;
+import com.example.backend.dto.CursorPage;
+import com.example.backend.dto.FeedCursor;
+import com.example.backend.dto.PostExportDto;
+import com.example.backend.dto.PostResponseDto;
+import com.example.backend.dto.PostSummaryDto;
+import com.example.backend.ranking.PopularPostRanking;
+import com.example.backend.repository.ReactivePostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * 게시글 읽기 비동기 경로 (reactive 프로필) - PostService의 피드/인기/상세 조회와 같은 결과를 R2DBC로 조회
+ * 캐시, 메모리 순위, 조회수 버퍼는 PostService와 같은 빈을 사용한다 (쓰기는 계속 PostService/JPA)
+ */
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactivePostService {
+
+    private final ReactivePostRepository reactivePostRepository;
+    private final PostCache postCache;
+    private final ViewCountBuffer viewCountBuffer;
+    private final PopularPostRanking popularPostRanking;
+
+    /**
+     * 커서 기반 최신순 피드 - includeArchive이면 보관 테이블까지 이어서 내려간다 (PostService.getFeed)
+     * @throws IllegalArgumentException 커서를 해석할 수 없는 경우 (쿼리 실행 전에 바로 던진다)
+     */
+    public Mono<CursorPage<PostSummaryDto>> getFeed(String cursor, int size, boolean includeArchive) {
+        log.debug("피드 조회(reactive) - cursor: {}, size: {}, archive: {}", cursor, size, includeArchive);
+
+        int limit = size + 1;
+        FeedCursor after = PostService.isFirstPage(cursor) ? null : FeedCursor.decode(cursor);
+        Flux<PostSummaryDto> posts = after == null
+                ? reactivePostRepository.findFeed(limit)
+                : reactivePostRepository.findFeedAfter(after, limit);
+        Mono<List<PostSummaryDto>> page = includeArchive
+                ? continueInArchive(posts, after, limit, reactivePostRepository::findArchivedFeed)
+                : posts.collectList();
+        return page.map(found -> PostService.toCursorPage(found, size));
+    }
+
+    /**
+     * 커서 기반 작성자별 피드
+     */
+    public Mono<CursorPage<PostSummaryDto>> getAuthorFeed(String author, String cursor, int size) {
+        log.debug("작성자별 피드 조회(reactive) - 작성자: {}, cursor: {}, size: {}", author, cursor, size);
+
+        int limit = size + 1;
+        FeedCursor after = PostService.isFirstPage(cursor) ? null : FeedCursor.decode(cursor);
+        Flux<PostSummaryDto> posts = after == null
+                ? reactivePostRepository.findAuthorFeed(author, limit)
+                : reactivePostRepository.findAuthorFeedAfter(author, after, limit);
+        return continueInArchive(posts, after, limit,
+                (from, rest) -> reactivePostRepository.findArchivedAuthorFeed(author, from, rest))
+                .map(page -> PostService.toCursorPage(page, size));
+    }
+
+    // 활성 테이블 결과가 limit건에 못 미치면 보관 테이블에서 같은 커서로 이어서 채운다 (PostService.continueInArchive)
+    private static Mono<List<PostSummaryDto>> continueInArchive(
+            Flux<PostSummaryDto> hot, FeedCursor after, int limit,
+            BiFunction<FeedCursor, Integer, Flux<PostSummaryDto>> archived) {
+        return hot.collectList().flatMap(found -> {
+            if (found.size() >= limit) {
+                return Mono.just(found);
+            }
+            PostSummaryDto last = found.isEmpty() ? null : found.get(found.size() - 1);
+            FeedCursor from = last == null ? after : new FeedCursor(last.getCreatedAt(), last.getId());
+            return Flux.concat(Flux.fromIterable(found), archived.apply(from, limit - found.size())).collectList();
+        });
+    }
+
+    /**
+     * 인기 게시글 - 메모리 순위가 구성되기 전(시작 직후)에만 DB에서 정렬
+     */
+    public Mono<List<PostSummaryDto>> getPopularPosts(String mode) {
+        String popularMode = PostService.popularMode(mode);
+        if (popularPostRanking.isReady()) {
+            return Mono.just(popularPostRanking.top(popularMode, PostService.POPULAR_POST_COUNT));
+        }
+        return reactivePostRepository.findTopSummariesByViewCount(PostService.POPULAR_POST_COUNT).collectList();
+    }
+
+    /**
+     * 게시글 상세 - 캐시 적중 시 DB 접근 없음, 조회수는 PostService와 같이 버퍼에 기록
+     * @return 게시글이 없으면 빈 Mono
+     */
+    public Mono<PostResponseDto> getPostById(Long id) {
+        log.debug("게시글 조회(reactive) - ID: {}", id);
+
+        PostResponseDto cached = postCache.getIfPresent(id);
+        // 활성 테이블에 없으면 보관 테이블에서 찾는다 (조회를 시작할 때의 캐시 세대로 저장)
+        Mono<PostResponseDto> post = cached != null ? Mono.just(cached) : Mono.defer(() -> {
+            long loadedAt = postCache.generation(id);
+            return reactivePostRepository.findById(id)
+                    .switchIfEmpty(Mono.defer(() -> reactivePostRepository.findArchivedById(id)))
+                    .doOnNext(loaded -> postCache.put(id, loaded, loadedAt));
+        });
+
+        return post.map(found -> {
+            long pendingViews = viewCountBuffer.recordView(id, found.getAuthor());
+            PostResponseDto response = found.withViewCount(found.getViewCount() + pendingViews);
+            popularPostRanking.recordView(response);
+            return response;
+        });
+    }
+
+    /**
+     * 기간별 내보내기 - 클라이언트가 받는 속도에 맞춰 DB에서 읽는다 (활성 테이블 다음 보관 테이블)
+     */
+    public Flux<PostExportDto> export(LocalDateTime from, LocalDateTime to, FeedCursor after) {
+        return reactivePostRepository.streamByCreatedAtRange(from, to, after);
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.backend.service;
+
+import com.example.backend.cache.PostCache;
+import com.example.backend.event.ViewCountsFlushedEvent;
+import com.example.backend.repository.ArchivedPostRepository;
+import com.example.backend.repository.PostRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수를 메모리에 모아 두었다가 주기적으로 DB에 반영하는 버퍼
+ * - 게시글별 LongAdder(스트라이프 카운터)로 요청 스레드 간 락 없이 집계
+ * - 증가량이 같은 게시글끼리 묶어 UPDATE ... SET view_count = view_count + ? 로 일괄 반영
+ * - 반영이 끝나면 ViewCountsFlushedEvent로 게시글/작성자별 증가량을 알린다
+ * - 애플리케이션 종료 시 남은 조회수를 모두 반영
+ */
+@Component
+@Slf4j
+public class ViewCountBuffer {
+
+    // IN 절 하나에 담을 최대 게시글 수
+    private static final int UPDATE_CHUNK_SIZE = 500;
+
+    private final PostRepository postRepository;
+    private final ArchivedPostRepository archivedPostRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final PostCache postCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ConcurrentHashMap<Long, PendingViews> pendingViews = new ConcurrentHashMap<>();
+
+    // 직전 반영 때 맵에서 제거한 카운터 - 제거 직전에 카운터를 가져간 요청의 증가분을 한 번 더 수거한다
+    private List<Map.Entry<Long, PendingViews>> retiredCounters = new ArrayList<>();
+
+    public ViewCountBuffer(PostRepository postRepository, ArchivedPostRepository archivedPostRepository,
+                           PlatformTransactionManager transactionManager,
+                           PostCache postCache, ApplicationEventPublisher eventPublisher) {
+        this.postRepository = postRepository;
+        this.archivedPostRepository = archivedPostRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.postCache = postCache;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * 조회 1건을 기록하고 아직 DB에 반영되지 않은 조회수를 반환
+     */
+    public long recordView(Long postId, String author) {
+        LongAdder counter = pendingViews.computeIfAbsent(postId, id -> new PendingViews(author));
+        counter.increment();
+        return counter.sum();
+    }
+
+    /**
+     * 최대 지연 허용 시간(app.view-count.flush-interval-ms)마다 조회수 반영
+     */
+    @Scheduled(fixedDelayString = "${app.view-count.flush-interval-ms:5000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 남은 조회수 반영");
+        flush();
+    }
+
+    public synchronized void flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        Map<Long, String> authors = new HashMap<>();
+        drain(deltas, authors);
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<Long>> postIdsByDelta = new HashMap<>();
+        deltas.forEach((postId, delta) ->
+                postIdsByDelta.computeIfAbsent(delta, d -> new ArrayList<>()).add(postId));
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> postIdsByDelta.forEach((delta, postIds) -> {
+                for (int from = 0; from < postIds.size(); from += UPDATE_CHUNK_SIZE) {
+                    int to = Math.min(from + UPDATE_CHUNK_SIZE, postIds.size());
+                    List<Long> chunk = postIds.subList(from, to);
+                    if (postRepository.incrementViewCounts(chunk, delta) < chunk.size()) {
+                        // 활성 테이블에 없는 게시글은 보관 테이블로 옮겨진 게시글
+                        archivedPostRepository.incrementViewCounts(chunk, delta);
+                    }
+                }
+            }));
+            postCache.invalidateAll(deltas.keySet());
+            publishFlushed(deltas, authors);
+            log.debug("조회수 반영 완료 - 게시글 수: {}, UPDATE 그룹 수: {}", deltas.size(), postIdsByDelta.size());
+        } catch (RuntimeException e) {
+            // 반영에 실패한 조회수는 버퍼로 되돌려 다음 주기에 재시도
+            log.error("조회수 반영 중 오류 발생 - 게시글 수: {}", deltas.size(), e);
+            deltas.forEach((postId, delta) ->
+                    pendingViews.computeIfAbsent(postId, id -> new PendingViews(authors.get(id))).add(delta));
+        }
+    }
+
+    private void publishFlushed(Map<Long, Long> deltas, Map<Long, String> authors) {
+        List<ViewCountsFlushedEvent.ViewDelta> flushed = new ArrayList<>(deltas.size());
+        deltas.forEach((postId, delta) ->
+                flushed.add(new ViewCountsFlushedEvent.ViewDelta(postId, authors.get(postId), delta)));
+        try {
+            eventPublisher.publishEvent(new ViewCountsFlushedEvent(flushed));
+        } catch (RuntimeException e) {
+            // DB 반영은 끝났으므로 리스너 오류로 조회수를 되돌리지 않는다
+            log.warn("조회수 반영 이벤트 처리 중 오류 발생", e);
+        }
+    }
+
+    private void drain(Map<Long, Long> deltas, Map<Long, String> authors) {
+        for (Map.Entry<Long, PendingViews> retired : retiredCounters) {
+            collect(deltas, authors, retired.getKey(), retired.getValue());
+        }
+
+        List<Map.Entry<Long, PendingViews>> nextRetired = new ArrayList<>();
+        for (Map.Entry<Long, PendingViews> entry : pendingViews.entrySet()) {
+            if (!collect(deltas, authors, entry.getKey(), entry.getValue())
+                    && pendingViews.remove(entry.getKey(), entry.getValue())) {
+                // 한 주기 동안 조회가 없었던 카운터는 정리
+                nextRetired.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+        retiredCounters = nextRetired;
+    }
+
+    private boolean collect(Map<Long, Long> deltas, Map<Long, String> authors, Long postId, PendingViews counter) {
+        // sumThenReset 대신 읽은 만큼만 차감하여 동시에 들어온 증가분을 잃지 않는다
+        long views = counter.sum();
+        if (views == 0) {
+            return false;
+        }
+        counter.add(-views);
+        deltas.merge(postId, views, Long::sum);
+        authors.putIfAbsent(postId, counter.author);
+        return true;
+    }
+
+    // 작성자별 통계 갱신을 위해 게시글 작성자를 함께 들고 있는 카운터
+    private static final class PendingViews extends LongAdder {
+
+        private final String author;
+
+        PendingViews(String author) {
+            this.author = author;
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.example.backend.stats;
+
+import com.example.backend.dto.ActivityBucketDto;
+import com.example.backend.dto.ActivityReportDto;
+import com.example.backend.dto.PostResponseDto;
+import com.example.backend.event.PostCreatedEvent;
+import com.example.backend.event.ViewCountsFlushedEvent;
+import com.example.backend.model.ActivityRollup;
+import com.example.backend.model.ActivityRollup.Granularity;
+import com.example.backend.repository.ActivityRollupRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 시간/일 구간별 활동 집계(게시글 수, 조회수 증가량, 작성자 수) 유지
+ * - 게시글 생성과 조회수 반영 이벤트를 메모리의 시간 구간에 더해 두었다가 주기적으로 activity_rollups에 반영
+ *   (레플리카마다 자기 증가분만 더하므로 여러 파드가 같은 행을 갱신해도 중복되지 않는다)
+ * - 작성자 수는 구간마다 HyperLogLog(1KB)로 추정 - 구간을 합쳐도 같은 작성자를 두 번 세지 않는다
+ * - 보존 기간(hourly-retention)이 지난 시간 구간 행은 일 구간 행으로 합치고 삭제
+ * - 기간 조회는 posts 테이블 대신 구간 행만 읽으므로 비용이 게시글 수가 아니라 구간 수에 비례
+ */
+@Component
+@Slf4j
+public class ActivityRollups {
+
+    // 한 트랜잭션에서 일 구간으로 합칠 최대 시간 구간 행 수
+    private static final int COMPACTION_BATCH_SIZE = 500;
+
+    private final ActivityRollupRepository rollupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final Duration hourlyRetention;
+    private final int maxBuckets;
+
+    // 아직 DB에 반영하지 않은 시간 구간 (시각 순으로 반영해 레플리카 간 행 잠금 순서를 맞춘다)
+    private TreeMap<LocalDateTime, Bucket> pending = new TreeMap<>();
+
+    private final Timer flushTime;
+    private final Counter compactedRows;
+
+    public ActivityRollups(ActivityRollupRepository rollupRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${app.analytics.hourly-retention:14d}") Duration hourlyRetention,
+                           @Value("${app.analytics.max-buckets:1000}") int maxBuckets,
+                           MeterRegistry meterRegistry) {
+        this.rollupRepository = rollupRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.hourlyRetention = hourlyRetention;
+        this.maxBuckets = maxBuckets;
+
+        Gauge.builder("analytics.rollup.pending.buckets", this, ActivityRollups::pendingBuckets)
+                .description("DB에 반영하지 않은 시간 구간 수").register(meterRegistry);
+        this.flushTime = Timer.builder("analytics.rollup.flush")
+                .description("메모리 구간을 activity_rollups에 반영하는 시간").register(meterRegistry);
+        this.compactedRows = Counter.builder("analytics.rollup.compacted")
+                .description("일 구간으로 합친 시간 구간 행 수").register(meterRegistry);
+    }
+
+    @TransactionalEventListener
+    public void onPostCreated(PostCreatedEvent event) {
+        PostResponseDto post = event.post();
+        LocalDateTime createdAt = post.getCreatedAt() == null ? LocalDateTime.now() : post.getCreatedAt();
+        synchronized (this) {
+            pending.computeIfAbsent(Granularity.HOUR.truncate(createdAt), hour -> new Bucket())
+                    .addPost(post.getAuthor());
+        }
+    }
+
+    @EventListener
+    public void onViewCountsFlushed(ViewCountsFlushedEvent event) {
+        long views = 0;
+        for (ViewCountsFlushedEvent.ViewDelta delta : event.deltas()) {
+            views += delta.views();
+        }
+        if (views == 0) {
+            return;
+        }
+        // 조회 시각 대신 DB 반영 시각의 구간에 더한다 (오차는 조회수 반영 주기 이내)
+        LocalDateTime hour = Granularity.HOUR.truncate(LocalDateTime.now());
+        synchronized (this) {
+            pending.computeIfAbsent(hour, h -> new Bucket()).addViews(views);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 남은 활동 집계 반영");
+        flush();
+    }
+
+    /**
+     * 메모리의 시간 구간을 activity_rollups에 더한다 - 실패하면 다음 주기에 다시 시도
+     * (반영 주기만큼 조회 결과가 늦다)
+     */
+    @Scheduled(fixedDelayString = "${app.analytics.flush-interval-ms:60000}")
+    public void flush() {
+        TreeMap<LocalDateTime, Bucket> drained = drain();
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        try {
+            flushTime.record(() -> transactionTemplate.executeWithoutResult(status ->
+                    drained.forEach((hour, bucket) -> addTo(Granularity.HOUR, hour, bucket))));
+            log.debug("활동 집계 반영 완료 - 시간 구간 수: {}", drained.size());
+        } catch (RuntimeException e) {
+            log.error("활동 집계 반영 중 오류 발생 - 시간 구간 수: {}", drained.size(), e);
+            restore(drained);
+        }
+    }
+
+    /**
+     * 보존 기간이 지난 시간 구간 행을 일 구간 행으로 합친다
+     * 합치기와 삭제가 한 트랜잭션이고 대상 행을 잠그므로 여러 레플리카가 동시에 실행해도 두 번 더해지지 않는다
+     */
+    @Scheduled(fixedDelayString = "${app.analytics.compaction-interval-ms:3600000}")
+    public void compact() {
+        LocalDateTime before = hourlyCutoff();
+        int total = 0;
+        try {
+            int compacted;
+            do {
+                compacted = transactionTemplate.execute(status -> compactBatch(before));
+                total += compacted;
+            } while (compacted == COMPACTION_BATCH_SIZE);
+        } catch (RuntimeException e) {
+            log.error("활동 집계 압축 중 오류 발생 - 기준 시각: {}", before, e);
+        }
+        if (total > 0) {
+            compactedRows.increment(total);
+            log.info("활동 집계 압축 완료 - 기준 시각: {}, 시간 구간 행 수: {}", before, total);
+        }
+    }
+
+    /**
+     * 기간 활동 집계 - [from, to)를 구간 경계로 넓혀 모든 구간을 반환 (활동이 없는 구간은 0)
+     * - hour: 시간 구간 행만 읽는다 (보존 기간이 지나 일 구간으로 합쳐진 시간은 0)
+     * - day: 일 구간 행과 아직 합쳐지지 않은 최근 시간 구간 행을 일 단위로 합친다
+     * @throws IllegalArgumentException 기간이 비어 있거나 구간 수가 max-buckets를 넘는 경우
+     */
+    public ActivityReportDto report(LocalDateTime from, LocalDateTime to, Granularity granularity) {
+        LocalDateTime start = granularity.truncate(from);
+        LocalDateTime end = granularity.truncate(to);
+        if (end.isBefore(to)) {
+            end = granularity.next(end);
+        }
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("from은 to보다 이전이어야 합니다.");
+        }
+        long bucketCount = granularity.bucketsBetween(start, end);
+        if (bucketCount > maxBuckets) {
+            throw new IllegalArgumentException("조회 구간 수가 최대값(" + maxBuckets + ")을 초과했습니다: " + bucketCount);
+        }
+
+        LocalDateTime rangeEnd = end;
+        List<ActivityRollup> rows = readOnlyTransactionTemplate.execute(status -> {
+            List<ActivityRollup> found = new ArrayList<>();
+            if (granularity == Granularity.DAY) {
+                found.addAll(rollupRepository.findRange(Granularity.DAY, start, rangeEnd));
+            }
+            found.addAll(rollupRepository.findRange(Granularity.HOUR, start, rangeEnd));
+            return found;
+        });
+
+        Map<LocalDateTime, Bucket> buckets = new TreeMap<>();
+        for (ActivityRollup row : rows) {
+            buckets.computeIfAbsent(granularity.truncate(row.getKey().getBucketStart()), b -> new Bucket()).add(row);
+        }
+
+        List<ActivityBucketDto> content = new ArrayList<>((int) bucketCount);
+        Bucket total = new Bucket();
+        for (LocalDateTime bucketStart = start; bucketStart.isBefore(end); bucketStart = granularity.next(bucketStart)) {
+            Bucket bucket = buckets.get(bucketStart);
+            if (bucket == null) {
+                content.add(new ActivityBucketDto(bucketStart, 0, 0, 0));
+            } else {
+                content.add(new ActivityBucketDto(bucketStart, bucket.posts, bucket.views, bucket.authors.estimate()));
+                total.add(bucket);
+            }
+        }
+        return new ActivityReportDto(granularity.name().toLowerCase(Locale.ROOT), start, end,
+                total.posts, total.views, total.authors.estimate(), content);
+    }
+
+    private int compactBatch(LocalDateTime before) {
+        List<ActivityRollup> hours = rollupRepository.findForCompaction(Granularity.HOUR, before,
+                Limit.of(COMPACTION_BATCH_SIZE));
+        if (hours.isEmpty()) {
+            return 0;
+        }
+
+        TreeMap<LocalDateTime, Bucket> days = new TreeMap<>();
+        for (ActivityRollup hour : hours) {
+            days.computeIfAbsent(Granularity.DAY.truncate(hour.getKey().getBucketStart()), d -> new Bucket()).add(hour);
+        }
+        days.forEach((day, bucket) -> addTo(Granularity.DAY, day, bucket));
+        rollupRepository.deleteRange(Granularity.HOUR,
+                hours.get(0).getKey().getBucketStart(), hours.get(hours.size() - 1).getKey().getBucketStart());
+        return hours.size();
+    }
+
+    // 기존 행이 있으면 잠그고 더하고, 없으면 새로 저장 (두 레플리카가 동시에 새 행을 만들면 한쪽이 실패해 다음 주기에 재시도)
+    private void addTo(Granularity granularity, LocalDateTime bucketStart, Bucket bucket) {
+        ActivityRollup.Key key = new ActivityRollup.Key(granularity, bucketStart);
+        rollupRepository.findForUpdate(key).ifPresentOrElse(
+                row -> {
+                    HyperLogLog authors = HyperLogLog.fromBytes(row.getAuthorSketch());
+                    authors.merge(bucket.authors);
+                    row.add(bucket.posts, bucket.views, authors.toBytes());
+                },
+                () -> rollupRepository.save(new ActivityRollup(key, bucket.posts, bucket.views, bucket.authors.toBytes())));
+    }
+
+    // 시간 구간을 유지하는 가장 이른 날 (이보다 이전 시간 구간은 일 구간으로 합친다)
+    private LocalDateTime hourlyCutoff() {
+        return Granularity.DAY.truncate(LocalDateTime.now().minus(hourlyRetention));
+    }
+
+    private synchronized TreeMap<LocalDateTime, Bucket> drain() {
+        TreeMap<LocalDateTime, Bucket> drained = pending;
+        pending = new TreeMap<>();
+        return drained;
+    }
+
+    private synchronized void restore(Map<LocalDateTime, Bucket> failed) {
+        failed.forEach((hour, bucket) -> pending.computeIfAbsent(hour, h -> new Bucket()).add(bucket));
+    }
+
+    private synchronized int pendingBuckets() {
+        return pending.size();
+    }
+
+    private static final class Bucket {
+
+        private long posts;
+        private long views;
+        private final HyperLogLog authors = new HyperLogLog();
+
+        void addPost(String author) {
+            posts++;
+            authors.add(author);
+        }
+
+        void addViews(long delta) {
+            views += delta;
+        }
+
+        void add(Bucket other) {
+            posts += other.posts;
+            views += other.views;
+            authors.merge(other.authors);
+        }
+
+        void add(ActivityRollup row) {
+            posts += row.getPostCount();
+            views += row.getViewCount();
+            authors.merge(HyperLogLog.fromBytes(row.getAuthorSketch()));
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.backend.stats;
+
+import com.example.backend.dto.AuthorStatsDto;
+import com.example.backend.event.PostCreatedEvent;
+import com.example.backend.event.ViewCountsFlushedEvent;
+import com.example.backend.repository.ArchivedPostRepository;
+import com.example.backend.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 작성자별 통계(게시글 수, 총 조회수, 첫/마지막 작성 시각)를 메모리에 유지
+ * - 게시글 생성과 조회수 반영 이벤트로 증분 갱신
+ * - 다른 레플리카의 변경분은 주기적인 DB 집계로 맞춘다 (그 사이 오차는 갱신 주기만큼)
+ * - 재집계는 집계 결과에 재집계 시작 이후 증가분만 더해 값을 바꾸고, 집계에 없는 작성자(게시글이 모두 삭제된 작성자)는 지운다
+ */
+@Component
+@Slf4j
+public class AuthorStatsStore {
+
+    private final PostRepository postRepository;
+    private final ArchivedPostRepository archivedPostRepository;
+    private final TransactionTemplate snapshotTransactionTemplate;
+
+    private final Map<String, AuthorStats> statsByAuthor = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    public AuthorStatsStore(PostRepository postRepository,
+                            ArchivedPostRepository archivedPostRepository,
+                            PlatformTransactionManager transactionManager) {
+        this.postRepository = postRepository;
+        this.archivedPostRepository = archivedPostRepository;
+        // 두 테이블을 같은 읽기 시점으로 집계 (보관 중인 게시글이 양쪽에서 두 번 세어지거나 빠지지 않도록)
+        // 복제 지연으로 이미 반영된 증가분이 빠지지 않도록 읽기 전용으로 표시하지 않아 주 DB에서 읽는다
+        this.snapshotTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTransactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    public AuthorStatsDto get(String author) {
+        if (!ready) {
+            // 첫 집계 전에는 DB에서 직접 조회
+            AuthorStatsDto hot = postRepository.findAuthorStats(author).orElseGet(() -> AuthorStatsDto.empty(author));
+            return archivedPostRepository.findAuthorStats(author).map(hot::merge).orElse(hot);
+        }
+        AuthorStats stats = statsByAuthor.get(author);
+        return stats == null ? AuthorStatsDto.empty(author) : stats.toDto(author);
+    }
+
+    public List<AuthorStatsDto> getAll(List<String> authors) {
+        return authors.stream().map(this::get).toList();
+    }
+
+    @TransactionalEventListener
+    public void onPostCreated(PostCreatedEvent event) {
+        update(event.post().getAuthor(), stats -> stats.addPost(event.post().getCreatedAt()));
+    }
+
+    @EventListener
+    public void onViewCountsFlushed(ViewCountsFlushedEvent event) {
+        for (ViewCountsFlushedEvent.ViewDelta delta : event.deltas()) {
+            update(delta.author(), stats -> stats.addViews(delta.views()));
+        }
+    }
+
+    /**
+     * DB 집계로 전체 통계를 다시 맞춘다
+     */
+    @Scheduled(fixedDelayString = "${app.author-stats.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        long started = System.currentTimeMillis();
+        Map<String, AuthorStatsDto> rows = snapshotTransactionTemplate.execute(status -> {
+            // 첫 읽기에서 트랜잭션의 읽기 시점이 정해진다 - 시점을 먼저 고정한 뒤 증가분을 따로 모으기 시작해
+            // 집계에 이미 포함된 변경이 증가분으로 한 번 더 더해지는 구간을 커밋 직후 이벤트가 발행되기까지로 줄인다
+            // (집계 쿼리가 도는 내내 열려 있던 이전 방식과 달리, 그 틈에 걸린 변경만 다음 재집계에서 바로잡힌다)
+            postRepository.existsById(0L);
+            statsByAuthor.values().forEach(AuthorStats::startSnapshot);
+
+            // 보관 테이블로 옮긴 게시글도 작성자 통계에 포함
+            Map<String, AuthorStatsDto> aggregated = new HashMap<>();
+            for (AuthorStatsDto row : postRepository.findAllAuthorStats()) {
+                aggregated.put(row.getAuthor(), row);
+            }
+            for (AuthorStatsDto row : archivedPostRepository.findAllAuthorStats()) {
+                aggregated.merge(row.getAuthor(), row, AuthorStatsDto::merge);
+            }
+            return aggregated;
+        });
+
+        for (AuthorStatsDto row : rows.values()) {
+            update(row.getAuthor(), stats -> stats.reset(row));
+        }
+        // 집계에 없는 작성자는 재집계 이후 증가분만 남기고, 그것도 없으면 지운다
+        int removed = 0;
+        for (String author : List.copyOf(statsByAuthor.keySet())) {
+            if (!rows.containsKey(author)
+                    && statsByAuthor.computeIfPresent(author, (key, stats) -> stats.resetToSnapshot() ? stats : null) == null) {
+                removed++;
+            }
+        }
+
+        ready = true;
+        log.info("작성자 통계 집계 완료 - 작성자 수: {}, 제거한 작성자 수: {}, 소요 시간: {}ms",
+                rows.size(), removed, System.currentTimeMillis() - started);
+    }
+
+    // 작성자 항목의 생성/변경/제거를 같은 키 잠금 안에서 처리 (재집계가 지운 항목에 증가분을 더해 잃어버리지 않도록)
+    private void update(String author, Consumer<AuthorStats> change) {
+        statsByAuthor.compute(author, (key, stats) -> {
+            AuthorStats target = stats == null ? new AuthorStats() : stats;
+            change.accept(target);
+            return target;
+        });
+    }
+
+    private static final class AuthorStats {
+
+        private long postCount;
+        private long totalViews;
+        private LocalDateTime firstPostAt;
+        private LocalDateTime lastPostAt;
+
+        // 재집계 시작 이후의 증가분
+        private long postsSinceSnapshot;
+        private long viewsSinceSnapshot;
+        private LocalDateTime firstSinceSnapshot;
+        private LocalDateTime lastSinceSnapshot;
+
+        synchronized void addPost(LocalDateTime createdAt) {
+            postCount++;
+            postsSinceSnapshot++;
+            firstPostAt = earlier(firstPostAt, createdAt);
+            lastPostAt = later(lastPostAt, createdAt);
+            firstSinceSnapshot = earlier(firstSinceSnapshot, createdAt);
+            lastSinceSnapshot = later(lastSinceSnapshot, createdAt);
+        }
+
+        synchronized void addViews(long views) {
+            totalViews += views;
+            viewsSinceSnapshot += views;
+        }
+
+        synchronized void startSnapshot() {
+            postsSinceSnapshot = 0;
+            viewsSinceSnapshot = 0;
+            firstSinceSnapshot = null;
+            lastSinceSnapshot = null;
+        }
+
+        synchronized void reset(AuthorStatsDto row) {
+            postCount = row.getTotalPosts() + postsSinceSnapshot;
+            totalViews = row.getTotalViews() + viewsSinceSnapshot;
+            firstPostAt = earlier(row.getFirstPostAt(), firstSinceSnapshot);
+            lastPostAt = later(row.getLastPostAt(), lastSinceSnapshot);
+            startSnapshot();
+        }
+
+        /**
+         * 집계에 없는 작성자: 재집계 시작 이후 증가분만 남긴다
+         * @return 남은 증가분이 있으면 true (없으면 항목을 지운다)
+         */
+        synchronized boolean resetToSnapshot() {
+            boolean hasIncrements = postsSinceSnapshot > 0 || viewsSinceSnapshot > 0;
+            postCount = postsSinceSnapshot;
+            totalViews = viewsSinceSnapshot;
+            firstPostAt = firstSinceSnapshot;
+            lastPostAt = lastSinceSnapshot;
+            startSnapshot();
+            return hasIncrements;
+        }
+
+        synchronized AuthorStatsDto toDto(String author) {
+            return new AuthorStatsDto(author, postCount, totalViews, firstPostAt, lastPostAt);
+        }
+
+        private static LocalDateTime earlier(LocalDateTime a, LocalDateTime b) {
+            return a == null || (b != null && b.isBefore(a)) ? b : a;
+        }
+
+        private static LocalDateTime later(LocalDateTime a, LocalDateTime b) {
+            return a == null || (b != null && b.isAfter(a)) ? b : a;
+        }
+    }
+}
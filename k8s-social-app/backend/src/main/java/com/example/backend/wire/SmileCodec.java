@@ -0,0 +1,162 @@
+package com.example.backend.wire;
+
+import com.example.backend.dto.PostResponseDto;
+import com.example.backend.dto.PostSummaryDto;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * 게시글 API의 이진 응답 형식 (Accept: application/x-jackson-smile)과 클라이언트 코덱
+ * - Smile: JSON과 같은 데이터 모델의 이진 인코딩 - 문자열 이스케이프/숫자 텍스트 변환이 없고 압축하지 않아도 작다
+ * - 필드 이름과 짧은 문자열 값(작성자 등)은 처음 한 번만 쓰고 이후 요소는 역참조로 보낸다 (목록에서 필드 이름 반복 없음)
+ * - 날짜(LocalDateTime)는 UTC로 본 epoch millis 정수 - 서버/클라이언트 JVM 시간대와 관계없이 같은 값으로 왕복한다
+ * - ETag는 JSON 응답의 ETag에 -smile을 붙인 값 (같은 버전이라도 표현마다 본문이 다르다)
+ * JSON은 그대로 기본 형식이다 (Accept가 없거나 JSON/와일드카드면 JSON)
+ * 다른 서비스와 모바일 클라이언트는 이 클래스로 응답을 디코딩한다 - 서버와 같은 ObjectMapper 설정을 사용
+ */
+public final class SmileCodec {
+
+    public static final MediaType MEDIA_TYPE = new MediaType("application", "x-jackson-smile");
+
+    private static final String ETAG_SUFFIX = "-smile";
+
+    private final ObjectMapper objectMapper = objectMapper();
+    private final ObjectReader summaryPageReader;
+    private final ObjectReader summaryListReader;
+    private final ObjectReader postReader;
+
+    public SmileCodec() {
+        JavaType summaryPage = objectMapper.getTypeFactory()
+                .constructParametricType(PageContent.class, PostSummaryDto.class);
+        JavaType summaryList = objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, PostSummaryDto.class);
+        this.summaryPageReader = objectMapper.readerFor(summaryPage);
+        this.summaryListReader = objectMapper.readerFor(summaryList);
+        this.postReader = objectMapper.readerFor(PostResponseDto.class);
+    }
+
+    /**
+     * 서버 응답과 클라이언트 디코딩에 쓰는 ObjectMapper (application.yml의 spring.jackson 설정과 같은 포함/역직렬화 규칙)
+     */
+    public static ObjectMapper objectMapper() {
+        SmileFactory factory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        return new Jackson2ObjectMapperBuilder()
+                .factory(factory)
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .featuresToDisable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .serializerByType(LocalDateTime.class, new EpochMillisSerializer())
+                .deserializerByType(LocalDateTime.class, new EpochMillisDeserializer())
+                .build();
+    }
+
+    /**
+     * Accept 헤더가 JSON보다 Smile을 우선(같은 q면 Smile)하면 true
+     * - Smile은 명시적으로 요청한 경우만 - 와일드카드(모든 형식, application 하위 전체)는 JSON으로 취급
+     */
+    public static boolean isPreferred(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return false;
+        }
+        double smile = 0;
+        double json = 0;
+        try {
+            for (MediaType type : MediaType.parseMediaTypes(accept)) {
+                if (type.equalsTypeAndSubtype(MEDIA_TYPE)) {
+                    smile = Math.max(smile, type.getQualityValue());
+                } else if (type.includes(MediaType.APPLICATION_JSON)) {
+                    json = Math.max(json, type.getQualityValue());
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return smile > 0 && smile >= json;
+    }
+
+    /**
+     * 같은 버전의 JSON 응답 ETag로 Smile 응답 ETag를 만든다 ("v" -> "v-smile", W/"v" -> W/"v-smile")
+     */
+    public static String etag(String jsonETag) {
+        if (jsonETag == null || !jsonETag.endsWith("\"")) {
+            return jsonETag;
+        }
+        return jsonETag.substring(0, jsonETag.length() - 1) + ETAG_SUFFIX + "\"";
+    }
+
+    public byte[] encode(Object value) throws IOException {
+        return objectMapper.writeValueAsBytes(value);
+    }
+
+    /**
+     * GET /api/posts, /api/posts/author/{author} 응답
+     */
+    public PageContent<PostSummaryDto> decodeSummaryPage(byte[] body) throws IOException {
+        return summaryPageReader.readValue(body);
+    }
+
+    /**
+     * GET /api/posts/popular 응답
+     */
+    public List<PostSummaryDto> decodeSummaries(byte[] body) throws IOException {
+        return summaryListReader.readValue(body);
+    }
+
+    /**
+     * GET /api/posts/{id} 응답
+     */
+    public PostResponseDto decodePost(byte[] body) throws IOException {
+        return postReader.readValue(body);
+    }
+
+    /**
+     * 페이지 응답(Page 직렬화)에서 클라이언트가 쓰는 필드 - 나머지(pageable, sort 등)는 무시
+     */
+    public record PageContent<T>(List<T> content, int number, int size, long totalElements, int totalPages) {
+    }
+
+    private static final class EpochMillisSerializer extends StdSerializer<LocalDateTime> {
+
+        EpochMillisSerializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public void serialize(LocalDateTime value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeNumber(value.toInstant(ZoneOffset.UTC).toEpochMilli());
+        }
+    }
+
+    private static final class EpochMillisDeserializer extends StdDeserializer<LocalDateTime> {
+
+        EpochMillisDeserializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public LocalDateTime deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(parser.getLongValue()), ZoneOffset.UTC);
+        }
+    }
+}
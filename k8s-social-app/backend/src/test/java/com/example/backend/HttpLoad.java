@@ -0,0 +1,94 @@
+package com.example.backend;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 벤치마크 테스트용 HTTP 부하 발생기 - 동시 요청 수를 유지하며 요청을 보내고 처리량과 지연 시간 분포를 잰다
+ */
+final class HttpLoad implements AutoCloseable {
+
+    private final ExecutorService clientExecutor = Executors.newFixedThreadPool(4);
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(clientExecutor)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    Result run(int concurrency, int requests, Supplier<URI> nextUri) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(concurrency);
+        CountDownLatch done = new CountDownLatch(requests);
+        long[] latencies = new long[requests];
+        long[] okLatencies = new long[requests];
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger ok = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        long started = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            inFlight.acquire();
+            HttpRequest request = HttpRequest.newBuilder(nextUri.get())
+                    .timeout(Duration.ofSeconds(60))
+                    .build();
+            long sent = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+                long latency = System.nanoTime() - sent;
+                latencies[completed.getAndIncrement()] = latency;
+                if (failure == null && response.statusCode() == 200) {
+                    okLatencies[ok.getAndIncrement()] = latency;
+                } else {
+                    errors.incrementAndGet();
+                    if (failure == null && response.statusCode() == 503) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                inFlight.release();
+                done.countDown();
+            });
+        }
+        done.await();
+        double seconds = (System.nanoTime() - started) / 1e9;
+
+        Arrays.sort(latencies);
+        long[] sortedOk = Arrays.copyOf(okLatencies, ok.get());
+        Arrays.sort(sortedOk);
+        return new Result(requests / seconds, latencies, sortedOk, completed.get(), errors.get(), rejected.get());
+    }
+
+    @Override
+    public void close() {
+        clientExecutor.shutdownNow();
+    }
+
+    /**
+     * latencies: 모든 응답, okLatencies: 200 응답만 (과부하 시 빠르게 거절된 503 응답을 빼고 본 지연), rejected: 503 응답 수
+     */
+    record Result(double throughput, long[] latencies, long[] okLatencies, int completed, int errors, int rejected) {
+
+        double percentile(double p) {
+            return percentile(latencies, p);
+        }
+
+        double okPercentile(double p) {
+            return percentile(okLatencies, p);
+        }
+
+        private static double percentile(long[] sorted, double p) {
+            if (sorted.length == 0) {
+                return Double.NaN;
+            }
+            int index = (int) Math.ceil(p * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.backend;
+
+import com.example.backend.dto.PostDto;
+import com.example.backend.service.PostBatchInserter;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 과부하: 동시 처리 한도 없음(커넥션 풀 대기) vs 적응형 한도(app.concurrency-limit)
+ * - 커넥션 풀을 benchmark.pool-size개(기본 4)로 줄이고 동시 연결 benchmark.connections개(기본 400)로 목록/상세 API를 호출
+ * - 성공(200) 응답의 p99, 거절(503) 수, 그 사이 /api/health 응답 시간(최대)과 실패 수를 비교
+ * ./gradlew benchmark --tests '*LoadSheddingBenchmarkTest'
+ */
+@Tag("benchmark")
+class LoadSheddingBenchmarkTest {
+
+    private static final int CONNECTIONS = Integer.getInteger("benchmark.connections", 400);
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 20_000);
+    private static final int POOL_SIZE = Integer.getInteger("benchmark.pool-size", 4);
+    private static final int POSTS = 5_000;
+
+    @Test
+    void compareUnlimitedWithAdaptiveLimit() throws Exception {
+        System.out.printf("CPU: %d, 동시 연결: %d, 요청 수: %d, 커넥션 풀: %d%n",
+                Runtime.getRuntime().availableProcessors(), CONNECTIONS, REQUESTS, POOL_SIZE);
+        System.out.printf("%-9s %10s %12s %12s %10s %8s %16s %14s%n", "limit", "ok/sec", "ok p50(ms)", "ok p99(ms)",
+                "rejected", "errors", "health max(ms)", "health fails");
+
+        Outcome unlimited = run("none", "app.concurrency-limit.enabled=false");
+        Outcome adaptive = run("adaptive", "app.concurrency-limit.enabled=true",
+                "app.concurrency-limit.initial-limit=" + POOL_SIZE * 2);
+
+        assertThat(adaptive.healthFailures()).isZero();
+        assertThat(adaptive.result().okPercentile(0.99)).isLessThanOrEqualTo(unlimited.result().okPercentile(0.99));
+    }
+
+    private Outcome run(String name, String... properties) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+                .profiles("h2")
+                .properties("server.port=0", "app.search.enabled=false", "app.post-cache.enabled=false",
+                        "app.response-cache.enabled=false",
+                        "app.access-log.enabled=false", "logging.level.root=WARN",
+                        "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE)
+                .properties(properties)
+                .run()) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+
+            List<PostDto> posts = new ArrayList<>(POSTS);
+            for (int i = 0; i < POSTS; i++) {
+                posts.add(new PostDto("게시글 " + i, "과부하 테스트용 게시글 내용 " + i, "작성자" + (i % 50)));
+            }
+            List<Long> ids = context.getBean(PostBatchInserter.class).insert(posts).stream()
+                    .map(outcome -> outcome.post().getId())
+                    .toList();
+
+            try (HttpLoad load = new HttpLoad(); HealthProbe probe = new HealthProbe(port)) {
+                load.run(CONNECTIONS, REQUESTS / 10, () -> nextUri(port, ids));
+                probe.start();
+                HttpLoad.Result result = load.run(CONNECTIONS, REQUESTS, () -> nextUri(port, ids));
+                probe.close();
+
+                double okPerSecond = result.throughput() * result.okLatencies().length / result.completed();
+                System.out.printf("%-9s %10.0f %12.1f %12.1f %10d %8d %16.1f %14d%n", name, okPerSecond,
+                        result.okPercentile(0.50), result.okPercentile(0.99), result.rejected(),
+                        result.errors() - result.rejected(), probe.maxMillis(), probe.failures.get());
+                return new Outcome(result, probe.failures.get());
+            }
+        }
+    }
+
+    private static URI nextUri(int port, List<Long> ids) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String path = random.nextBoolean()
+                ? "/api/posts?page=" + random.nextInt(200) + "&size=20"
+                : "/api/posts/" + ids.get(random.nextInt(ids.size()));
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private record Outcome(HttpLoad.Result result, int healthFailures) {
+    }
+
+    /**
+     * 부하 중에 kubelet처럼 100ms마다 헬스 체크를 보낸다 (타임아웃 1초 = 프로브 timeoutSeconds 기본값)
+     */
+    private static final class HealthProbe implements AutoCloseable {
+
+        private final HttpClient client = HttpClient.newHttpClient();
+        private final HttpRequest request;
+        private final AtomicBoolean running = new AtomicBoolean(true);
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicInteger failures = new AtomicInteger();
+        private final Thread thread;
+
+        HealthProbe(int port) {
+            this.request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/health"))
+                    .timeout(Duration.ofSeconds(1))
+                    .build();
+            this.thread = new Thread(this::probe, "health-probe");
+        }
+
+        void start() {
+            thread.start();
+        }
+
+        private void probe() {
+            while (running.get()) {
+                long started = System.nanoTime();
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+                        failures.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                }
+                maxNanos.accumulateAndGet(System.nanoTime() - started, Math::max);
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+
+        double maxMillis() {
+            return maxNanos.get() / 1e6;
+        }
+
+        @Override
+        public void close() throws InterruptedException {
+            running.set(false);
+            thread.join();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.backend;
+
+import com.example.backend.dto.PostDto;
+import com.example.backend.service.PostBatchInserter;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그 출력: 동기 콘솔 출력 + SQL 로그(기존 기본 설정) vs production 설정(비동기 JSON, 샘플링된 요청 로그) 처리량 비교
+ * - 콘솔 출력은 임시 파일로 돌려 실제 I/O를 유지하면서 테스트 출력이 넘치지 않게 한다
+ * ./gradlew benchmark --tests '*LoggingBenchmarkTest'
+ */
+@Tag("benchmark")
+class LoggingBenchmarkTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 64);
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 20_000);
+    private static final int POSTS = 1_000;
+
+    private static final String[] COMMON = {
+            "server.port=0", "app.search.enabled=false", "app.post-cache.enabled=false",
+            "app.response-cache.enabled=false", "app.concurrency-limit.enabled=false"
+    };
+
+    @Test
+    void compareSyncConsoleWithAsyncJson() throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("%-7s %10s %10s %10s %12s", "logging", "req/sec", "p50(ms)", "p99(ms)", "log bytes"));
+
+        lines.add(run("sync", new String[]{"h2"},
+                "spring.jpa.show-sql=true",
+                "spring.jpa.properties.hibernate.format_sql=true",
+                "spring.jpa.properties.hibernate.use_sql_comments=true",
+                "logging.level.org.hibernate.SQL=DEBUG",
+                "logging.level.org.hibernate.orm.jdbc.bind=TRACE",
+                // 이전처럼 컨트롤러가 요청마다 로그를 남기도록
+                "logging.level.com.example.backend.controller=DEBUG",
+                "app.access-log.enabled=false"));
+        lines.add(run("async", new String[]{"h2", "production"},
+                "app.access-log.sample-rate=0.01"));
+
+        lines.forEach(System.out::println);
+    }
+
+    private String run(String name, String[] profiles, String... properties) throws Exception {
+        File logFile = File.createTempFile("logging-benchmark-" + name, ".log");
+        logFile.deleteOnExit();
+
+        PrintStream originalOut = System.out;
+        HttpLoad.Result result;
+        try (PrintStream fileOut = new PrintStream(new FileOutputStream(logFile), false)) {
+            System.setOut(fileOut);
+            try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+                    .profiles(profiles)
+                    .properties(COMMON)
+                    .properties(properties)
+                    .run()) {
+                int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+                List<Long> ids = insertPosts(context);
+
+                try (HttpLoad load = new HttpLoad()) {
+                    load.run(CONCURRENCY, REQUESTS / 10, () -> nextUri(port, ids));
+                    result = load.run(CONCURRENCY, REQUESTS, () -> nextUri(port, ids));
+                }
+            }
+        } finally {
+            System.setOut(originalOut);
+        }
+
+        assertThat(result.errors()).isZero();
+        return String.format("%-7s %10.0f %10.1f %10.1f %12d", name, result.throughput(),
+                result.percentile(0.50), result.percentile(0.99), logFile.length());
+    }
+
+    private static List<Long> insertPosts(ConfigurableApplicationContext context) {
+        List<PostDto> posts = new ArrayList<>(POSTS);
+        for (int i = 0; i < POSTS; i++) {
+            posts.add(new PostDto("게시글 " + i, "로그 부하 테스트용 게시글 내용 " + i, "작성자" + (i % 50)));
+        }
+        return context.getBean(PostBatchInserter.class).insert(posts).stream()
+                .map(outcome -> outcome.post().getId())
+                .toList();
+    }
+
+    private static URI nextUri(int port, List<Long> ids) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String path = random.nextBoolean()
+                ? "/api/posts?page=" + random.nextInt(50) + "&size=20"
+                : "/api/posts/" + ids.get(random.nextInt(ids.size()));
+        return URI.create("http://localhost:" + port + path);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.backend;
+
+import com.example.backend.cache.FeedVersion;
+import com.example.backend.dto.PostDto;
+import com.example.backend.service.PostBatchInserter;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 피드 읽기: 기존 PostController + PostService(JDBC, 요청마다 Tomcat 스레드와 Hikari 커넥션 점유)
+ * vs reactive 프로필의 /api/reactive 경로(R2DBC, 쿼리 동안 스레드 반환) 처리량/지연 비교
+ * - 두 경로를 같은 애플리케이션에서 번갈아 측정 - Tomcat 스레드 benchmark.tomcat-threads개(기본 50),
+ *   Hikari와 R2DBC 풀은 각각 benchmark.pool-size개(기본 10)로 제한해 파드 한 개의 풀 크기 상한을 재현
+ * - 최신순 피드/작성자별 피드/인기/상세 조회를 섞어서 호출 (캐시를 끄고 실행하므로 모두 DB를 거친다)
+ * ./gradlew benchmark -PbenchmarkCpus=1 --tests '*ReactiveReadBenchmarkTest'
+ */
+@Tag("benchmark")
+class ReactiveReadBenchmarkTest {
+
+    private static final int CONNECTIONS = Integer.getInteger("benchmark.connections", 500);
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 20_000);
+    private static final int TOMCAT_THREADS = Integer.getInteger("benchmark.tomcat-threads", 50);
+    private static final int POOL_SIZE = Integer.getInteger("benchmark.pool-size", 10);
+    private static final int POSTS = 5_000;
+
+    @Test
+    void compareBlockingWithReactiveReads() throws Exception {
+        String database = "social_reactive_benchmark";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+                .profiles("h2", "reactive")
+                .properties("server.port=0", "app.search.enabled=false", "app.post-cache.enabled=false",
+                        "app.response-cache.enabled=false", "app.access-log.enabled=false",
+                        "app.concurrency-limit.enabled=false", "logging.level.root=WARN",
+                        "server.tomcat.threads.max=" + TOMCAT_THREADS,
+                        "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "app.reactive.r2dbc.pool.max-size=" + POOL_SIZE,
+                        "spring.datasource.url=jdbc:h2:mem:" + database
+                                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "app.reactive.r2dbc.url=r2dbc:h2:mem:///" + database
+                                + "?options=MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+                .run()) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+
+            List<PostDto> posts = new ArrayList<>(POSTS);
+            String content = "쿠버네티스 클러스터에 스프링부트 애플리케이션을 배포했습니다. ".repeat(5);
+            for (int i = 0; i < POSTS; i++) {
+                posts.add(new PostDto("게시글 제목 " + i, content + i, "작성자" + (i % 50)));
+            }
+            List<Long> ids = context.getBean(PostBatchInserter.class).insert(posts).stream()
+                    .map(outcome -> outcome.post().getId())
+                    .toList();
+            context.getBean(FeedVersion.class).reconcile();
+
+            System.out.printf("CPU: %d, 동시 연결: %d, 요청 수: %d, Tomcat 스레드: %d, 풀 크기: %d%n",
+                    Runtime.getRuntime().availableProcessors(), CONNECTIONS, REQUESTS, TOMCAT_THREADS, POOL_SIZE);
+            System.out.printf("%-9s %10s %10s %10s %10s %8s%n", "path", "req/sec", "p50(ms)", "p99(ms)", "max(ms)", "errors");
+
+            HttpLoad.Result blocking = run("blocking", port, "/api", ids);
+            HttpLoad.Result reactive = run("reactive", port, "/api/reactive", ids);
+            assertThat(blocking.errors()).isZero();
+            assertThat(reactive.errors()).isZero();
+        }
+    }
+
+    private HttpLoad.Result run(String name, int port, String prefix, List<Long> ids) throws Exception {
+        try (HttpLoad load = new HttpLoad()) {
+            load.run(CONNECTIONS, REQUESTS / 10, () -> nextUri(port, prefix, ids));
+            HttpLoad.Result result = load.run(CONNECTIONS, REQUESTS, () -> nextUri(port, prefix, ids));
+            System.out.printf("%-9s %10.0f %10.1f %10.1f %10.1f %8d%n", name, result.throughput(),
+                    result.percentile(0.50), result.percentile(0.99), result.percentile(1.0), result.errors());
+            return result;
+        }
+    }
+
+    private static URI nextUri(int port, String prefix, List<Long> ids) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String path = switch (random.nextInt(4)) {
+            case 0 -> "/posts?cursor=&size=20";
+            case 1 -> "/posts/author/" + URLEncoder.encode("작성자" + random.nextInt(50), StandardCharsets.UTF_8)
+                    + "?cursor=&size=20";
+            case 2 -> "/posts/popular";
+            default -> "/posts/" + ids.get(random.nextInt(ids.size()));
+        };
+        return URI.create("http://localhost:" + port + prefix + path);
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.backend;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시작 시간: 기본 설정 vs fast-start 프로필 vs fast-start + AppCDS 아카이브
+ * - 별도 JVM을 띄워 프로세스 시작부터 /actuator/health/readiness가 200을 반환할 때까지(time-to-ready)를 잰다
+ * - 이미지와 같이 bootJar를 풀어서(jarmode=tools extract) jar 클래스패스로 실행한다 (CDS 아카이브는 jar만 담는다)
+ * - DB는 H2 파일 DB: 측정 전 한 번 기본 설정(ddl-auto=update)으로 띄워 스키마를 만들고,
+ *   이후 각 설정은 자기 ddl-auto 그대로 시작한다 (기본은 스키마 비교, fast-start는 생략)
+ * - Spring AOT는 bootJar(-PfastStart)에만 포함되므로 이미지로 비교: Dockerfile vs Dockerfile.fast-start
+ * ./gradlew benchmark --tests '*StartupBenchmarkTest' -Dbenchmark.startup.runs=5
+ */
+@Tag("benchmark")
+class StartupBenchmarkTest {
+
+    private static final int RUNS = Integer.getInteger("benchmark.startup.runs", 3);
+    private static final Duration READY_TIMEOUT = Duration.ofSeconds(120);
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    private String classpath;
+    private List<String> common;
+
+    @Test
+    void compareTimeToReady(@TempDir Path tempDir) throws Exception {
+        String bootJar = System.getProperty("benchmark.startup.jar");
+        Assumptions.assumeTrue(bootJar != null && Files.exists(Path.of(bootJar)),
+                "bootJar가 필요합니다: ./gradlew benchmark (bootJar에 의존)");
+        classpath = extract(Path.of(bootJar), tempDir) + File.pathSeparator + h2Jar();
+        common = List.of(
+                "--spring.datasource.url=jdbc:h2:file:" + tempDir.resolve("startup") + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+                "--spring.datasource.username=sa", "--spring.datasource.password=",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--logging.level.root=WARN", "--management.endpoint.health.probes.enabled=true");
+        Path archive = tempDir.resolve("app.jsa");
+
+        // 스키마 준비 (측정하지 않음)
+        timeToReady(List.of(), "default");
+
+        System.out.printf("CPU: %d, 실행 횟수: %d%n", Runtime.getRuntime().availableProcessors(), RUNS);
+        System.out.printf("%-18s %12s %12s%n", "startup", "median(ms)", "min(ms)");
+
+        long baseline = report("default", List.of(), "default");
+        long fastStart = report("fast-start", List.of(), "fast-start");
+
+        // 학습 실행: 컨텍스트 구성 직후 종료하며 로드한 클래스를 아카이브로 저장
+        Process training = start(List.of("-XX:ArchiveClassesAtExit=" + archive, "-Dspring.context.exit=onRefresh"),
+                "fast-start", freePort());
+        assertThat(training.waitFor(READY_TIMEOUT.toSeconds(), TimeUnit.SECONDS)).isTrue();
+        assertThat(archive).exists();
+
+        long cds = report("fast-start + CDS", List.of("-XX:SharedArchiveFile=" + archive), "fast-start");
+
+        System.out.printf("fast-start: %.0f%%, fast-start + CDS: %.0f%% (기본 대비)%n",
+                100.0 * fastStart / baseline, 100.0 * cds / baseline);
+    }
+
+    private long report(String name, List<String> jvmArgs, String profiles) throws Exception {
+        long[] millis = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            millis[i] = timeToReady(jvmArgs, profiles);
+        }
+        Arrays.sort(millis);
+        System.out.printf("%-18s %12d %12d%n", name, millis[RUNS / 2], millis[0]);
+        return millis[RUNS / 2];
+    }
+
+    private long timeToReady(List<String> jvmArgs, String profiles) throws Exception {
+        int port = freePort();
+        long started = System.nanoTime();
+        Process process = start(jvmArgs, profiles, port);
+        try {
+            HttpRequest readiness = HttpRequest.newBuilder(
+                    URI.create("http://localhost:" + port + "/actuator/health/readiness")).build();
+            while (System.nanoTime() - started < READY_TIMEOUT.toNanos()) {
+                assertThat(process.isAlive()).as("애플리케이션이 시작 중 종료됨").isTrue();
+                try {
+                    if (client.send(readiness, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return (System.nanoTime() - started) / 1_000_000;
+                    }
+                } catch (IOException e) {
+                    // 아직 포트가 열리지 않음
+                }
+                Thread.sleep(20);
+            }
+            throw new AssertionError("시작 시간 초과: " + READY_TIMEOUT);
+        } finally {
+            process.destroy();
+            process.waitFor(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private Process start(List<String> jvmArgs, String profiles, int port) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(java());
+        command.addAll(jvmArgs);
+        command.add("-cp");
+        command.add(classpath);
+        command.add(BackendApplication.class.getName());
+        command.add("--spring.profiles.active=" + profiles);
+        command.add("--server.port=" + port);
+        command.addAll(common);
+
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.to(Files.createTempFile("startup", ".log").toFile()))
+                .start();
+    }
+
+    /**
+     * Dockerfile.fast-start와 같은 방식으로 풀고, 풀린 app.jar 경로를 반환한다 (의존성은 manifest Class-Path의 lib/)
+     */
+    private static Path extract(Path bootJar, Path tempDir) throws Exception {
+        Path jar = Files.copy(bootJar, tempDir.resolve("app.jar"), StandardCopyOption.REPLACE_EXISTING);
+        Path destination = tempDir.resolve("application");
+        Process extract = new ProcessBuilder(java(), "-Djarmode=tools", "-jar", jar.toString(),
+                "extract", "--destination", destination.toString())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        assertThat(extract.waitFor(READY_TIMEOUT.toSeconds(), TimeUnit.SECONDS)).isTrue();
+        assertThat(extract.exitValue()).isZero();
+        return destination.resolve("app.jar");
+    }
+
+    // H2는 테스트 의존성이라 bootJar에 없다 - 테스트 클래스패스의 jar를 덧붙인다
+    private static String h2Jar() throws Exception {
+        return Path.of(Class.forName("org.h2.Driver").getProtectionDomain().getCodeSource().getLocation().toURI())
+                .toString();
+    }
+
+    private static String java() {
+        return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.backend;
+
+import com.example.backend.dto.PostDto;
+import com.example.backend.service.PostBatchInserter;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 처리 스레드: 플랫폼 스레드(Tomcat 기본 풀) vs 가상 스레드(virtual-threads 프로필) 처리량/p99 비교
+ * - 동시 연결 benchmark.connections개(기본 1000)를 유지하며 DB를 읽는 목록/상세 API를 호출
+ * - 파드 CPU 제한(500m)은 -PbenchmarkCpus=1 또는 docker --cpus=0.5로 재현 (부하 클라이언트도 같은 JVM에서 실행됨)
+ * - 가상 스레드 측정은 Java 21 이상에서만 실행: ./gradlew benchmark -PjavaVersion=21 -PbenchmarkCpus=1 --tests '*ThreadModelBenchmarkTest'
+ */
+@Tag("benchmark")
+class ThreadModelBenchmarkTest {
+
+    private static final int CONNECTIONS = Integer.getInteger("benchmark.connections", 1_000);
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 20_000);
+    private static final int POSTS = 1_000;
+
+    @Test
+    void comparePlatformWithVirtualThreads() throws Exception {
+        System.out.printf("CPU: %d, 동시 연결: %d, 요청 수: %d%n",
+                Runtime.getRuntime().availableProcessors(), CONNECTIONS, REQUESTS);
+        System.out.printf("%-9s %10s %10s %10s %10s %8s%n", "threads", "req/sec", "p50(ms)", "p99(ms)", "max(ms)", "errors");
+
+        HttpLoad.Result platform = run("platform", "h2");
+        assertThat(platform.completed()).isEqualTo(REQUESTS);
+
+        if (Runtime.version().feature() >= 21) {
+            HttpLoad.Result virtual = run("virtual", "h2", "virtual-threads");
+            assertThat(virtual.completed()).isEqualTo(REQUESTS);
+        } else {
+            System.out.printf("%-9s Java %d에서는 가상 스레드를 사용할 수 없어 건너뜀 (-PjavaVersion=21)%n",
+                    "virtual", Runtime.version().feature());
+        }
+    }
+
+    private HttpLoad.Result run(String name, String... profiles) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+                .profiles(profiles)
+                .properties("server.port=0", "app.search.enabled=false", "app.post-cache.enabled=false",
+                        "app.response-cache.enabled=false",
+                        "app.concurrency-limit.enabled=false", "logging.level.root=WARN")
+                .run()) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+
+            List<PostDto> posts = new ArrayList<>(POSTS);
+            for (int i = 0; i < POSTS; i++) {
+                posts.add(new PostDto("게시글 " + i, "부하 테스트용 게시글 내용 " + i, "작성자" + (i % 50)));
+            }
+            List<Long> ids = context.getBean(PostBatchInserter.class).insert(posts).stream()
+                    .map(outcome -> outcome.post().getId())
+                    .toList();
+
+            try (HttpLoad load = new HttpLoad()) {
+                load.run(CONNECTIONS, REQUESTS / 10, () -> nextUri(port, ids));
+                HttpLoad.Result result = load.run(CONNECTIONS, REQUESTS, () -> nextUri(port, ids));
+                System.out.printf("%-9s %10.0f %10.1f %10.1f %10.1f %8d%n", name, result.throughput(),
+                        result.percentile(0.50), result.percentile(0.99), result.percentile(1.0), result.errors());
+                return result;
+            }
+        }
+    }
+
+    // 목록(요약 프로젝션 + COUNT)과 상세 조회를 섞어서 호출 - 캐시를 끄고 실행하므로 모두 DB를 거친다
+    private static URI nextUri(int port, List<Long> ids) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String path = random.nextBoolean()
+                ? "/api/posts?page=" + random.nextInt(50) + "&size=20"
+                : "/api/posts/" + ids.get(random.nextInt(ids.size()));
+        return URI.create("http://localhost:" + port + path);
+    }
+}
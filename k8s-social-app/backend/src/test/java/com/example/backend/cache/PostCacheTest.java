@@ -0,0 +1,119 @@
+package com.example.backend.cache;
+
+import com.example.backend.dto.PostResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회수 반영(무효화)과 겹친 캐시 미스가 조회수를 두 번 세거나 오래된 값을 남기지 않고,
+ * 다른 게시글의 무효화는 진행 중인 조회의 저장을 막지 않는지 확인
+ */
+class PostCacheTest {
+
+    private static final Long POST_ID = 1L;
+
+    // DB의 조회수 - 반영(flush)은 이 값을 올린 뒤 캐시를 무효화한다
+    private final AtomicLong storedViews = new AtomicLong(10);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @ParameterizedTest
+    @ValueSource(strings = {"tinylfu", "lru"})
+    void cachedEntryIsReloadedAfterFlush(String policy) {
+        PostCache cache = cache(policy);
+        assertThat(cache.get(POST_ID, this::load).getViewCount()).isEqualTo(10);
+        assertThat(cache.get(POST_ID, this::load).getViewCount()).isEqualTo(10);
+        assertThat(loads).hasValue(1);
+
+        flush(cache, 3);
+
+        assertThat(cache.get(POST_ID, this::load).getViewCount()).isEqualTo(13);
+        assertThat(loads).hasValue(2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"tinylfu", "lru"})
+    void loadAfterCommitIsNotCountedTwice(String policy) {
+        PostCache cache = cache(policy);
+
+        // 반영 커밋 직후, 무효화 전에 읽은 값 - 이미 증가량이 들어 있다
+        storedViews.addAndGet(3);
+        PostResponseDto loaded = cache.get(POST_ID, this::load);
+        cache.invalidateAll(List.of(POST_ID));
+
+        assertThat(loaded.getViewCount()).isEqualTo(13);
+        assertThat(cache.get(POST_ID, this::load).getViewCount()).isEqualTo(13);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"tinylfu", "lru"})
+    void loadOverlappingFlushIsNotCached(String policy) {
+        PostCache cache = cache(policy);
+
+        // 커밋 전에 읽고, 저장하기 전에 반영이 끝난 경우
+        Function<Long, PostResponseDto> staleLoader = id -> {
+            PostResponseDto stale = load(id);
+            flush(cache, 3);
+            return stale;
+        };
+        assertThat(cache.get(POST_ID, staleLoader).getViewCount()).isEqualTo(10);
+
+        assertThat(cache.getIfPresent(POST_ID)).isNull();
+        assertThat(cache.get(POST_ID, this::load).getViewCount()).isEqualTo(13);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"tinylfu", "lru"})
+    void asyncPutIsDroppedWhenFlushHappenedDuringLoad(String policy) {
+        PostCache cache = cache(policy);
+
+        long loadedAt = cache.generation(POST_ID);
+        PostResponseDto stale = load(POST_ID);
+        flush(cache, 3);
+        cache.put(POST_ID, stale, loadedAt);
+        assertThat(cache.getIfPresent(POST_ID)).isNull();
+
+        cache.put(POST_ID, load(POST_ID), cache.generation(POST_ID));
+        assertThat(cache.getIfPresent(POST_ID).getViewCount()).isEqualTo(13);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"tinylfu", "lru"})
+    void otherPostInvalidationDoesNotDropLoad(String policy) {
+        PostCache cache = cache(policy);
+
+        // 읽는 동안 다른 게시글이 생성/무효화된 경우
+        Function<Long, PostResponseDto> loader = id -> {
+            PostResponseDto loaded = load(id);
+            cache.invalidate(POST_ID + 1);
+            return loaded;
+        };
+        cache.get(POST_ID, loader);
+
+        assertThat(cache.getIfPresent(POST_ID)).isNotNull();
+        assertThat(loads).hasValue(1);
+    }
+
+    private void flush(PostCache cache, long views) {
+        storedViews.addAndGet(views);
+        cache.invalidateAll(List.of(POST_ID));
+    }
+
+    private PostResponseDto load(Long id) {
+        loads.incrementAndGet();
+        LocalDateTime now = LocalDateTime.now();
+        return new PostResponseDto(id, "제목", "내용", "작성자", now, now, storedViews.get());
+    }
+
+    private static PostCache cache(String policy) {
+        return new PostCache(true, policy, 1 << 20, 300, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.backend.controller;
+
+import com.example.backend.cache.FeedVersion;
+import com.example.backend.dto.PostDto;
+import com.example.backend.service.PostBatchInserter;
+import com.example.backend.service.PostService;
+import com.example.backend.service.ViewCountBuffer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 폴링: 매번 전체 응답(이전) vs If-None-Match 조건부 요청(이후) 비교
+ * 요청당 평균 지연 시간과 전송 바이트(gzip 적용 후)를 출력 (동작 확인은 ConditionalRequestTest)
+ * ./gradlew benchmark --tests '*ConditionalRequestBenchmarkTest'
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"app.search.enabled=false", "app.access-log.enabled=false"})
+@ActiveProfiles("h2")
+class ConditionalRequestBenchmarkTest {
+
+    private static final int POSTS = 2_000;
+    private static final int ITERATIONS = 2_000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private PostBatchInserter postBatchInserter;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private ViewCountBuffer viewCountBuffer;
+
+    @Autowired
+    private FeedVersion feedVersion;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void compareFullPollingWithConditionalRequests() throws Exception {
+        List<PostDto> posts = new ArrayList<>();
+        String content = "쿠버네티스 클러스터에 스프링부트 애플리케이션을 배포했습니다. ".repeat(10);
+        for (int i = 0; i < POSTS; i++) {
+            posts.add(new PostDto("게시글 제목 " + i, content, "작성자" + (i % 50)));
+        }
+        postBatchInserter.insert(posts);
+        feedVersion.reconcile();
+
+        URI feed = URI.create("http://localhost:" + port + "/api/posts?page=0&size=50");
+        HttpResponse<byte[]> first = get(feed, null);
+        String etag = first.headers().firstValue("ETag").orElseThrow();
+
+        System.out.printf("%-12s %8s %14s %10s%n", "polling", "status", "bytes/req", "avg(ms)");
+        measure("full", feed, null);
+        measure("conditional", feed, etag);
+
+        // 조회수 반영 후에는 목록 버전이 바뀌어 다시 200
+        Long postId = postService.getAllPosts(0, 1).getContent().get(0).getId();
+        get(URI.create("http://localhost:" + port + "/api/posts/" + postId), null);
+        viewCountBuffer.flush();
+        assertThat(get(feed, etag).statusCode()).isEqualTo(200);
+    }
+
+    private void measure(String name, URI uri, String etag) throws Exception {
+        for (int i = 0; i < ITERATIONS / 5; i++) {
+            get(uri, etag);
+        }
+
+        long bytes = 0;
+        int status = 0;
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            HttpResponse<byte[]> response = get(uri, etag);
+            bytes += response.body().length;
+            status = response.statusCode();
+        }
+        double avgMillis = (System.nanoTime() - started) / 1e6 / ITERATIONS;
+        System.out.printf("%-12s %8d %14d %10.3f%n", name, status, bytes / ITERATIONS, avgMillis);
+
+        assertThat(status).isEqualTo(etag == null ? 200 : 304);
+    }
+
+    private HttpResponse<byte[]> get(URI uri, String etag) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri).header("Accept-Encoding", "gzip");
+        if (etag != null) {
+            request.header("If-None-Match", etag);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.backend.controller;
+
+import com.example.backend.cache.FeedVersion;
+import com.example.backend.dto.PostDto;
+import com.example.backend.dto.PostResponseDto;
+import com.example.backend.service.PostService;
+import com.example.backend.service.ViewCountBuffer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조건부 요청(ETag/304): 목록 버전이 이 인스턴스의 게시글 생성/조회수 반영으로 바로 바뀌고,
+ * 다른 레플리카의 변경은 재집계 후에 반영되며, 304 응답에서도 조회수가 기록되는지 확인
+ * (자동 재집계와 조회수 반영은 테스트가 직접 호출하도록 주기를 길게 둔다)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.search.enabled=false", "app.access-log.enabled=false",
+        "app.view-count.flush-interval-ms=3600000", "app.feed-version.reconcile-interval-ms=3600000"})
+@ActiveProfiles("h2")
+class ConditionalRequestTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private ViewCountBuffer viewCountBuffer;
+
+    @Autowired
+    private FeedVersion feedVersion;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void feedVersionChangesOnLocalCreateAndViewFlush() throws Exception {
+        Long id = createPost("목록 버전 확인").getId();
+        feedVersion.reconcile();
+        URI feed = uri("/api/posts?page=0&size=20");
+        String etag = etagOf(get(feed, null));
+        assertThat(get(feed, etag).statusCode()).isEqualTo(304);
+
+        // 재집계 없이 이벤트만으로 버전이 바뀐다
+        createPost("새 게시글");
+        assertThat(get(feed, etag).statusCode()).isEqualTo(200);
+
+        etag = etagOf(get(feed, null));
+        viewCountBuffer.recordView(id, "작성자");
+        viewCountBuffer.flush();
+        assertThat(get(feed, etag).statusCode()).isEqualTo(200);
+    }
+
+    @Test
+    void reconcilePicksUpChangesFromOtherReplicas() throws Exception {
+        Long id = createPost("다른 레플리카 변경").getId();
+        feedVersion.reconcile();
+        URI feed = uri("/api/posts?page=0&size=20");
+        String etag = etagOf(get(feed, null));
+
+        // 다른 레플리카의 조회수 반영 - 재집계 전까지는 이 인스턴스의 버전이 그대로
+        jdbcTemplate.update("UPDATE posts SET view_count = view_count + 5 WHERE id = ?", id);
+        assertThat(get(feed, etag).statusCode()).isEqualTo(304);
+
+        feedVersion.reconcile();
+        assertThat(get(feed, etag).statusCode()).isEqualTo(200);
+    }
+
+    @Test
+    void countsViewsOnNotModifiedPost() throws Exception {
+        PostResponseDto post = createPost("조건부 조회");
+        URI uri = uri("/api/posts/" + post.getId());
+
+        HttpResponse<String> first = get(uri, null);
+        assertThat(first.statusCode()).isEqualTo(200);
+        assertThat(first.headers().firstValue("Last-Modified")).isPresent();
+        String etag = etagOf(first);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(get(uri, etag).statusCode()).isEqualTo(304);
+        }
+        viewCountBuffer.flush();
+
+        // 처음 1회 + 304 10회가 반영되고, 이번 조회 1회는 응답에 더해진다
+        assertThat(get(uri, null).body()).contains("\"viewCount\":12");
+    }
+
+    private PostResponseDto createPost(String title) {
+        return postService.createPost(new PostDto(title, "조건부 요청 확인용 내용", "작성자"));
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static String etagOf(HttpResponse<String> response) {
+        return response.headers().firstValue("ETag").orElseThrow();
+    }
+
+    private HttpResponse<String> get(URI uri, String etag) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri);
+        if (etag != null) {
+            request.header("If-None-Match", etag);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
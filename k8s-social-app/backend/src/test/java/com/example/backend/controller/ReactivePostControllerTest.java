@@ -0,0 +1,237 @@
+package com.example.backend.controller;
+
+import com.example.backend.cache.FeedVersion;
+import com.example.backend.dto.PostDto;
+import com.example.backend.dto.PostResponseDto;
+import com.example.backend.model.ArchivedPost;
+import com.example.backend.service.PostBatchInserter;
+import com.example.backend.service.PostExportService;
+import com.example.backend.wire.SmileCodec;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 비동기 읽기 경로(reactive 프로필)가 기존 PostController와 같은 응답(Smile 표현별 ETag 포함)을 주는지 확인
+ * (조회수 반영으로 목록 버전이 바뀌지 않도록 반영 주기를 길게 둔다)
+ * JPA(JDBC)와 R2DBC가 같은 H2 메모리 DB를 사용하도록 두 URL의 DB 이름을 맞춘다
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:social_reactive;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "app.reactive.r2dbc.url=r2dbc:h2:mem:///social_reactive?options=MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "app.search.enabled=false", "app.access-log.enabled=false", "app.view-count.flush-interval-ms=3600000"})
+@ActiveProfiles({"h2", "reactive"})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReactivePostControllerTest {
+
+    private static final int POSTS = 30;
+    private static final int ARCHIVED_POSTS = 5;
+    private static final String AUTHOR = "작성자1";
+    private static final String SMILE = "application/x-jackson-smile";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private PostBatchInserter postBatchInserter;
+
+    @Autowired
+    private FeedVersion feedVersion;
+
+    @Autowired
+    private PostExportService postExportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private List<Long> ids;
+
+    @BeforeAll
+    void insertPosts() {
+        List<PostDto> posts = new ArrayList<>(POSTS);
+        for (int i = 0; i < POSTS; i++) {
+            posts.add(new PostDto("게시글 " + i, "비동기 읽기 경로 확인용 게시글 내용 ".repeat(3) + i, "작성자" + (i % 3)));
+        }
+        ids = postBatchInserter.insert(posts).stream().map(outcome -> outcome.post().getId()).toList();
+        // 인기 게시글 순서가 같은 조회수 때문에 쿼리마다 달라지지 않도록 서로 다른 조회수를 준다
+        jdbcTemplate.update("UPDATE posts SET view_count = id * 3");
+        // 보관된 게시글 - 활성 게시글보다 오래됐고 id가 겹치지 않는다 (PostArchiver가 옮긴 것과 같은 형태)
+        for (int i = 1; i <= ARCHIVED_POSTS; i++) {
+            jdbcTemplate.update("INSERT INTO " + ArchivedPost.TABLE + " (id, title, content, author, created_at, updated_at, " +
+                            "content_preview, view_count, archived_at) VALUES (?, ?, ?, ?, ?, ?, ?, 0, CURRENT_TIMESTAMP)",
+                    1_000_000L + i, "보관 게시글 " + i, "보관된 게시글 내용 " + i, "작성자" + (i % 3),
+                    LocalDateTime.of(2020, 1, i, 0, 0), LocalDateTime.of(2020, 1, i, 0, 0), "보관된 게시글 내용 " + i);
+        }
+        feedVersion.reconcile();
+    }
+
+    @Test
+    void feedPagesMatchBlockingPath() throws Exception {
+        assertThat(walkFeed("/api/posts")).isEqualTo(walkFeed("/api/reactive/posts")).hasSize(5);
+    }
+
+    @Test
+    void authorFeedPagesMatchBlockingPath() throws Exception {
+        String path = "/posts/author/" + URLEncoder.encode(AUTHOR, StandardCharsets.UTF_8);
+        assertThat(walkFeed("/api" + path)).isEqualTo(walkFeed("/api/reactive" + path)).hasSize(2);
+    }
+
+    @Test
+    void popularPostsMatchBlockingPath() throws Exception {
+        String blocking = get("/api/posts/popular").body();
+        String reactive = get("/api/reactive/posts/popular").body();
+        assertThat(reactive).isEqualTo(blocking);
+    }
+
+    @Test
+    void invalidCursorIsBadRequest() throws Exception {
+        assertThat(get("/api/reactive/posts?cursor=not-a-cursor").statusCode()).isEqualTo(400);
+    }
+
+    @Test
+    void unchangedFeedIsNotModified() throws Exception {
+        HttpResponse<String> first = get("/api/reactive/posts?cursor=");
+        String etag = first.headers().firstValue("ETag").orElseThrow();
+
+        HttpResponse<String> second = send(HttpRequest.newBuilder(uri("/api/reactive/posts?cursor="))
+                .header("If-None-Match", etag));
+        assertThat(second.statusCode()).isEqualTo(304);
+    }
+
+    @Test
+    void smileRepresentationHasItsOwnETag() throws Exception {
+        for (String path : List.of("/api/reactive/posts?cursor=", "/api/reactive/posts/popular",
+                "/api/reactive/posts/" + ids.get(3))) {
+            String jsonETag = get(path).headers().firstValue("ETag").orElseThrow();
+            HttpResponse<String> smile = send(HttpRequest.newBuilder(uri(path)).header("Accept", SMILE));
+            String smileETag = smile.headers().firstValue("ETag").orElseThrow();
+
+            assertThat(smile.headers().firstValue("Content-Type")).hasValueSatisfying(type -> assertThat(type).startsWith(SMILE));
+            assertThat(smileETag).as(path).isEqualTo(SmileCodec.etag(jsonETag));
+            assertThat(conditional(path, SMILE, smileETag)).as(path).isEqualTo(304);
+            // 다른 표현의 ETag로는 304를 받지 않는다
+            assertThat(conditional(path, SMILE, jsonETag)).as(path).isEqualTo(200);
+            assertThat(conditional(path, "application/json", smileETag)).as(path).isEqualTo(200);
+        }
+    }
+
+    @Test
+    void postDetailMatchesBlockingPath() throws Exception {
+        Long id = ids.get(7);
+        HttpResponse<String> reactive = get("/api/reactive/posts/" + id);
+        PostResponseDto blocking = objectMapper.readValue(get("/api/posts/" + id).body(), PostResponseDto.class);
+        PostResponseDto post = objectMapper.readValue(reactive.body(), PostResponseDto.class);
+
+        assertThat(reactive.statusCode()).isEqualTo(200);
+        // 조회수는 요청마다 늘어나므로 제외
+        assertThat(post).usingRecursiveComparison().ignoringFields("viewCount").isEqualTo(blocking);
+
+        String etag = reactive.headers().firstValue("ETag").orElseThrow();
+        HttpResponse<String> notModified = send(HttpRequest.newBuilder(uri("/api/reactive/posts/" + id))
+                .header("If-None-Match", etag));
+        assertThat(notModified.statusCode()).isEqualTo(304);
+
+        assertThat(get("/api/reactive/posts/" + Long.MAX_VALUE).statusCode()).isEqualTo(404);
+    }
+
+    @Test
+    void exportStreamsSamePostsAsBlockingPath() throws Exception {
+        String query = "/posts/export?from=2000-01-01T00:00:00&to=2100-01-01T00:00:00";
+        HttpResponse<String> reactive = get("/api/reactive" + query);
+
+        assertThat(reactive.headers().firstValue("Content-Type").orElseThrow()).startsWith("application/x-ndjson");
+        List<Long> exported = exportedIds(reactive.body());
+        assertThat(exported).isEqualTo(exportedIds(get("/api" + query).body())).hasSize(POSTS + ARCHIVED_POSTS);
+        // 활성 게시글 다음에 보관 게시글이 같은 순서(최신순)로 이어진다
+        assertThat(exported.subList(POSTS, exported.size()))
+                .containsExactly(1_000_005L, 1_000_004L, 1_000_003L, 1_000_002L, 1_000_001L);
+    }
+
+    @Test
+    void exportSharesConcurrencyLimitWithBlockingPath() throws Exception {
+        String query = "/api/reactive/posts/export?from=2000-01-01T00:00:00&to=2100-01-01T00:00:00";
+        int held = 0;
+        while (postExportService.tryAcquireSlot()) {
+            held++;
+        }
+        try {
+            HttpResponse<String> busy = get(query);
+            assertThat(busy.statusCode()).isEqualTo(503);
+            assertThat(busy.headers().firstValue("Retry-After")).contains("5");
+        } finally {
+            for (int i = 0; i < held; i++) {
+                postExportService.releaseSlot();
+            }
+        }
+
+        // 끝난 내보내기는 자리를 돌려주므로 한도보다 많이 연달아 요청해도 모두 성공한다
+        for (int i = 0; i < 5; i++) {
+            assertThat(get(query).statusCode()).isEqualTo(200);
+        }
+        assertThat(postExportService.tryAcquireSlot()).isTrue();
+        postExportService.releaseSlot();
+    }
+
+    // 첫 페이지부터 nextCursor를 따라가며 모든 페이지 본문을 모은다
+    private List<String> walkFeed(String path) throws Exception {
+        List<String> pages = new ArrayList<>();
+        String cursor = "";
+        while (cursor != null) {
+            HttpResponse<String> response = get(path + "?size=7&cursor=" + cursor);
+            assertThat(response.statusCode()).isEqualTo(200);
+            pages.add(response.body());
+            JsonNode next = objectMapper.readTree(response.body()).get("nextCursor");
+            cursor = next == null || next.isNull() ? null : next.asText();
+        }
+        return pages;
+    }
+
+    private List<Long> exportedIds(String ndjson) throws Exception {
+        List<Long> exported = new ArrayList<>();
+        for (String line : ndjson.split("\n")) {
+            if (!line.isBlank()) {
+                exported.add(objectMapper.readTree(line).get("id").asLong());
+            }
+        }
+        return exported;
+    }
+
+    private int conditional(String path, String accept, String etag) throws Exception {
+        return send(HttpRequest.newBuilder(uri(path)).header("Accept", accept).header("If-None-Match", etag)).statusCode();
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        return send(HttpRequest.newBuilder(uri(path)));
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws Exception {
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
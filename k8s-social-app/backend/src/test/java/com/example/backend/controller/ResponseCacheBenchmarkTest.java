@@ -0,0 +1,104 @@
+package com.example.backend.controller;
+
+import com.example.backend.BackendApplication;
+import com.example.backend.cache.FeedVersion;
+import com.example.backend.dto.PostDto;
+import com.example.backend.service.PostBatchInserter;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 목록 응답: 매번 조회/직렬화/압축(이전) vs 응답 바이트 캐시(app.response-cache) 요청당 서버 CPU 시간 비교
+ * - 부하 클라이언트가 같은 JVM에서 실행되므로 Tomcat 요청 처리 스레드(http-nio-*-exec-*)의 CPU 시간만 합산
+ * - 목록 첫 페이지, 작성자 목록 첫 페이지, 인기 게시글을 gzip 요청으로 번갈아 호출
+ * - 압축/비압축 응답의 내용 일치는 ResponseCacheTest에서 확인
+ * ./gradlew benchmark --tests '*ResponseCacheBenchmarkTest'
+ */
+@Tag("benchmark")
+class ResponseCacheBenchmarkTest {
+
+    private static final int POSTS = 2_000;
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 5_000);
+    private static final String[] PATHS = {
+            "/api/posts?page=0&size=20",
+            "/api/posts/author/" + URLEncoder.encode("작성자7", StandardCharsets.UTF_8) + "?page=0&size=20",
+            "/api/posts/popular"
+    };
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void compareUncachedWithCachedResponses() throws Exception {
+        System.out.printf("%-9s %14s %10s %12s%n", "cache", "cpu/req(us)", "avg(ms)", "bytes/req");
+        double uncached = run("off", false);
+        double cached = run("on", true);
+        System.out.printf("요청당 CPU: %.0f%% (캐시 사용 / 미사용)%n", 100 * cached / uncached);
+    }
+
+    private double run(String name, boolean cacheEnabled) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+                .profiles("h2")
+                .properties("server.port=0", "app.search.enabled=false", "app.access-log.enabled=false",
+                        "app.concurrency-limit.enabled=false", "logging.level.root=WARN",
+                        "app.response-cache.enabled=" + cacheEnabled)
+                .run()) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+
+            List<PostDto> posts = new ArrayList<>(POSTS);
+            String content = "쿠버네티스 클러스터에 스프링부트 애플리케이션을 배포했습니다. ".repeat(5);
+            for (int i = 0; i < POSTS; i++) {
+                posts.add(new PostDto("게시글 제목 " + i, content, "작성자" + (i % 50)));
+            }
+            context.getBean(PostBatchInserter.class).insert(posts);
+            context.getBean(FeedVersion.class).reconcile();
+
+            for (int i = 0; i < REQUESTS / 5; i++) {
+                get(port, PATHS[i % PATHS.length], "gzip");
+            }
+
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            long cpuBefore = requestThreadCpuNanos(threads);
+            long bytes = 0;
+            long started = System.nanoTime();
+            for (int i = 0; i < REQUESTS; i++) {
+                bytes += get(port, PATHS[i % PATHS.length], "gzip").body().length;
+            }
+            double avgMillis = (System.nanoTime() - started) / 1e6 / REQUESTS;
+            double cpuMicros = (requestThreadCpuNanos(threads) - cpuBefore) / 1e3 / REQUESTS;
+
+            System.out.printf("%-9s %14.1f %10.3f %12d%n", name, cpuMicros, avgMillis, bytes / REQUESTS);
+            return cpuMicros;
+        }
+    }
+
+    private static long requestThreadCpuNanos(ThreadMXBean threads) {
+        long total = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().startsWith("http-nio-") && thread.getName().contains("-exec-")) {
+                total += Math.max(0, threads.getThreadCpuTime(thread.getId()));
+            }
+        }
+        return total;
+    }
+
+    private HttpResponse<byte[]> get(int port, String path, String acceptEncoding) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+        if (acceptEncoding != null) {
+            request.header("Accept-Encoding", acceptEncoding);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
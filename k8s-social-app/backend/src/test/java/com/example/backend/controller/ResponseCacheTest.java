@@ -0,0 +1,131 @@
+package com.example.backend.controller;
+
+import com.example.backend.cache.FeedVersion;
+import com.example.backend.dto.PostDto;
+import com.example.backend.service.PostService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 응답 바이트 캐시(app.response-cache): 압축/비압축 응답의 내용이 같고, 캐시를 거치지 않은 직렬화와 같으며,
+ * 목록 버전이 바뀌면 다시 만들어지고, size는 제한된 값으로 캐시되는지 확인
+ * (ResponseCacheBenchmarkTest는 요청당 CPU 시간만 잰다)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.search.enabled=false", "app.access-log.enabled=false", "app.response-cache.enabled=true",
+        "app.view-count.flush-interval-ms=3600000", "app.feed-version.reconcile-interval-ms=3600000"})
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ResponseCacheTest {
+
+    private static final String AUTHOR = "캐시작성자";
+    private static final String[] PATHS = {
+            "/api/posts?page=0&size=20",
+            "/api/posts/author/" + URLEncoder.encode(AUTHOR, StandardCharsets.UTF_8) + "?page=0&size=20",
+            "/api/posts/popular"
+    };
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private FeedVersion feedVersion;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeAll
+    void createPosts() {
+        String content = "쿠버네티스 클러스터에 스프링부트 애플리케이션을 배포했습니다. ".repeat(5);
+        for (int i = 0; i < 30; i++) {
+            postService.createPost(new PostDto("캐시 게시글 " + i, content, AUTHOR));
+        }
+        feedVersion.reconcile();
+    }
+
+    @Test
+    void gzipAndIdentityBodiesMatch() throws Exception {
+        for (String path : PATHS) {
+            HttpResponse<byte[]> gzip = get(path, "gzip");
+            HttpResponse<byte[]> identity = get(path, null);
+
+            assertThat(gzip.statusCode()).isEqualTo(200);
+            assertThat(gzip.headers().firstValue("ETag")).isEqualTo(identity.headers().firstValue("ETag"));
+            assertThat(identity.headers().firstValue("Content-Encoding")).isEmpty();
+            assertThat(decode(gzip)).isEqualTo(identity.body());
+        }
+        assertThat(get(PATHS[0], "gzip").headers().firstValue("Content-Encoding")).contains("gzip");
+    }
+
+    @Test
+    void cachedBodyMatchesUncachedSerialization() throws Exception {
+        get(PATHS[0], null);
+        byte[] cached = get(PATHS[0], null).body();
+
+        assertThat(objectMapper.readTree(cached))
+                .isEqualTo(objectMapper.readTree(objectMapper.writeValueAsBytes(postService.getAllPosts(0, 20))));
+    }
+
+    @Test
+    void rebuildsAfterFeedVersionChange() throws Exception {
+        HttpResponse<byte[]> before = get(PATHS[0], null);
+
+        postService.createPost(new PostDto("캐시 이후 게시글", "버전 변경 확인용 내용", "다른작성자"));
+        HttpResponse<byte[]> after = get(PATHS[0], null);
+
+        assertThat(after.headers().firstValue("ETag")).isNotEqualTo(before.headers().firstValue("ETag"));
+        assertThat(new String(after.body(), StandardCharsets.UTF_8)).contains("캐시 이후 게시글");
+    }
+
+    @Test
+    void clampsPageSize() throws Exception {
+        HttpResponse<byte[]> huge = get("/api/posts?page=0&size=100000", null);
+        HttpResponse<byte[]> max = get("/api/posts?page=0&size=100", null);
+
+        assertThat(huge.statusCode()).isEqualTo(200);
+        assertThat(objectMapper.readTree(huge.body()).get("size").asInt()).isEqualTo(100);
+        assertThat(huge.body()).isEqualTo(max.body());
+        assertThat(get("/api/posts?page=0&size=0", null).statusCode()).isEqualTo(200);
+    }
+
+    private HttpResponse<byte[]> get(String path, String acceptEncoding) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+        if (acceptEncoding != null) {
+            request.header("Accept-Encoding", acceptEncoding);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static byte[] decode(HttpResponse<byte[]> response) throws IOException {
+        if (!"gzip".equals(response.headers().firstValue("Content-Encoding").orElse(null))) {
+            return response.body();
+        }
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.backend.controller;
+
+import com.example.backend.cache.FeedVersion;
+import com.example.backend.dto.PostDto;
+import com.example.backend.dto.PostResponseDto;
+import com.example.backend.dto.PostSummaryDto;
+import com.example.backend.service.PostService;
+import com.example.backend.wire.SmileCodec;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Accept 협상: Smile을 요청하면 Smile 본문과 -smile ETag, 그 외에는 JSON으로 응답하고,
+ * 한 표현의 ETag로 다른 표현을 조건부 요청하면 304가 아닌 200인지 확인 (캐시된 목록, 커서 피드, 상세)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.search.enabled=false", "app.access-log.enabled=false",
+        "app.view-count.flush-interval-ms=3600000", "app.feed-version.reconcile-interval-ms=3600000"})
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SmileNegotiationTest {
+
+    private static final String SMILE = "application/x-jackson-smile";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private FeedVersion feedVersion;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final SmileCodec codec = new SmileCodec();
+
+    private PostResponseDto post;
+
+    @BeforeAll
+    void createPost() {
+        post = postService.createPost(new PostDto("Smile 협상", "Smile 협상 확인용 내용", "Smile작성자"));
+        feedVersion.reconcile();
+    }
+
+    @Test
+    void cachedListNegotiatesFormatAndETag() throws Exception {
+        HttpResponse<byte[]> smile = get("/api/posts?page=0&size=20", SMILE, null);
+        HttpResponse<byte[]> json = get("/api/posts?page=0&size=20", null, null);
+
+        assertThat(smile.headers().firstValue("Content-Type")).hasValueSatisfying(type -> assertThat(type).startsWith(SMILE));
+        assertThat(codec.decodeSummaryPage(smile.body()).content())
+                .extracting(PostSummaryDto::getId).contains(post.getId());
+        assertThat(json.headers().firstValue("Content-Type"))
+                .hasValueSatisfying(type -> assertThat(type).startsWith("application/json"));
+        assertETagsPerRepresentation("/api/posts?page=0&size=20", etagOf(json), etagOf(smile));
+    }
+
+    @Test
+    void uncachedFeedNegotiatesFormatAndETag() throws Exception {
+        HttpResponse<byte[]> smile = get("/api/posts?cursor=&size=5", SMILE, null);
+        HttpResponse<byte[]> json = get("/api/posts?cursor=&size=5", "*/*", null);
+
+        assertThat(smile.headers().firstValue("Content-Type")).hasValueSatisfying(type -> assertThat(type).startsWith(SMILE));
+        assertThat(json.headers().firstValue("Content-Type"))
+                .hasValueSatisfying(type -> assertThat(type).startsWith("application/json"));
+        assertETagsPerRepresentation("/api/posts?cursor=&size=5", etagOf(json), etagOf(smile));
+    }
+
+    @Test
+    void postDetailRoundTripsAndHasItsOwnETag() throws Exception {
+        String path = "/api/posts/" + post.getId();
+        HttpResponse<byte[]> smile = get(path, SMILE, null);
+        HttpResponse<byte[]> json = get(path, null, null);
+
+        PostResponseDto decoded = codec.decodePost(smile.body());
+        assertThat(decoded.getId()).isEqualTo(post.getId());
+        assertThat(decoded.getTitle()).isEqualTo(post.getTitle());
+        // Smile 날짜는 millis 단위
+        assertThat(decoded.getCreatedAt()).isCloseTo(post.getCreatedAt(), within(1, ChronoUnit.MILLIS));
+        assertETagsPerRepresentation(path, etagOf(json), etagOf(smile));
+    }
+
+    private void assertETagsPerRepresentation(String path, String jsonETag, String smileETag) throws Exception {
+        assertThat(smileETag).isEqualTo(SmileCodec.etag(jsonETag)).isNotEqualTo(jsonETag);
+
+        assertThat(get(path, SMILE, smileETag).statusCode()).isEqualTo(304);
+        assertThat(get(path, null, jsonETag).statusCode()).isEqualTo(304);
+        // 다른 표현의 ETag로는 304를 받지 않는다 (캐시된 JSON을 Smile로 해석하지 않도록)
+        assertThat(get(path, SMILE, jsonETag).statusCode()).isEqualTo(200);
+        assertThat(get(path, null, smileETag).statusCode()).isEqualTo(200);
+    }
+
+    private static String etagOf(HttpResponse<byte[]> response) {
+        return response.headers().firstValue("ETag").orElseThrow();
+    }
+
+    private HttpResponse<byte[]> get(String path, String accept, String etag) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+        if (accept != null) {
+            request.header("Accept", accept);
+        }
+        if (etag != null) {
+            request.header("If-None-Match", etag);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.backend.datasource;
+
+import com.example.backend.dto.PostDto;
+import com.example.backend.dto.PostSummaryDto;
+import com.example.backend.service.PostService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기/쓰기 라우팅을 실제 JPA 경로로 확인 - 주 DB와 복제본 역할의 H2 메모리 DB 두 개(풀 두 개)
+ * 복제본에는 같은 ID의 게시글을 다른 제목으로 넣어 두고, 어느 DB에서 읽었는지 제목으로 구분한다
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing_primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "app.datasource.read-replicas.enabled=true",
+        "app.datasource.read-replicas.urls=" + ReadReplicaRoutingTest.REPLICA_URL,
+        "app.datasource.connection-limit.enabled=true",
+        "app.search.enabled=false", "app.post-cache.enabled=false"})
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReadReplicaRoutingTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:routing_replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // 복제 대신 테스트가 직접 쓰는 복제본 연결 (풀의 커넥션은 읽기 전용)
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    private Long id;
+
+    @BeforeAll
+    void copySchemaAndPostToReplica() {
+        // 스키마는 주 DB에만 만들어지므로 복제본에 그대로 옮긴다
+        for (String statement : jdbcTemplate.queryForList("SCRIPT NODATA", String.class)) {
+            replica.execute(statement);
+        }
+
+        id = postService.createPost(new PostDto("주 DB 제목", "라우팅 확인용 내용", "라우팅작성자")).getId();
+        Map<String, Object> row = jdbcTemplate.queryForMap("SELECT * FROM posts WHERE id = ?", id);
+        replica.update("INSERT INTO posts (id, title, content, content_preview, author, created_at, updated_at, view_count) " +
+                        "VALUES (?, '복제본 제목', ?, ?, ?, ?, ?, ?)", id, row.get("content"), row.get("content_preview"),
+                row.get("author"), row.get("created_at"), row.get("updated_at"), row.get("view_count"));
+    }
+
+    @Test
+    void writesGoToPrimary() {
+        assertThat(jdbcTemplate.queryForObject("SELECT title FROM posts WHERE id = ?", String.class, id))
+                .isEqualTo("주 DB 제목");
+    }
+
+    @Test
+    void postCacheMissReadsFromReplica() {
+        assertThat(postService.getPostById(id).getTitle()).isEqualTo("복제본 제목");
+    }
+
+    @Test
+    void readOnlyServiceMethodsReadFromReplica() {
+        assertThat(postService.getAllPosts(0, 10).getContent())
+                .filteredOn(post -> post.getId().equals(id))
+                .extracting(PostSummaryDto::getTitle)
+                .containsExactly("복제본 제목");
+    }
+
+    @Test
+    void connectionLimitWrapsEachPoolNotTheRoutingDataSource() throws Exception {
+        assertThat(dataSource).isInstanceOf(ReadWriteRoutingDataSource.class);
+
+        List<DataSource> pools = List.copyOf(((ReadWriteRoutingDataSource) dataSource).getPools().values());
+        assertThat(pools).hasSize(2).allMatch(pool -> pool instanceof ConnectionLimitingDataSource);
+        assertThat(meterRegistry.find("db.connection.limit.available").tag("pool", "replica-1").gauge()).isNotNull();
+        assertThat(meterRegistry.find("db.connection.limit.available").tag("pool", "primary").gauge()).isNotNull();
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.backend.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.servlet.http.Cookie;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주 DB와 복제본 역할의 H2 메모리 DB 두 개로 트랜잭션별 라우팅 확인
+ * 각 DB의 node 테이블에 자신의 이름을 넣어 두고, 어느 DB에서 읽었는지 확인한다
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private final AtomicBoolean replicaDown = new AtomicBoolean();
+
+    private ReadWriteRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readTransaction;
+    private TransactionTemplate writeTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        DataSource replica = new DelegatingDataSource(database("replica")) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                if (replicaDown.get()) {
+                    throw new SQLTransientConnectionException("replica down");
+                }
+                return super.getConnection();
+            }
+        };
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", replica);
+        routing = new ReadWriteRoutingDataSource(primary, replicas);
+        jdbcTemplate = new JdbcTemplate(routing);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readTransaction = new TransactionTemplate(transactionManager);
+        readTransaction.setReadOnly(true);
+        writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void readOnlyTransactionsUseReplicaAndWritesUsePrimary() {
+        assertThat(readTransaction.execute(status -> currentNode())).isEqualTo("replica");
+        assertThat(writeTransaction.execute(status -> currentNode())).isEqualTo("primary");
+        // 트랜잭션 밖의 문장은 주 DB
+        assertThat(currentNode()).isEqualTo("primary");
+    }
+
+    @Test
+    void fallsBackToPrimaryUntilReplicaRecovers() {
+        replicaDown.set(true);
+        assertThat(readTransaction.execute(status -> currentNode())).isEqualTo("primary");
+        assertThat(routing.isReplicaHealthy("replica-1")).isFalse();
+        assertThat(routing.getPrimaryFallbacks()).isEqualTo(1);
+
+        replicaDown.set(false);
+        assertThat(readTransaction.execute(status -> currentNode())).isEqualTo("primary");
+        routing.checkReplicaHealth();
+        assertThat(routing.isReplicaHealthy("replica-1")).isTrue();
+        assertThat(readTransaction.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    void readsAfterWriteInSameRequestUsePrimary() throws Exception {
+        ReadYourWrites readYourWrites = new ReadYourWrites(Duration.ofSeconds(5));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        readYourWrites.doFilter(new MockHttpServletRequest(), response, (request, res) -> {
+            assertThat(readTransaction.execute(status -> currentNode())).isEqualTo("replica");
+            readYourWrites.recordWrite();
+            assertThat(readTransaction.execute(status -> currentNode())).isEqualTo("primary");
+        });
+
+        assertThat(response.getHeader("Set-Cookie")).startsWith(ReadYourWrites.COOKIE_NAME + "=");
+        assertThat(readTransaction.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    void readsWithinWindowCookieUsePrimary() throws Exception {
+        ReadYourWrites readYourWrites = new ReadYourWrites(Duration.ofSeconds(5));
+
+        MockHttpServletRequest pinned = new MockHttpServletRequest();
+        pinned.setCookies(new Cookie(ReadYourWrites.COOKIE_NAME, Long.toString(System.currentTimeMillis() + 5_000)));
+        readYourWrites.doFilter(pinned, new MockHttpServletResponse(), (request, response) ->
+                assertThat(readTransaction.execute(status -> currentNode())).isEqualTo("primary"));
+
+        MockHttpServletRequest expired = new MockHttpServletRequest();
+        expired.setCookies(new Cookie(ReadYourWrites.COOKIE_NAME, Long.toString(System.currentTimeMillis() - 1)));
+        readYourWrites.doFilter(expired, new MockHttpServletResponse(), (request, response) ->
+                assertThat(readTransaction.execute(status -> currentNode())).isEqualTo("replica"));
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.backend.dto;
+
+import com.example.backend.model.Post;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 DTO 매핑/직렬화: JMH 벤치마크(PostMappingBenchmark, PageSerializationBenchmark)가 비교하는 경로들이
+ * 같은 결과를 내는지 확인 (벤치마크는 측정만 하고 동작 검증은 여기서 한다)
+ */
+class PostSummaryDtoTest {
+
+    private static final String LONG_CONTENT = "쿠버네티스 클러스터에 스프링부트 애플리케이션을 배포했습니다. ".repeat(3);
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    @Test
+    void storedAndComputedPreviewsMapToTheSameSummary() throws Exception {
+        PostSummaryDto stored = PostSummaryDto.fromEntity(post(LONG_CONTENT, Post.previewOf(LONG_CONTENT)));
+        PostSummaryDto computed = PostSummaryDto.fromEntity(post(LONG_CONTENT, null));
+
+        assertThat(objectMapper.writeValueAsString(computed)).isEqualTo(objectMapper.writeValueAsString(stored));
+        assertThat(stored.getContentPreview()).hasSize(Post.PREVIEW_LENGTH + 3).endsWith("...");
+        assertThat(PostSummaryDto.fromEntity(post("짧은 내용", null)).getContentPreview()).isEqualTo("짧은 내용");
+    }
+
+    @Test
+    void summaryFromResponseMatchesSummaryFromEntity() throws Exception {
+        Post post = post(LONG_CONTENT, Post.previewOf(LONG_CONTENT));
+
+        assertThat(objectMapper.writeValueAsString(PostSummaryDto.fromResponse(PostResponseDto.fromEntity(post))))
+                .isEqualTo(objectMapper.writeValueAsString(PostSummaryDto.fromEntity(post)));
+    }
+
+    @Test
+    void cursorPageSerializesOnlyCursorFields() throws Exception {
+        PostSummaryDto summary = PostSummaryDto.fromEntity(post(LONG_CONTENT, null));
+        FeedCursor cursor = new FeedCursor(summary.getCreatedAt(), summary.getId());
+
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsBytes(
+                new CursorPage<>(List.of(summary), 1, true, cursor.encode())));
+
+        assertThat(json.fieldNames()).toIterable().containsExactlyInAnyOrder("content", "size", "hasNext", "nextCursor");
+        assertThat(json.get("hasNext").asBoolean()).isTrue();
+        assertThat(FeedCursor.decode(json.get("nextCursor").asText())).isEqualTo(cursor);
+        assertThat(json.get("content").get(0).get("contentPreview").asText()).isEqualTo(summary.getContentPreview());
+    }
+
+    private static Post post(String content, String contentPreview) {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+        return Post.builder()
+                .id(1L)
+                .title("게시글 제목")
+                .content(content)
+                .author("작성자")
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .contentPreview(contentPreview)
+                .viewCount(7L)
+                .build();
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.backend.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 적응형 한도: 지연이 갑자기 오르면 한도를 줄이고, 높은 지연이 이어지면 기준이 따라 올라가 최솟값에 머물지 않으며,
+ * 지연이 다시 내려가면 기준도 내려가 다음 상승에 다시 반응하는지 확인
+ * (매 요청마다 한도까지 자리를 채워 두므로 모든 window가 부하 부족 없이 계산된다)
+ */
+class AdaptiveConcurrencyLimitTest {
+
+    private static final int WINDOW_SIZE = 10;
+    private static final int MIN_LIMIT = 4;
+
+    private final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(20, MIN_LIMIT, 200, 1.5, WINDOW_SIZE);
+
+    @Test
+    void growsWhileLatencyIsSteady() {
+        run(20, 10);
+
+        assertThat(limit.getLimit()).isGreaterThan(20);
+        assertThat(limit.getInFlight()).isZero();
+    }
+
+    @Test
+    void shrinksOnLatencyStepUpAndFollowsItBackDown() {
+        run(20, 10);
+        int steady = limit.getLimit();
+
+        run(3, 40);
+        int stepUp = limit.getLimit();
+        assertThat(stepUp).isLessThan(steady);
+
+        // 지연이 계속 높으면 장기 지연이 따라 올라가 한도가 다시 늘어난다
+        run(40, 40);
+        int sustained = limit.getLimit();
+        assertThat(sustained).isGreaterThan(stepUp).isGreaterThan(MIN_LIMIT);
+
+        // 지연이 내려가면 장기 지연도 내려가, 같은 상승에 다시 한도를 줄인다
+        run(20, 10);
+        int recovered = limit.getLimit();
+        assertThat(recovered).isGreaterThan(sustained);
+
+        run(3, 40);
+        assertThat(limit.getLimit()).isLessThan(recovered);
+    }
+
+    @Test
+    void backsOffOnFailures() {
+        run(20, 10);
+        int steady = limit.getLimit();
+
+        assertThat(limit.tryAcquire(1.0)).isTrue();
+        limit.release(TimeUnit.MILLISECONDS.toNanos(10), true);
+
+        assertThat(limit.getLimit()).isLessThan(steady);
+    }
+
+    private void run(int windows, long rttMillis) {
+        int held = 0;
+        for (int i = 0; i < windows * WINDOW_SIZE; i++) {
+            while (limit.tryAcquire(1.0)) {
+                held++;
+            }
+            limit.release(TimeUnit.MILLISECONDS.toNanos(rttMillis), false);
+            held--;
+        }
+        for (; held > 0; held--) {
+            limit.releaseWithoutSample();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.backend.limit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 처리 한도: 한도보다 많은 실시간 피드(SSE) 연결이 열려 있어도 자리를 차지하지 않아 읽기 요청이 계속 처리되는지 확인
+ * (한도를 최솟값에 고정 - 읽기 몫은 3자리)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.search.enabled=false", "app.access-log.enabled=false", "app.concurrency-limit.enabled=true",
+        "app.concurrency-limit.initial-limit=4", "app.concurrency-limit.min-limit=4",
+        "app.concurrency-limit.max-limit=4"})
+@ActiveProfiles("h2")
+class ConcurrencyLimitFilterTest {
+
+    private static final int STREAMS = 8;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void openStreamsDoNotTakeReadCapacity() throws Exception {
+        List<HttpResponse<Stream<String>>> streams = new ArrayList<>();
+        try {
+            for (int i = 0; i < STREAMS; i++) {
+                HttpResponse<Stream<String>> stream = client.sendAsync(
+                        HttpRequest.newBuilder(uri("/api/posts/stream")).header("Accept", "text/event-stream").build(),
+                        HttpResponse.BodyHandlers.ofLines()).get(10, TimeUnit.SECONDS);
+                assertThat(stream.statusCode()).isEqualTo(200);
+                streams.add(stream);
+            }
+            assertThat(meterRegistry.get("live.feed.subscribers").gauge().value()).isEqualTo(STREAMS);
+
+            for (int i = 0; i < 5; i++) {
+                HttpResponse<String> read = client.send(HttpRequest.newBuilder(uri("/api/posts?page=0&size=5")).build(),
+                        HttpResponse.BodyHandlers.ofString());
+                assertThat(read.statusCode()).isEqualTo(200);
+            }
+            // 마지막 읽기의 자리 반납은 응답을 보낸 뒤일 수 있다 - 열린 스트림은 한도 계산에 남지 않는다
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (inFlight() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(inFlight()).isZero();
+        } finally {
+            streams.forEach(stream -> stream.body().close());
+        }
+    }
+
+    private double inFlight() {
+        return meterRegistry.get("http.server.concurrency.in.flight").gauge().value();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.backend.live;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 실시간 피드 테스트용 구독자 - SSE 줄을 읽어 이벤트 단위로 모은다 (빈 줄이 이벤트 끝)
+ */
+final class EventCollector implements Flow.Subscriber<String> {
+
+    final List<PostEvent> posts = new CopyOnWriteArrayList<>();
+    final List<String> names = new CopyOnWriteArrayList<>();
+    private Flow.Subscription subscription;
+    private String id;
+    private String name;
+
+    /**
+     * GET /api/posts/stream 구독 (lastEventId가 있으면 Last-Event-ID 헤더로 재연결)
+     */
+    static EventCollector subscribe(HttpClient client, int port, String lastEventId) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/posts/stream"))
+                .header("Accept", "text/event-stream");
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        EventCollector collector = new EventCollector();
+        client.sendAsync(request.build(), HttpResponse.BodyHandlers.fromLineSubscriber(collector));
+        return collector;
+    }
+
+    void awaitEvents(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (names.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(String line) {
+        if (line.startsWith("id: ")) {
+            id = line.substring(4);
+        } else if (line.startsWith("event: ")) {
+            name = line.substring(7);
+        } else if (line.isEmpty() && name != null) {
+            names.add(name);
+            if (name.equals("post")) {
+                posts.add(new PostEvent(Long.parseLong(id), System.nanoTime()));
+            }
+            id = null;
+            name = null;
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+    }
+
+    @Override
+    public void onComplete() {
+    }
+
+    void cancel() {
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    record PostEvent(long postId, long receivedAt) {
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.backend.live;
+
+import com.example.backend.dto.PostDto;
+import com.example.backend.service.PostService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실시간 피드: 구독자 benchmark.subscribers명(기본 1000)에게 게시글 생성 후 도착까지 걸린 시간 측정
+ * 게시글마다 목록을 다시 불러오던 방식이라면 구독자 수 × 게시글 수만큼 목록 조회가 필요하다
+ * (재연결/reset 동작은 LiveFeedTest에서 확인)
+ * ./gradlew benchmark --tests '*LiveFeedBenchmarkTest'
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"app.search.enabled=false", "app.access-log.enabled=false", "app.concurrency-limit.enabled=false"})
+@ActiveProfiles("h2")
+class LiveFeedBenchmarkTest {
+
+    private static final int SUBSCRIBERS = Integer.getInteger("benchmark.subscribers", 1_000);
+    private static final int POSTS = 50;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private LiveFeed liveFeed;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void fansOutNewPostsToAllSubscribers() throws Exception {
+        List<EventCollector> collectors = new ArrayList<>();
+        for (int i = 0; i < SUBSCRIBERS; i++) {
+            collectors.add(EventCollector.subscribe(client, port, null));
+        }
+        awaitSubscribers(SUBSCRIBERS);
+
+        Map<Long, Long> createdAt = new ConcurrentHashMap<>();
+        for (int i = 0; i < POSTS; i++) {
+            long started = System.nanoTime();
+            Long id = postService.createPost(new PostDto("실시간 게시글 " + i, "내용 " + i, "작성자")).getId();
+            createdAt.put(id, started);
+            Thread.sleep(20);
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (collectors.stream().anyMatch(c -> c.posts.size() < POSTS) && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+
+        long[] latencies = collectors.stream()
+                .flatMap(c -> c.posts.stream())
+                .filter(event -> createdAt.containsKey(event.postId()))
+                .mapToLong(event -> event.receivedAt() - createdAt.get(event.postId()))
+                .sorted()
+                .toArray();
+        Timer fanOut = meterRegistry.get("live.feed.fanout").timer();
+        System.out.printf("구독자: %d, 게시글: %d, 도착한 이벤트: %d / %d%n",
+                SUBSCRIBERS, POSTS, latencies.length, SUBSCRIBERS * POSTS);
+        System.out.printf("생성→도착 p50: %.1fms, p99: %.1fms, max: %.1fms / 팬아웃 평균: %.2fms, 최대: %.2fms%n",
+                percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 1.0),
+                fanOut.mean(TimeUnit.MILLISECONDS), fanOut.max(TimeUnit.MILLISECONDS));
+
+        assertThat(latencies).hasSize(SUBSCRIBERS * POSTS);
+        collectors.forEach(EventCollector::cancel);
+    }
+
+    private void awaitSubscribers(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (liveFeed.getSubscriberCount() < count && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(liveFeed.getSubscriberCount()).isGreaterThanOrEqualTo(count);
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        return sorted[Math.max(0, (int) Math.ceil(p * sorted.length) - 1)] / 1e6;
+    }
+}
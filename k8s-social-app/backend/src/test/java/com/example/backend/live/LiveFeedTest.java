@@ -0,0 +1,124 @@
+package com.example.backend.live;
+
+import com.example.backend.dto.PostDto;
+import com.example.backend.service.PostService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.http.HttpClient;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실시간 피드: Last-Event-ID 이후 이벤트를 다시 보내거나 reset을 보내는지,
+ * 다른 레플리카 게시글 확인(catch-up)이 한 번에 조회하는 수를 넘으면 모든 구독자에게 reset을 보내는지 확인
+ * (자동 catch-up은 테스트가 직접 호출하도록 주기를 길게 둔다)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.search.enabled=false", "app.access-log.enabled=false",
+        "app.live-feed.catch-up-interval-ms=3600000"})
+@ActiveProfiles("h2")
+class LiveFeedTest {
+
+    // 이 인스턴스의 ID 생성기와 겹치지 않는 범위
+    private static final long OTHER_REPLICA_IDS = 900_000_000L;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private LiveFeed liveFeed;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    void resumesAfterLastEventIdOrAsksForReset() throws Exception {
+        double published = events();
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ids.add(postService.createPost(new PostDto("재연결 게시글 " + i, "내용", "작성자")).getId());
+        }
+        // 발행은 별도 스레드 - 링 버퍼에 들어간 뒤 재연결한다
+        awaitEvents(published + 3);
+
+        EventCollector resumed = EventCollector.subscribe(client, port, ids.get(0).toString());
+        EventCollector unknown = EventCollector.subscribe(client, port, "-42");
+        resumed.awaitEvents(2);
+        unknown.awaitEvents(1);
+
+        assertThat(resumed.posts).extracting(EventCollector.PostEvent::postId).containsExactly(ids.get(1), ids.get(2));
+        assertThat(unknown.names).containsExactly("reset");
+
+        resumed.cancel();
+        unknown.cancel();
+    }
+
+    @Test
+    void sendsResetWhenCatchUpFallsTooFarBehind() throws Exception {
+        int subscribers = liveFeed.getSubscriberCount();
+        EventCollector subscriber = EventCollector.subscribe(client, port, null);
+        long registered = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (liveFeed.getSubscriberCount() <= subscribers && System.nanoTime() < registered) {
+            Thread.sleep(20);
+        }
+        Long before = postService.createPost(new PostDto("밀리기 전 게시글", "내용", "작성자")).getId();
+        subscriber.awaitEvents(1);
+        assertThat(subscriber.posts).extracting(EventCollector.PostEvent::postId).contains(before);
+
+        // 다른 레플리카에서 한꺼번에 생성된 게시글 (이 인스턴스의 생성 이벤트 없음) - 최근 구간에 CATCH_UP_LIMIT건 이상
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> burst = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            burst.add(new Object[]{OTHER_REPLICA_IDS + i, "몰린 게시글 " + i, now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO posts (id, title, content, content_preview, author, created_at, updated_at, view_count) " +
+                "VALUES (?, ?, '내용', '내용', '다른레플리카작성자', ?, ?, 0)", burst);
+        double resyncs = meterRegistry.get("live.feed.resyncs").counter().count();
+        liveFeed.catchUp();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!subscriber.names.contains("reset") && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(subscriber.names).contains("reset");
+        assertThat(meterRegistry.get("live.feed.resyncs").counter().count()).isEqualTo(resyncs + 1);
+
+        // reset 이전의 ID로 재연결하면 이어받지 않고 reset
+        EventCollector reconnected = EventCollector.subscribe(client, port, before.toString());
+        reconnected.awaitEvents(1);
+        assertThat(reconnected.names).containsExactly("reset");
+
+        subscriber.cancel();
+        reconnected.cancel();
+    }
+
+    private double events() {
+        return meterRegistry.get("live.feed.events").counter().count();
+    }
+
+    private void awaitEvents(double count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (events() < count && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(events()).isGreaterThanOrEqualTo(count);
+    }
+}
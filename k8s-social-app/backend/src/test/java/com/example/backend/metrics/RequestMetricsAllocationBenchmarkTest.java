@@ -0,0 +1,127 @@
+package com.example.backend.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 계측 경로(요청 필터 + Hibernate 세션 이벤트 + 서비스 메서드 타이머)의 요청당 힙 할당량 측정
+ * 미터를 미리 만들어 재사용하므로 워밍업 이후 추가 할당이 없어야 한다
+ * ./gradlew benchmark --tests '*RequestMetricsAllocationBenchmarkTest'
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "app.search.enabled=false")
+@AutoConfigureObservability
+@ActiveProfiles("h2")
+class RequestMetricsAllocationBenchmarkTest {
+
+    private static final int ITERATIONS = 200_000;
+
+    @Autowired
+    private RequestMetricsFilter requestMetricsFilter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void instrumentationDoesNotAllocatePerRequest() throws Throwable {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/posts/{id}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        DbTimingSessionListener listener = new DbTimingSessionListener();
+        FilterChain chain = (req, res) -> {
+            listener.jdbcConnectionAcquisitionStart();
+            listener.jdbcConnectionAcquisitionEnd();
+            listener.jdbcExecuteStatementStart();
+            listener.jdbcExecuteStatementEnd();
+        };
+
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        ServiceTimingInterceptor interceptor =
+                new ServiceTimingInterceptor(beanFactory.getBeanProvider(MeterRegistry.class));
+        MethodInvocation invocation = new FixedInvocation(Target.class.getMethod("call"));
+
+        long filterBytes = measure(() -> requestMetricsFilter.doFilter(request, response, chain));
+        long chainBytes = measure(() -> chain.doFilter(request, response));
+        long timedBytes = measure(() -> interceptor.invoke(invocation));
+        long untimedBytes = measure(invocation::proceed);
+
+        System.out.printf("요청 필터: %d bytes/op (필터 없이: %d), 서비스 타이머: %d bytes/op (타이머 없이: %d)%n",
+                filterBytes, chainBytes, timedBytes, untimedBytes);
+        assertThat(filterBytes).isLessThanOrEqualTo(chainBytes);
+        assertThat(timedBytes).isLessThanOrEqualTo(untimedBytes);
+    }
+
+    private long measure(ThrowingRunnable operation) throws Throwable {
+        for (int i = 0; i < ITERATIONS; i++) {
+            operation.run();
+        }
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            operation.run();
+        }
+        return (threads.getCurrentThreadAllocatedBytes() - before) / ITERATIONS;
+    }
+
+    private interface ThrowingRunnable {
+        void run() throws Throwable;
+    }
+
+    static class Target {
+        public Object call() {
+            return this;
+        }
+    }
+
+    // 프록시가 만드는 호출 객체 대신 재사용하는 호출 - 인터셉터 자체의 할당만 측정
+    private record FixedInvocation(Method method) implements MethodInvocation {
+
+        private static final Target TARGET = new Target();
+        private static final Object[] NO_ARGUMENTS = new Object[0];
+
+        @Override
+        public Method getMethod() {
+            return method;
+        }
+
+        @Override
+        public Object[] getArguments() {
+            return NO_ARGUMENTS;
+        }
+
+        @Override
+        public Object proceed() {
+            return TARGET.call();
+        }
+
+        @Override
+        public Object getThis() {
+            return TARGET;
+        }
+
+        @Override
+        public AccessibleObject getStaticPart() {
+            return method;
+        }
+    }
+}
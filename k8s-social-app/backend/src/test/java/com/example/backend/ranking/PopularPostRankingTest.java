@@ -0,0 +1,44 @@
+package com.example.backend.ranking;
+
+import com.example.backend.dto.PostResponseDto;
+import com.example.backend.dto.PostSummaryDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 인기 게시글 순위: 누적 조회수 순서와 mode 검증 (알 수 없는 mode를 views로 취급하지 않는다)
+ */
+class PopularPostRankingTest {
+
+    @Test
+    void ranksByViewsAndAcceptsModeCaseInsensitively() {
+        PopularPostRanking ranking = new PopularPostRanking(null, 3, 60);
+        ranking.recordView(post(1L, 5));
+        ranking.recordView(post(2L, 50));
+        ranking.recordView(post(3L, 20));
+        ranking.recordView(post(4L, 1));
+
+        assertThat(ranking.top("views", 3)).extracting(PostSummaryDto::getId).containsExactly(2L, 3L, 1L);
+        assertThat(ranking.top("VIEWS", 2)).extracting(PostSummaryDto::getId).containsExactly(2L, 3L);
+        assertThat(ranking.top("Trending", 3)).hasSize(3);
+    }
+
+    @Test
+    void rejectsUnknownMode() {
+        PopularPostRanking ranking = new PopularPostRanking(null, 3, 60);
+
+        assertThat(PopularPostRanking.normalizeMode("Trending")).isEqualTo(PopularPostRanking.MODE_TRENDING);
+        assertThatThrownBy(() -> PopularPostRanking.normalizeMode("latest"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ranking.top(null, 3)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static PostResponseDto post(Long id, long views) {
+        LocalDateTime now = LocalDateTime.now();
+        return new PostResponseDto(id, "게시글 " + id, "내용", "작성자", now, now, views);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.backend.repository;
+
+import com.example.backend.BackendApplication;
+import com.example.backend.dto.PostSummaryDto;
+import com.example.backend.model.Post;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * content_preview 컬럼이 없던 테이블에 게시글이 있는 상태에서 ddl-auto: update로 컬럼을 추가하면
+ * 시작 시 기존 게시글의 미리보기를 채우고 컬럼을 NOT NULL로 바꾸는지 확인
+ * - 첫 실행으로 스키마를 만든 뒤 컬럼을 지우고 예전 게시글을 넣고, 같은 DB로 다시 시작한다
+ */
+class PostPreviewBackfillTest {
+
+    private static final String LONG_CONTENT = "컬럼 추가 전에 저장된 긴 게시글 내용입니다. ".repeat(5);
+
+    private final String url = "jdbc:h2:mem:preview_" + UUID.randomUUID()
+            + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Test
+    void fillsPreviewsOfRowsThatExistedBeforeTheColumn() {
+        // 컬럼 추가 전의 스키마와 데이터
+        try (ConfigurableApplicationContext context = start("create")) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            jdbcTemplate.execute("ALTER TABLE posts DROP COLUMN content_preview");
+            LocalDateTime now = LocalDateTime.now();
+            jdbcTemplate.update("INSERT INTO posts (id, title, content, author, created_at, updated_at, view_count) " +
+                    "VALUES (900001, '예전 게시글', ?, '예전작성자', ?, ?, 0)", LONG_CONTENT, now, now);
+            jdbcTemplate.update("INSERT INTO posts (id, title, content, author, created_at, updated_at, view_count) " +
+                    "VALUES (900002, '짧은 게시글', '짧은 내용', '예전작성자', ?, ?, 0)", now, now);
+        }
+
+        // 새 버전 시작 - ddl-auto: update가 컬럼을 추가하고 PostPreviewBackfill이 채운다
+        try (ConfigurableApplicationContext context = start("update")) {
+            assertThat(context.getBean(PostRepository.class).findAuthorFeed("예전작성자", Limit.of(10)))
+                    .extracting(PostSummaryDto::getContentPreview)
+                    .containsExactlyInAnyOrder(Post.previewOf(LONG_CONTENT), "짧은 내용");
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            assertThatThrownBy(() -> jdbcTemplate.update("UPDATE posts SET content_preview = NULL WHERE id = 900002"))
+                    .isInstanceOf(RuntimeException.class);
+        }
+    }
+
+    // h2 프로필의 URL과 ddl-auto(create-drop)보다 우선하도록 명령행 인자로 넘긴다
+    private ConfigurableApplicationContext start(String ddlAuto) {
+        return new SpringApplicationBuilder(BackendApplication.class)
+                .profiles("h2")
+                .run("--server.port=0", "--app.search.enabled=false", "--app.post-cache.enabled=false",
+                        "--spring.datasource.url=" + url, "--spring.jpa.hibernate.ddl-auto=" + ddlAuto);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.backend.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 역색인 문서 제거와 정리(compact): 제거한 문서는 검색/전체 건수에서 빠지고, 정리 후 메모리가 줄어 다시 추가할 수 있는지 확인
+ */
+class InvertedIndexTest {
+
+    @Test
+    void removedDocumentsAreExcludedFromResultsAndTotals() {
+        InvertedIndex index = new InvertedIndex(1 << 20);
+        for (long id = 1; id <= 10; id++) {
+            index.add(id, "쿠버네티스 게시글 " + id, "배포 이야기");
+        }
+
+        assertThat(index.remove(3)).isTrue();
+        assertThat(index.remove(7)).isTrue();
+        assertThat(index.remove(7)).isFalse();
+        assertThat(index.remove(99)).isFalse();
+
+        InvertedIndex.SearchResult result = index.search("쿠버네티스", 0, 20);
+        assertThat(result.totalHits()).isEqualTo(8);
+        assertThat(result.postIds()).hasSize(8).doesNotContain(3L, 7L);
+        assertThat(index.documentCount()).isEqualTo(8);
+        assertThat(index.removedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void compactKeepsResultsAndReleasesMemory() {
+        InvertedIndex index = new InvertedIndex(1 << 20);
+        for (long id = 1; id <= 20; id++) {
+            index.add(id, "게시글 " + id, id % 2 == 0 ? "짝수 번째 내용" : "홀수 번째 내용");
+        }
+        for (long id = 1; id <= 20; id += 2) {
+            index.remove(id);
+        }
+        List<Long> before = index.search("번째", 0, 20).postIds();
+        long bytesBefore = index.estimatedBytes();
+
+        index.compact();
+
+        assertThat(index.search("번째", 0, 20).postIds()).containsExactlyInAnyOrderElementsOf(before);
+        assertThat(index.search("홀수", 0, 20).totalHits()).isZero();
+        assertThat(index.estimatedBytes()).isLessThan(bytesBefore);
+        assertThat(index.removedCount()).isZero();
+        assertThat(index.documentCount()).isEqualTo(10);
+
+        // 정리 후에도 새 문서 번호로 이어서 추가/검색/제거
+        assertThat(index.add(21, "새 게시글", "짝수 번째 내용")).isEqualTo(InvertedIndex.AddResult.ADDED);
+        assertThat(index.add(2, "게시글 2", "중복")).isEqualTo(InvertedIndex.AddResult.DUPLICATE);
+        assertThat(index.search("짝수", 0, 20).postIds()).hasSize(11).contains(21L);
+        assertThat(index.remove(4)).isTrue();
+        assertThat(index.search("짝수", 0, 20).postIds()).hasSize(10).doesNotContain(4L);
+    }
+
+    @Test
+    void overBudgetIndexAcceptsDocumentsAgainAfterCompaction() {
+        InvertedIndex index = new InvertedIndex(4_096);
+        long id = 0;
+        while (index.add(++id, "예산 확인 게시글 " + id, "내용 " + id) == InvertedIndex.AddResult.ADDED) {
+            // 예산을 넘을 때까지 추가
+        }
+        long rejected = id;
+        for (long removed = 1; removed < rejected / 2; removed++) {
+            index.remove(removed);
+        }
+
+        assertThat(index.add(rejected, "예산 확인 게시글 " + rejected, "내용 " + rejected))
+                .isEqualTo(InvertedIndex.AddResult.OVER_BUDGET);
+        index.compact();
+        assertThat(index.add(rejected, "예산 확인 게시글 " + rejected, "내용 " + rejected))
+                .isEqualTo(InvertedIndex.AddResult.ADDED);
+        assertThat(index.search("예산", 0, 1).totalHits()).isEqualTo(index.documentCount());
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.backend.search;
+
+import com.example.backend.model.Post;
+import com.example.backend.repository.PostRepository;
+import com.example.backend.service.PostService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 메모리 검색 색인 vs 기존 LIKE '%kw%' 쿼리 비교 벤치마크
+ * ./gradlew benchmark --tests '*PostSearchBenchmarkTest' -Dbenchmark.posts=20000
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "app.search.refresh-interval-ms=3600000")
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PostSearchBenchmarkTest {
+
+    private static final String[] WORDS = {
+            "쿠버네티스", "도커", "스프링부트", "배포", "컨테이너", "데이터베이스", "성능", "최적화", "오늘", "점심",
+            "커피", "여행", "사진", "주말", "개발자", "프론트엔드", "백엔드", "리액트", "서버", "클러스터",
+            "kubernetes", "docker", "spring", "mysql", "java", "latency", "cache", "index", "query", "deploy"
+    };
+    private static final String[] KEYWORDS = {"쿠버네티스", "스프링", "최적화", "커피", "docker", "latency"};
+    private static final int ITERATIONS = 200;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostSearchIndex postSearchIndex;
+
+    @BeforeAll
+    void insertPosts() {
+        int count = Integer.getInteger("benchmark.posts", 20_000);
+        Random random = new Random(42);
+        List<Post> batch = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            batch.add(Post.builder()
+                    .title(sentence(random, 4))
+                    .content(sentence(random, 60))
+                    .author("작성자" + random.nextInt(500))
+                    .build());
+            if (batch.size() == 1000) {
+                postRepository.saveAll(batch);
+                batch.clear();
+            }
+        }
+        postRepository.saveAll(batch);
+
+        long started = System.nanoTime();
+        postSearchIndex.refresh();
+        System.out.printf("색인 구축: 게시글 %d건, %.1fms%n", count, (System.nanoTime() - started) / 1e6);
+    }
+
+    @Test
+    void compareWithLikeQuery() {
+        System.out.printf("%-12s %10s %10s %14s %14s%n", "keyword", "db hits", "index hits", "db avg(ms)", "index avg(ms)");
+        for (String keyword : KEYWORDS) {
+            long dbHits = postRepository.findByKeyword(keyword, PageRequest.of(0, 10)).getTotalElements();
+            long indexHits = postService.searchPosts(keyword, 0, 10).getTotalElements();
+            // 바이그램 AND 검색은 LIKE 결과를 모두 포함한다
+            assertThat(indexHits).isGreaterThanOrEqualTo(dbHits);
+
+            double dbMillis = measure(() -> postRepository.findByKeyword(keyword, PageRequest.of(0, 10)));
+            double indexMillis = measure(() -> postService.searchPosts(keyword, 0, 10));
+            System.out.printf("%-12s %10d %10d %14.3f %14.3f%n", keyword, dbHits, indexHits, dbMillis, indexMillis);
+        }
+    }
+
+    private static double measure(Runnable query) {
+        for (int i = 0; i < ITERATIONS / 10; i++) {
+            query.run();
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.run();
+        }
+        return (System.nanoTime() - started) / 1e6 / ITERATIONS;
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sentence.toString();
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.backend.search;
+
+import com.example.backend.controller.PostController;
+import com.example.backend.dto.PostDto;
+import com.example.backend.dto.PostSummaryDto;
+import com.example.backend.service.PostService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 색인 검색 페이징: size는 다른 목록 API와 같은 최대값으로 제한하고,
+ * page * size가 int 범위를 넘어도 음수 위치로 읽지 않고 빈 페이지(전체 건수 유지)를 돌려주는지 확인
+ * (색인 갱신은 테스트가 직접 호출하도록 주기를 길게 둔다)
+ */
+@SpringBootTest(properties = {"app.search.enabled=true", "app.search.refresh-interval-ms=3600000"})
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PostSearchIndexTest {
+
+    private static final int POSTS = 120;
+
+    @Autowired
+    private PostController postController;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostSearchIndex postSearchIndex;
+
+    @BeforeAll
+    void indexPosts() {
+        for (int i = 0; i < POSTS; i++) {
+            postService.createPost(new PostDto("페이징 검색 " + i, "색인 페이징 확인용 내용", "검색작성자"));
+        }
+        postSearchIndex.refresh();
+    }
+
+    @Test
+    void clampsPageSize() {
+        Page<PostSummaryDto> page = search(0, 10_000);
+
+        assertThat(page.getSize()).isEqualTo(100);
+        assertThat(page.getContent()).hasSize(100);
+        assertThat(page.getTotalElements()).isEqualTo(POSTS);
+    }
+
+    @Test
+    void overflowingOffsetReturnsEmptyPage() {
+        Page<PostSummaryDto> page = search(Integer.MAX_VALUE / 50, 100);
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isEqualTo(POSTS);
+    }
+
+    private Page<PostSummaryDto> search(int page, int size) {
+        ResponseEntity<Page<PostSummaryDto>> response = postController.searchPosts("페이징", page, size);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        return response.getBody();
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.CursorPage;
+import com.example.backend.dto.FeedCursor;
+import com.example.backend.dto.PostDto;
+import com.example.backend.dto.PostSummaryDto;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 키셋(커서) 피드: 작성 시각이 같은 게시글이 페이지 경계에 걸려도 빠짐/중복 없이 (createdAt, id) 내림차순으로 이어지는지 확인
+ */
+@SpringBootTest(properties = "app.search.enabled=false")
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class FeedPagingTest {
+
+    private static final int POSTS = 25;
+    private static final String AUTHOR = "피드작성자";
+
+    private static final Comparator<PostSummaryDto> KEYSET_ORDER = Comparator
+            .comparing(PostSummaryDto::getCreatedAt)
+            .thenComparing(PostSummaryDto::getId)
+            .reversed();
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeAll
+    void createPosts() {
+        for (int i = 0; i < POSTS; i++) {
+            String author = i % 2 == 0 ? AUTHOR : "다른작성자";
+            ids.add(postService.createPost(new PostDto("피드 게시글 " + i, "피드 내용 " + i, author)).getId());
+        }
+
+        // 가운데 7건은 작성 시각을 같게 만들어 id로만 순서가 갈리게 한다
+        LocalDateTime tie = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).minusMinutes(5);
+        for (int i = 9; i < 16; i++) {
+            jdbcTemplate.update("UPDATE posts SET created_at = ? WHERE id = ?", tie, ids.get(i));
+        }
+    }
+
+    @Test
+    void feedWalksEveryPostOnceInKeysetOrder() {
+        List<PostSummaryDto> walked = walk(cursor -> postService.getFeed(cursor, 3, false));
+
+        assertThat(walked).extracting(PostSummaryDto::getId).doesNotHaveDuplicates().containsAll(ids);
+        assertThat(walked).isSortedAccordingTo(KEYSET_ORDER);
+    }
+
+    @Test
+    void authorFeedWalksOnlyThatAuthor() {
+        List<PostSummaryDto> walked = walk(cursor -> postService.getAuthorFeed(AUTHOR, cursor, 4));
+
+        assertThat(walked).extracting(PostSummaryDto::getAuthor).containsOnly(AUTHOR);
+        assertThat(walked).hasSize((POSTS + 1) / 2).isSortedAccordingTo(KEYSET_ORDER);
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        CursorPage<PostSummaryDto> first = postService.getAuthorFeed(AUTHOR, "", POSTS);
+
+        assertThat(first.isHasNext()).isFalse();
+        assertThat(first.getNextCursor()).isNull();
+        assertThat(first.getSize()).isEqualTo((POSTS + 1) / 2);
+    }
+
+    @Test
+    void cursorRoundTripsAndRejectsGarbage() {
+        FeedCursor cursor = new FeedCursor(LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_000_000), 42L);
+
+        assertThat(FeedCursor.decode(cursor.encode())).isEqualTo(cursor);
+        assertThatThrownBy(() -> postService.getFeed("not-a-cursor", 3, false))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<PostSummaryDto> walk(Function<String, CursorPage<PostSummaryDto>> feed) {
+        List<PostSummaryDto> walked = new ArrayList<>();
+        String cursor = "";
+        while (cursor != null) {
+            CursorPage<PostSummaryDto> page = feed.apply(cursor);
+            walked.addAll(page.getContent());
+            cursor = page.getNextCursor();
+        }
+        return walked;
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.FeedCursor;
+import com.example.backend.dto.PostSummaryDto;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 피드 지연: 모든 게시글이 posts 한 테이블(이전) vs 1년이 지난 게시글을 posts_archive로 옮긴 뒤(이후)
+ * - benchmark.years년(기본 5)에 걸쳐 benchmark.posts건(기본 1000000)을 저장 → 약 1/years만 활성 테이블에 남는다
+ * - 최신순 피드 첫 페이지, 최근 30일 안의 커서 페이지, 작성자별 피드, 최근 게시글 상세를 섞어 호출 (캐시 끔)
+ * - H2 메모리 DB는 버퍼 풀이 없어 차이가 작게 나온다 - 10M건은 MySQL에서
+ *   SPRING_DATASOURCE_URL 등을 지정하고 -Dbenchmark.posts=10000000으로 실행
+ * ./gradlew benchmark --tests '*PostArchiveBenchmarkTest'
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {"app.search.enabled=false", "app.post-cache.enabled=false",
+        "app.response-cache.enabled=false", "app.archive.max-age=365d",
+        "app.archive.chunk-size=10000", "app.archive.chunk-pause=0ms"})
+@ActiveProfiles("h2")
+class PostArchiveBenchmarkTest {
+
+    private static final int POSTS = Integer.getInteger("benchmark.posts", 1_000_000);
+    private static final int YEARS = Integer.getInteger("benchmark.years", 5);
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 20_000);
+    private static final int AUTHORS = 1_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int INSERT_CHUNK_SIZE = 5_000;
+    private static final String[] OPERATIONS = {"feed", "feed-cursor", "author-feed", "post"};
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostArchiver postArchiver;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void compareSingleTableWithTiering() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime first = now.minusYears(YEARS);
+        insertPosts(first, now);
+        long recentFrom = POSTS - (long) POSTS * 30 / (YEARS * 365);
+
+        List<Long> feedBefore = firstPageIds();
+        System.out.printf("게시글 수: %d, 기간: %d년, 요청 수: %d%n", POSTS, YEARS, REQUESTS);
+        System.out.printf("%-8s %-12s %10s %10s%n", "tables", "operation", "p50(ms)", "p99(ms)");
+        measure("single", recentFrom, now);
+
+        long started = System.nanoTime();
+        long moved = postArchiver.archive();
+        System.out.printf("보관 완료 - 옮긴 게시글 수: %d, 소요 시간: %.1fs%n", moved, (System.nanoTime() - started) / 1e9);
+        measure("tiered", recentFrom, now);
+
+        assertThat(moved).isPositive();
+        assertThat(firstPageIds()).isEqualTo(feedBefore);
+    }
+
+    private void measure(String name, long recentFrom, LocalDateTime now) {
+        // 워밍업
+        run(REQUESTS / 5, recentFrom, now);
+        long[][] latencies = run(REQUESTS, recentFrom, now);
+        for (int op = 0; op < OPERATIONS.length; op++) {
+            long[] sorted = latencies[op];
+            Arrays.sort(sorted);
+            System.out.printf("%-8s %-12s %10.3f %10.3f%n", name, OPERATIONS[op],
+                    percentile(sorted, 0.50), percentile(sorted, 0.99));
+        }
+    }
+
+    private long[][] run(int requests, long recentFrom, LocalDateTime now) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long[][] latencies = new long[OPERATIONS.length][requests / OPERATIONS.length];
+        for (int i = 0; i < latencies[0].length * OPERATIONS.length; i++) {
+            int op = i % OPERATIONS.length;
+            long started = System.nanoTime();
+            switch (op) {
+                case 0 -> postService.getFeed("", PAGE_SIZE, false);
+                case 1 -> postService.getFeed(new FeedCursor(now.minusDays(random.nextInt(30)), Long.MAX_VALUE)
+                        .encode(), PAGE_SIZE, false);
+                case 2 -> postService.getAuthorFeed("작성자" + random.nextInt(AUTHORS), "", PAGE_SIZE);
+                default -> postService.getPostById(random.nextLong(recentFrom, POSTS + 1));
+            }
+            latencies[op][i / OPERATIONS.length] = System.nanoTime() - started;
+        }
+        return latencies;
+    }
+
+    private List<Long> firstPageIds() {
+        return postService.getFeed("", PAGE_SIZE, false).getContent().stream().map(PostSummaryDto::getId).toList();
+    }
+
+    // ID 순서대로 작성 시각이 first부터 now까지 고르게 늘어나도록 저장
+    private void insertPosts(LocalDateTime first, LocalDateTime now) {
+        long spanSeconds = Duration.between(first, now).toSeconds();
+        String content = "쿠버네티스 클러스터에 스프링부트 애플리케이션을 배포했습니다. ".repeat(3);
+        List<Object[]> rows = new ArrayList<>(INSERT_CHUNK_SIZE);
+        for (long id = 1; id <= POSTS; id++) {
+            Timestamp createdAt = Timestamp.valueOf(first.plusSeconds(spanSeconds * (id - 1) / POSTS));
+            rows.add(new Object[]{id, "게시글 제목 " + id, content, "작성자" + (id % AUTHORS), createdAt, createdAt,
+                    content.substring(0, 50) + "..."});
+            if (rows.size() == INSERT_CHUNK_SIZE || id == POSTS) {
+                jdbcTemplate.batchUpdate("INSERT INTO posts (id, title, content, author, created_at, updated_at, " +
+                        "content_preview, view_count) VALUES (?, ?, ?, ?, ?, ?, ?, 0)", rows);
+                rows.clear();
+            }
+        }
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+}
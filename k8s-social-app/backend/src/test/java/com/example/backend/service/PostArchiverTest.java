@@ -0,0 +1,160 @@
+package com.example.backend.service;
+
+import com.example.backend.cache.FeedVersion;
+import com.example.backend.dto.CursorPage;
+import com.example.backend.dto.PostDto;
+import com.example.backend.dto.PostSummaryDto;
+import com.example.backend.ranking.PopularPostRanking;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 오래된 게시글을 보관 테이블로 옮긴 뒤에도 상세/작성자 피드가 그대로 보이고, 최신순 피드는 요청할 때만 보관 구간까지 내려가며,
+ * 옮긴 게시글은 커밋 후 인기 순위에서 빠지고 목록 ETag가 바뀌는지 확인
+ */
+@SpringBootTest(properties = {"app.search.enabled=false", "app.post-cache.enabled=false",
+        "app.archive.chunk-size=7", "app.archive.chunk-pause=0ms"})
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PostArchiverTest {
+
+    private static final int POSTS = 40;
+    private static final int OLD_POSTS = 25;
+    private static final String AUTHOR = "작성자1";
+
+    @Autowired
+    private PostArchiver postArchiver;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostBatchInserter postBatchInserter;
+
+    @Autowired
+    private ViewCountBuffer viewCountBuffer;
+
+    @Autowired
+    private PopularPostRanking popularPostRanking;
+
+    @Autowired
+    private FeedVersion feedVersion;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<Long> ids;
+    private String etagBeforeArchive;
+
+    @BeforeAll
+    void archiveOldPosts() {
+        List<PostDto> posts = new ArrayList<>(POSTS);
+        for (int i = 0; i < POSTS; i++) {
+            posts.add(new PostDto("게시글 " + i, "보관 확인용 게시글 내용 " + i, "작성자" + (i % 3)));
+        }
+        ids = postBatchInserter.insert(posts).stream().map(outcome -> outcome.post().getId()).toList();
+
+        // 앞의 OLD_POSTS건을 2년 전 게시글로 만든다 (ID 순서와 작성 순서를 맞춤)
+        LocalDateTime old = LocalDateTime.now().minusYears(2);
+        for (int i = 0; i < OLD_POSTS; i++) {
+            jdbcTemplate.update("UPDATE posts SET created_at = ? WHERE id = ?", old.plusMinutes(i), ids.get(i));
+        }
+
+        // 옮겨질 게시글과 남을 게시글을 인기 순위에 올린다
+        postService.getPostById(ids.get(0));
+        postService.getPostById(ids.get(OLD_POSTS));
+
+        feedVersion.reconcile();
+        etagBeforeArchive = feedVersion.etag();
+
+        long moved = postArchiver.archiveOlderThan(LocalDateTime.now().minusYears(1));
+        assertThat(moved).isEqualTo(OLD_POSTS);
+    }
+
+    @Test
+    void movesOnlyOldPosts() {
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM posts", Long.class)).isEqualTo(POSTS - OLD_POSTS);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM posts_archive", Long.class)).isEqualTo(OLD_POSTS);
+    }
+
+    @Test
+    void archivedPostsLeaveRanking() {
+        for (String mode : List.of(PopularPostRanking.MODE_VIEWS, PopularPostRanking.MODE_TRENDING)) {
+            assertThat(popularPostRanking.top(mode, 100)).extracting(PostSummaryDto::getId)
+                    .as(mode).contains(ids.get(OLD_POSTS)).doesNotContain(ids.get(0));
+        }
+    }
+
+    @Test
+    void archivingChangesFeedETag() {
+        // ETag의 첫 요소는 활성 게시글 수 - 재집계 없이 커밋 이벤트만으로 바뀌고, 재집계 후에도 같다
+        String activePosts = "\"" + Long.toHexString(POSTS - OLD_POSTS) + "-";
+        assertThat(etagBeforeArchive).startsWith("\"" + Long.toHexString(POSTS) + "-");
+        assertThat(feedVersion.etag()).isNotEqualTo(etagBeforeArchive).startsWith(activePosts);
+
+        feedVersion.reconcile();
+        assertThat(feedVersion.etag()).startsWith(activePosts);
+    }
+
+    @Test
+    void archivedPostIsReadableById() {
+        assertThat(postService.getPostById(ids.get(3)).getTitle()).isEqualTo("게시글 3");
+    }
+
+    @Test
+    void authorFeedContinuesIntoArchive() {
+        List<Long> expected = new ArrayList<>();
+        for (int i = POSTS - 1; i >= 0; i--) {
+            if (i % 3 == 1) {
+                expected.add(ids.get(i));
+            }
+        }
+
+        assertThat(walk(cursor -> postService.getAuthorFeed(AUTHOR, cursor, 4))).isEqualTo(expected);
+
+        Page<PostSummaryDto> page = postService.getPostsByAuthor(AUTHOR, 2, 4);
+        assertThat(page.getTotalElements()).isEqualTo(expected.size());
+        assertThat(page.getContent()).extracting(PostSummaryDto::getId).isEqualTo(expected.subList(8, 12));
+    }
+
+    @Test
+    void mainFeedStopsAtHotTierUnlessAsked() {
+        assertThat(walk(cursor -> postService.getFeed(cursor, 6, false))).hasSize(POSTS - OLD_POSTS);
+        assertThat(walk(cursor -> postService.getFeed(cursor, 6, true))).hasSize(POSTS).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void viewsOfArchivedPostsAreFlushedToArchive() {
+        Long id = ids.get(5);
+        viewCountBuffer.recordView(id, "작성자2");
+        viewCountBuffer.recordView(id, "작성자2");
+        viewCountBuffer.flush();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT view_count FROM posts_archive WHERE id = ?", Long.class, id))
+                .isEqualTo(2);
+    }
+
+    private static List<Long> walk(Function<String, CursorPage<PostSummaryDto>> feed) {
+        List<Long> walked = new ArrayList<>();
+        String cursor = "";
+        while (cursor != null) {
+            CursorPage<PostSummaryDto> page = feed.apply(cursor);
+            page.getContent().forEach(post -> walked.add(post.getId()));
+            cursor = page.getNextCursor();
+        }
+        return walked;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.PostBatchResponseDto;
+import com.example.backend.dto.PostDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 생성: 한 건씩 createPost(이전) vs POST /api/posts/batch 경로(이후) 처리량 비교 (H2 MySQL 호환 모드)
+ * ./gradlew benchmark --tests '*PostBatchBenchmarkTest' -Dbenchmark.batch.posts=20000
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "app.search.enabled=false")
+@ActiveProfiles("h2")
+class PostBatchBenchmarkTest {
+
+    private static final int POSTS = Integer.getInteger("benchmark.batch.posts", 5_000);
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostBatchService postBatchService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void compareSingleInsertsWithBatch() throws Exception {
+        List<PostDto> posts = new ArrayList<>(POSTS);
+        String content = "쿠버네티스 클러스터에 스프링부트 애플리케이션을 배포했습니다. ".repeat(10);
+        for (int i = 0; i < POSTS; i++) {
+            posts.add(new PostDto("이관 게시글 " + i, content, "작성자" + (i % 100)));
+        }
+        byte[] body = objectMapper.writeValueAsBytes(posts);
+
+        // 워밍업
+        for (int i = 0; i < 200; i++) {
+            postService.createPost(posts.get(i));
+        }
+        postBatchService.ingest(new ByteArrayInputStream(objectMapper.writeValueAsBytes(posts.subList(0, 1_000))));
+
+        long started = System.nanoTime();
+        for (PostDto post : posts) {
+            postService.createPost(post);
+        }
+        double singleSeconds = (System.nanoTime() - started) / 1e9;
+
+        started = System.nanoTime();
+        PostBatchResponseDto result = postBatchService.ingest(new ByteArrayInputStream(body));
+        double batchSeconds = (System.nanoTime() - started) / 1e9;
+
+        System.out.printf("%-8s %8s %10s %12s%n", "path", "posts", "seconds", "posts/sec");
+        System.out.printf("%-8s %8d %10.2f %12.0f%n", "single", POSTS, singleSeconds, POSTS / singleSeconds);
+        System.out.printf("%-8s %8d %10.2f %12.0f%n", "batch", POSTS, batchSeconds, POSTS / batchSeconds);
+
+        assertThat(result.getCreated()).isEqualTo(POSTS);
+    }
+}
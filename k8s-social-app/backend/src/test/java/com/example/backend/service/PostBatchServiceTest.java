@@ -0,0 +1,101 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.PostBatchResponseDto;
+import com.example.backend.dto.PostBatchResponseDto.ItemResult;
+import com.example.backend.dto.PostBatchResponseDto.Status;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 게시글 일괄 생성: 청크 경계를 넘어도 항목별 결과가 요청 순서대로 나오고, 잘못된 항목/최대 건수/깨진 JSON이
+ * 나머지 항목 처리를 어떻게 바꾸는지 확인
+ */
+@SpringBootTest(properties = {"app.search.enabled=false", "app.post-batch.chunk-size=3", "app.post-batch.max-items=8"})
+@ActiveProfiles("h2")
+class PostBatchServiceTest {
+
+    @Autowired
+    private PostBatchService postBatchService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void storesValidItemsAndReportsInvalidOnesInRequestOrder() throws Exception {
+        String body = "[" + item("일괄1", "배치작성자1") + ","
+                + "{\"title\":\"\",\"content\":\"내용\",\"author\":\"배치작성자1\"},"
+                + item("일괄2", "배치작성자1") + ","
+                + "{\"title\":[1,2],\"content\":\"내용\",\"author\":\"배치작성자1\"},"
+                + item("일괄3", "배치작성자1") + ","
+                + item("일괄4", "배치작성자1") + "]";
+
+        PostBatchResponseDto result = ingest(body);
+
+        assertThat(result.getTotal()).isEqualTo(6);
+        assertThat(result.getCreated()).isEqualTo(4);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.isTruncated()).isFalse();
+        assertThat(result.getError()).isNull();
+        assertThat(result.getItems()).extracting(ItemResult::getIndex).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(result.getItems()).extracting(ItemResult::getStatus).containsExactly(
+                Status.CREATED, Status.INVALID, Status.CREATED, Status.INVALID, Status.CREATED, Status.CREATED);
+        assertThat(result.getItems().get(1).getErrors()).containsExactly("제목은 필수 항목입니다.");
+
+        List<Long> ids = result.getItems().stream()
+                .filter(item -> item.getStatus() == Status.CREATED)
+                .map(ItemResult::getId)
+                .toList();
+        assertThat(ids).doesNotHaveDuplicates();
+        assertThat(jdbcTemplate.queryForList("SELECT title FROM posts WHERE author = '배치작성자1' ORDER BY id", String.class))
+                .containsExactly("일괄1", "일괄2", "일괄3", "일괄4");
+    }
+
+    @Test
+    void stopsReadingAfterMaxItems() throws Exception {
+        String body = IntStream.range(0, 10)
+                .mapToObj(i -> item("초과" + i, "배치작성자2"))
+                .collect(Collectors.joining(",", "[", "]"));
+
+        PostBatchResponseDto result = ingest(body);
+
+        assertThat(result.isTruncated()).isTrue();
+        assertThat(result.getCreated()).isEqualTo(8);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM posts WHERE author = '배치작성자2'", Long.class))
+                .isEqualTo(8);
+    }
+
+    @Test
+    void keepsItemsBeforeMalformedJson() throws Exception {
+        PostBatchResponseDto result = ingest("[" + item("깨짐1", "배치작성자3") + "," + item("깨짐2", "배치작성자3") + ",{\"title\":");
+
+        assertThat(result.getError()).isNotNull();
+        assertThat(result.getCreated()).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM posts WHERE author = '배치작성자3'", Long.class))
+                .isEqualTo(2);
+    }
+
+    @Test
+    void rejectsNonArrayBody() {
+        assertThatThrownBy(() -> ingest(item("배열 아님", "배치작성자4"))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private PostBatchResponseDto ingest(String body) throws Exception {
+        return postBatchService.ingest(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String item(String title, String author) {
+        return "{\"title\":\"" + title + "\",\"content\":\"일괄 생성 내용\",\"author\":\"" + author + "\"}";
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.FeedCursor;
+import com.example.backend.dto.PostDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 기간별 내보내기: 기간 안의 게시글을 (createdAt, id) 내림차순으로 한 번씩 내보내고,
+ * 중간 줄의 cursor로 이어받으면 나머지만 이어서 나오는지, 동시 실행 수가 제한되는지 확인
+ * (기간 앞쪽 게시글은 보관 테이블로 옮겨 두어 활성 → 보관 테이블로 이어 읽는 경우를 함께 확인)
+ */
+@SpringBootTest(properties = {"app.search.enabled=false", "app.export.max-concurrent=1"})
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PostExportServiceTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2001, 1, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2001, 2, 1, 0, 0);
+    private static final int POSTS = 12;
+
+    @Autowired
+    private PostExportService postExportService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostArchiver postArchiver;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeAll
+    void createPosts() {
+        for (int i = 0; i < POSTS; i++) {
+            ids.add(postService.createPost(new PostDto("내보내기 " + i, "내보내기 내용 " + i, "내보내기작성자")).getId());
+        }
+        // 기간 안: 일부는 작성 시각이 같아 id로만 순서가 갈린다, 마지막 두 건은 기간 밖 (to는 포함하지 않는다)
+        for (int i = 0; i < POSTS - 2; i++) {
+            setCreatedAt(ids.get(i), FROM.plusDays(i / 3));
+        }
+        setCreatedAt(ids.get(POSTS - 2), TO);
+        setCreatedAt(ids.get(POSTS - 1), FROM.minusSeconds(1));
+        // 첫 이틀(0~5번)과 기간 앞의 게시글은 보관 테이블로
+        assertThat(postArchiver.archiveOlderThan(FROM.plusDays(2))).isEqualTo(7);
+    }
+
+    @Test
+    void exportsRangeInKeysetOrder() throws Exception {
+        List<JsonNode> lines = export(null);
+
+        assertThat(lines).hasSize(POSTS - 2);
+        assertThat(lines).extracting(line -> line.get("id").asLong())
+                .doesNotHaveDuplicates()
+                .containsExactlyInAnyOrderElementsOf(ids.subList(0, POSTS - 2));
+        for (int i = 1; i < lines.size(); i++) {
+            FeedCursor previous = FeedCursor.decode(lines.get(i - 1).get("cursor").asText());
+            FeedCursor current = FeedCursor.decode(lines.get(i).get("cursor").asText());
+            assertThat(current.createdAt().isBefore(previous.createdAt())
+                    || (current.createdAt().equals(previous.createdAt()) && current.id() < previous.id())).isTrue();
+        }
+    }
+
+    @Test
+    void resumesAfterCursor() throws Exception {
+        List<JsonNode> all = export(null);
+        // 작성 시각이 같은 게시글 사이에서 끊긴 경우
+        String cursor = all.get(4).get("cursor").asText();
+
+        List<JsonNode> resumed = export(postExportService.validate(FROM, TO, cursor));
+
+        assertThat(resumed).extracting(line -> line.get("id").asLong())
+                .containsExactlyElementsOf(all.subList(5, all.size()).stream().map(line -> line.get("id").asLong()).toList());
+    }
+
+    @Test
+    void continuesIntoArchive() throws Exception {
+        List<JsonNode> all = export(null);
+        assertThat(all).extracting(line -> line.get("id").asLong()).containsAll(ids.subList(0, 6));
+
+        // 활성 테이블 게시글의 cursor로 이어받아도 보관 테이블 게시글까지 나온다
+        String cursor = all.get(1).get("cursor").asText();
+        List<JsonNode> resumed = export(postExportService.validate(FROM, TO, cursor));
+
+        assertThat(resumed).extracting(line -> line.get("id").asLong())
+                .containsExactlyElementsOf(all.subList(2, all.size()).stream().map(line -> line.get("id").asLong()).toList());
+    }
+
+    @Test
+    void rejectsInvalidRangeAndCursor() {
+        assertThatThrownBy(() -> postExportService.validate(TO, FROM, null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> postExportService.validate(FROM, TO, "not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void limitsConcurrentExports() {
+        assertThat(postExportService.tryAcquireSlot()).isTrue();
+        try {
+            assertThat(postExportService.tryAcquireSlot()).isFalse();
+        } finally {
+            postExportService.releaseSlot();
+        }
+        assertThat(postExportService.tryAcquireSlot()).isTrue();
+        postExportService.releaseSlot();
+    }
+
+    private List<JsonNode> export(FeedCursor after) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long exported = postExportService.export(FROM, TO, after, out);
+
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isBlank()) {
+                lines.add(objectMapper.readTree(line));
+            }
+        }
+        assertThat(lines).hasSize((int) exported);
+        return lines;
+    }
+
+    private void setCreatedAt(Long id, LocalDateTime createdAt) {
+        jdbcTemplate.update("UPDATE posts SET created_at = ? WHERE id = ?", createdAt, id);
+    }
+}
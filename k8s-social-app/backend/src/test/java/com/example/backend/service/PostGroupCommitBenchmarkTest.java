@@ -0,0 +1,102 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.PostDto;
+import com.example.backend.dto.PostResponseDto;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 게시글 생성: 요청마다 트랜잭션/커밋(createPost, 이전) vs 그룹 커밋(PostGroupCommitter) 처리량과 p99 비교
+ * - 작성 스레드 benchmark.writers개(기본 64)가 각자 게시글을 연속으로 생성
+ * - H2 메모리 DB는 fsync가 없으므로 커밋 비용 차이가 작게 나온다 - MySQL에서 재려면
+ *   SPRING_DATASOURCE_URL, SPRING_DATASOURCE_DRIVER_CLASS_NAME(com.mysql.cj.jdbc.Driver) 등을 지정해 실행
+ * ./gradlew benchmark --tests '*PostGroupCommitBenchmarkTest' -Dbenchmark.creates=20000
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {"app.search.enabled=false", "app.group-commit.enabled=true"})
+@ActiveProfiles("h2")
+class PostGroupCommitBenchmarkTest {
+
+    private static final int WRITERS = Integer.getInteger("benchmark.writers", 64);
+    private static final int CREATES = Integer.getInteger("benchmark.creates", 10_000);
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostGroupCommitter postGroupCommitter;
+
+    @Test
+    void compareSingleCommitsWithGroupCommit() throws Exception {
+        // 워밍업
+        run(postService::createPost, CREATES / 10);
+        run(postGroupCommitter::create, CREATES / 10);
+
+        System.out.printf("작성 스레드: %d, 생성 수: %d%n", WRITERS, CREATES);
+        System.out.printf("%-8s %12s %10s %10s %10s%n", "path", "posts/sec", "p50(ms)", "p99(ms)", "errors");
+        Result single = run(postService::createPost, CREATES);
+        print("single", single);
+        Result group = run(postGroupCommitter::create, CREATES);
+        print("group", group);
+
+        assertThat(single.errors()).isZero();
+        assertThat(group.errors()).isZero();
+    }
+
+    private Result run(Function<PostDto, PostResponseDto> create, int creates) throws InterruptedException {
+        String content = "쿠버네티스 클러스터에 스프링부트 애플리케이션을 배포했습니다. ".repeat(10);
+        long[] latencies = new long[creates];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(WRITERS);
+        ExecutorService writers = Executors.newFixedThreadPool(WRITERS);
+
+        long started = System.nanoTime();
+        for (int w = 0; w < WRITERS; w++) {
+            writers.execute(() -> {
+                int i;
+                while ((i = next.getAndIncrement()) < creates) {
+                    long sent = System.nanoTime();
+                    try {
+                        create.apply(new PostDto("그룹 커밋 게시글 " + i, content, "작성자" + (i % 100)));
+                    } catch (RuntimeException e) {
+                        errors.incrementAndGet();
+                    }
+                    latencies[i] = System.nanoTime() - sent;
+                }
+                done.countDown();
+            });
+        }
+        done.await();
+        double seconds = (System.nanoTime() - started) / 1e9;
+        writers.shutdown();
+
+        Arrays.sort(latencies);
+        return new Result(creates / seconds, latencies, errors.get());
+    }
+
+    private static void print(String name, Result result) {
+        System.out.printf("%-8s %12.0f %10.2f %10.2f %10d%n", name, result.throughput(),
+                result.percentile(0.50), result.percentile(0.99), result.errors());
+    }
+
+    private record Result(double throughput, long[] latencies, int errors) {
+
+        double percentile(double p) {
+            int index = (int) Math.ceil(p * latencies.length) - 1;
+            return latencies[Math.max(0, index)] / 1e6;
+        }
+    }
+}
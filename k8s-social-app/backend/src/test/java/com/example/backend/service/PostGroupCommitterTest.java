@@ -0,0 +1,197 @@
+package com.example.backend.service;
+
+import com.example.backend.controller.PostController;
+import com.example.backend.dto.PostDto;
+import com.example.backend.dto.PostResponseDto;
+import com.example.backend.repository.PostRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 게시글 생성 그룹 커밋: 대기열이 가득 차면 503 + Retry-After로 바로 거절하고,
+ * 묶음 안의 한 건이 저장에 실패해도 나머지는 저장되는지 확인
+ * (쓰기 스레드를 첫 묶음에서 잠시 멈춰 두어 대기열에 요청이 쌓이게 한다)
+ */
+@SpringBootTest(properties = {
+        "app.search.enabled=false", "app.group-commit.enabled=true", "app.group-commit.max-batch=10",
+        "app.group-commit.max-latency=1ms", "app.group-commit.queue-capacity=4"})
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PostGroupCommitterTest {
+
+    @Autowired
+    private PostGroupCommitter postGroupCommitter;
+
+    @Autowired
+    private PostController postController;
+
+    @Autowired
+    private GatedInserter gatedInserter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ExecutorService clients = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void openGate() {
+        gatedInserter.open();
+    }
+
+    @AfterAll
+    void stopClients() {
+        clients.shutdownNow();
+    }
+
+    @Test
+    void rejectsWithServiceUnavailableWhenQueueIsFull() throws Exception {
+        CompletableFuture<PostResponseDto> inFlight = holdWriter("대기열작성자");
+        List<CompletableFuture<PostResponseDto>> queued = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            queued.add(createAsync(new PostDto("대기 " + i, "내용", "대기열작성자")));
+        }
+        awaitQueueSize(4);
+
+        ResponseEntity<Map<String, Object>> response = postController.createPost(new PostDto("초과", "내용", "대기열작성자"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+
+        gatedInserter.open();
+        inFlight.get(10, TimeUnit.SECONDS);
+        for (CompletableFuture<PostResponseDto> future : queued) {
+            assertThat(future.get(10, TimeUnit.SECONDS).getId()).isNotNull();
+        }
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM posts WHERE title = '초과'", Long.class)).isZero();
+    }
+
+    @Test
+    void failingItemDoesNotFailTheRestOfTheBatch() throws Exception {
+        CompletableFuture<PostResponseDto> inFlight = holdWriter("묶음작성자");
+        List<CompletableFuture<PostResponseDto>> good = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            good.add(createAsync(new PostDto("묶음 " + i, "내용", "묶음작성자")));
+        }
+        // 제목 길이 제한(200자)을 넘어 INSERT가 실패하는 항목
+        CompletableFuture<PostResponseDto> bad = createAsync(new PostDto("가".repeat(201), "내용", "묶음작성자"));
+        awaitQueueSize(4);
+
+        gatedInserter.open();
+        inFlight.get(10, TimeUnit.SECONDS);
+
+        for (CompletableFuture<PostResponseDto> future : good) {
+            assertThat(future.get(10, TimeUnit.SECONDS).getId()).isNotNull();
+        }
+        assertThatThrownBy(bad::join).isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        // 네 건이 한 묶음으로 넘어갔고, 그중 잘못된 한 건만 빠졌다
+        assertThat(gatedInserter.batchSizes).contains(4);
+        assertThat(jdbcTemplate.queryForList("SELECT title FROM posts WHERE author = '묶음작성자'", String.class))
+                .containsExactlyInAnyOrder("묶음 대기", "묶음 0", "묶음 1", "묶음 2");
+    }
+
+    // 쓰기 스레드가 첫 요청의 저장에서 멈추게 한다 - 이후 요청은 대기열에 쌓인다
+    private CompletableFuture<PostResponseDto> holdWriter(String author) throws InterruptedException {
+        CountDownLatch entered = gatedInserter.close();
+        CompletableFuture<PostResponseDto> inFlight = createAsync(new PostDto(author.replace("작성자", "") + " 대기", "내용", author));
+        assertThat(entered.await(10, TimeUnit.SECONDS)).isTrue();
+        return inFlight;
+    }
+
+    private CompletableFuture<PostResponseDto> createAsync(PostDto request) {
+        return CompletableFuture.supplyAsync(() -> postGroupCommitter.create(request), clients);
+    }
+
+    private void awaitQueueSize(int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (queueSize() < size && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(queueSize()).isEqualTo(size);
+    }
+
+    private double queueSize() {
+        return meterRegistry.get("posts.group-commit.queue.size").gauge().value();
+    }
+
+    /**
+     * 닫혀 있는 동안 저장을 멈추는 PostBatchInserter - 넘겨받은 묶음 크기를 기록
+     */
+    static class GatedInserter extends PostBatchInserter {
+
+        final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+        private volatile CountDownLatch entered = new CountDownLatch(0);
+
+        GatedInserter(PostRepository postRepository, PlatformTransactionManager transactionManager,
+                      ApplicationEventPublisher eventPublisher) {
+            super(postRepository, transactionManager, eventPublisher);
+        }
+
+        CountDownLatch close() {
+            entered = new CountDownLatch(1);
+            gate = new CountDownLatch(1);
+            return entered;
+        }
+
+        void open() {
+            gate.countDown();
+        }
+
+        @Override
+        public List<Outcome> insert(List<PostDto> requests) {
+            batchSizes.add(requests.size());
+            CountDownLatch gate = this.gate;
+            entered.countDown();
+            try {
+                gate.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.insert(requests);
+        }
+    }
+
+    @TestConfiguration
+    static class GateConfig {
+
+        @Bean
+        @Primary
+        GatedInserter gatedInserter(PostRepository postRepository, PlatformTransactionManager transactionManager,
+                                    ApplicationEventPublisher eventPublisher) {
+            return new GatedInserter(postRepository, transactionManager, eventPublisher);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.PostSummaryDto;
+import com.example.backend.model.Post;
+import com.example.backend.repository.PostRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회: 엔티티 전체 로딩(이전) vs 요약 프로젝션(이후) 비교
+ * 요청당 읽은 행 수, 응답 JSON 바이트, 힙 할당량, 소요 시간을 출력
+ * (H2는 쿼리가 읽은 바이트 수를 알려 주지 않으므로 DB 읽기량은 MySQL의 Innodb_data_read 등으로 따로 확인)
+ * ./gradlew benchmark --tests '*PostListProjectionBenchmarkTest'
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "app.search.enabled=false")
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PostListProjectionBenchmarkTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int ITERATIONS = 500;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeAll
+    void insertPosts() {
+        String content = "쿠버네티스 클러스터에 스프링부트 애플리케이션을 배포했습니다. ".repeat(60);
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            posts.add(Post.builder().title("게시글 제목 " + i).content(content).author("작성자" + (i % 50)).build());
+        }
+        postRepository.saveAll(posts);
+    }
+
+    @Test
+    void compareEntityLoadingWithProjection() throws Exception {
+        Supplier<Page<PostSummaryDto>> before = () -> postRepository
+                .findAllByOrderByCreatedAtDesc(PageRequest.of(0, PAGE_SIZE))
+                .map(PostSummaryDto::fromEntity);
+        Supplier<Page<PostSummaryDto>> after = () -> postRepository.findSummaries(PageRequest.of(0, PAGE_SIZE));
+
+        System.out.printf("%-10s %6s %12s %16s %12s%n",
+                "path", "rows", "json bytes", "alloc bytes/req", "avg(ms)");
+        Result entity = measure("entity", before);
+        Result projection = measure("projection", after);
+
+        assertThat(projection.jsonBytes).isEqualTo(entity.jsonBytes);
+        assertThat(projection.allocatedPerRequest).isLessThan(entity.allocatedPerRequest);
+    }
+
+    private Result measure(String name, Supplier<Page<PostSummaryDto>> query) throws Exception {
+        for (int i = 0; i < ITERATIONS / 5; i++) {
+            query.get();
+        }
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long started = System.nanoTime();
+        Page<PostSummaryDto> page = null;
+        for (int i = 0; i < ITERATIONS; i++) {
+            page = query.get();
+        }
+        double avgMillis = (System.nanoTime() - started) / 1e6 / ITERATIONS;
+        long allocatedPerRequest = (threads.getCurrentThreadAllocatedBytes() - allocatedBefore) / ITERATIONS;
+
+        int jsonBytes = objectMapper.writeValueAsBytes(page.getContent()).length;
+        System.out.printf("%-10s %6d %12d %16d %12.3f%n",
+                name, page.getNumberOfElements(), jsonBytes, allocatedPerRequest, avgMillis);
+        return new Result(jsonBytes, allocatedPerRequest);
+    }
+
+    private record Result(int jsonBytes, long allocatedPerRequest) {
+    }
+}
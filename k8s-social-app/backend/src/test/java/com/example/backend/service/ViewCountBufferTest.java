@@ -0,0 +1,134 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.PostDto;
+import com.example.backend.event.ViewCountsFlushedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회수 버퍼: 기록한 조회수가 반영 시 정확히 한 번씩 DB에 더해지고, 반영 이벤트로 게시글/작성자별 증가량이 전달되는지 확인
+ */
+@SpringBootTest(properties = {"app.search.enabled=false", "app.post-cache.enabled=false",
+        "app.view-count.flush-interval-ms=3600000"})
+@ActiveProfiles("h2")
+@RecordApplicationEvents
+class ViewCountBufferTest {
+
+    @Autowired
+    private ViewCountBuffer viewCountBuffer;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @Test
+    void flushAppliesBufferedViewsExactlyOnce() {
+        Long id = createPost("작성자1");
+
+        assertThat(viewCountBuffer.recordView(id, "작성자1")).isEqualTo(1);
+        assertThat(viewCountBuffer.recordView(id, "작성자1")).isEqualTo(2);
+        assertThat(viewCountBuffer.recordView(id, "작성자1")).isEqualTo(3);
+        assertThat(storedViews(id)).isZero();
+
+        viewCountBuffer.flush();
+        assertThat(storedViews(id)).isEqualTo(3);
+
+        // 새 조회가 없으면 다시 반영해도 그대로, 카운터가 정리된 뒤의 조회도 한 번만 반영
+        viewCountBuffer.flush();
+        viewCountBuffer.flush();
+        assertThat(storedViews(id)).isEqualTo(3);
+        assertThat(viewCountBuffer.recordView(id, "작성자1")).isEqualTo(1);
+        viewCountBuffer.flush();
+        viewCountBuffer.flush();
+        assertThat(storedViews(id)).isEqualTo(4);
+    }
+
+    @Test
+    void detailResponseIncludesPendingViews() {
+        Long id = createPost("작성자2");
+
+        assertThat(postService.getPostById(id).getViewCount()).isEqualTo(1);
+        assertThat(postService.getPostById(id).getViewCount()).isEqualTo(2);
+        viewCountBuffer.flush();
+        assertThat(storedViews(id)).isEqualTo(2);
+        assertThat(postService.getPostById(id).getViewCount()).isEqualTo(3);
+    }
+
+    @Test
+    void flushPublishesDeltasWithAuthor() {
+        Long first = createPost("작성자3");
+        Long second = createPost("작성자4");
+        viewCountBuffer.recordView(first, "작성자3");
+        viewCountBuffer.recordView(second, "작성자4");
+        viewCountBuffer.recordView(second, "작성자4");
+
+        viewCountBuffer.flush();
+
+        List<ViewCountsFlushedEvent.ViewDelta> deltas = applicationEvents.stream(ViewCountsFlushedEvent.class)
+                .flatMap(event -> event.deltas().stream())
+                .filter(delta -> delta.postId().equals(first) || delta.postId().equals(second))
+                .toList();
+        assertThat(deltas).containsExactlyInAnyOrder(
+                new ViewCountsFlushedEvent.ViewDelta(first, "작성자3", 1),
+                new ViewCountsFlushedEvent.ViewDelta(second, "작성자4", 2));
+    }
+
+    @Test
+    void concurrentViewsAreNotLostWhileFlushing() throws Exception {
+        Long id = createPost("작성자5");
+        int threads = 8;
+        int viewsPerThread = 2_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < viewsPerThread; i++) {
+                        viewCountBuffer.recordView(id, "작성자5");
+                    }
+                }));
+            }
+            // 기록하는 동안 반영을 반복해 차감과 증가가 겹치게 한다
+            while (!futures.stream().allMatch(Future::isDone)) {
+                viewCountBuffer.flush();
+                Thread.sleep(2);
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        viewCountBuffer.flush();
+        viewCountBuffer.flush();
+
+        assertThat(storedViews(id)).isEqualTo((long) threads * viewsPerThread);
+    }
+
+    private Long createPost(String author) {
+        return postService.createPost(new PostDto("조회수 확인용 게시글", "조회수 버퍼 테스트 내용", author)).getId();
+    }
+
+    private long storedViews(Long id) {
+        return jdbcTemplate.queryForObject("SELECT view_count FROM posts WHERE id = ?", Long.class, id);
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.backend.stats;
+
+import com.example.backend.dto.ActivityBucketDto;
+import com.example.backend.dto.ActivityReportDto;
+import com.example.backend.dto.PostResponseDto;
+import com.example.backend.event.PostCreatedEvent;
+import com.example.backend.model.ActivityRollup.Granularity;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * 기간 활동 집계: posts 테이블 GROUP BY(이전) vs activity_rollups 구간 행 조회(ActivityRollups.report)
+ * - benchmark.days일(기본 90) 동안 benchmark.posts건(기본 200000)의 게시글을 저장하면서 같은 생성 이벤트를 집계에 전달
+ * - 반영 후 압축하면 보존 기간(14일)이 지난 시간 구간은 일 구간 행이 된다
+ * - 게시글 수가 다른 일 구간 수와 작성자 수(HyperLogLog 추정)의 오차를 함께 출력 (동작 확인은 ActivityRollupsTest, HyperLogLogTest)
+ * ./gradlew benchmark --tests '*ActivityRollupBenchmarkTest' -Dbenchmark.posts=1000000
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {"app.search.enabled=false", "app.analytics.flush-interval-ms=3600000",
+        "app.analytics.compaction-interval-ms=3600000"})
+@ActiveProfiles("h2")
+class ActivityRollupBenchmarkTest {
+
+    private static final int POSTS = Integer.getInteger("benchmark.posts", 200_000);
+    private static final int DAYS = Integer.getInteger("benchmark.days", 90);
+    private static final int AUTHORS = 5_000;
+    private static final int INSERT_CHUNK_SIZE = 1_000;
+    private static final int ITERATIONS = 20;
+
+    private static final String SQL_DAILY = "SELECT CAST(created_at AS DATE), COUNT(*), COUNT(DISTINCT author) " +
+            "FROM posts WHERE created_at >= ? AND created_at < ? GROUP BY CAST(created_at AS DATE)";
+    private static final String SQL_DISTINCT_AUTHORS =
+            "SELECT COUNT(DISTINCT author) FROM posts WHERE created_at >= ? AND created_at < ?";
+
+    @Autowired
+    private ActivityRollups activityRollups;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void compareGroupByWithRollups() {
+        LocalDateTime to = Granularity.DAY.next(Granularity.DAY.truncate(LocalDateTime.now()));
+        LocalDateTime from = to.minusDays(DAYS);
+        insertPosts(from);
+
+        long started = System.nanoTime();
+        activityRollups.flush();
+        activityRollups.compact();
+        System.out.printf("게시글 수: %d, 기간: %d일, 반영+압축: %.1fms%n", POSTS, DAYS, (System.nanoTime() - started) / 1e6);
+
+        Map<LocalDateTime, long[]> exact = new HashMap<>();
+        double groupByMillis = time(() -> {
+            exact.clear();
+            jdbcTemplate.query(SQL_DAILY, row -> {
+                exact.put(row.getDate(1).toLocalDate().atStartOfDay(), new long[]{row.getLong(2), row.getLong(3)});
+            }, Timestamp.valueOf(from), Timestamp.valueOf(to));
+            return exact;
+        });
+        long exactAuthors = jdbcTemplate.queryForObject(SQL_DISTINCT_AUTHORS, Long.class,
+                Timestamp.valueOf(from), Timestamp.valueOf(to));
+
+        ActivityReportDto[] report = new ActivityReportDto[1];
+        double rollupMillis = time(() -> report[0] = activityRollups.report(from, to, Granularity.DAY));
+
+        double maxDailyError = 0;
+        int mismatchedDays = 0;
+        for (ActivityBucketDto bucket : report[0].getBuckets()) {
+            long[] expected = exact.getOrDefault(bucket.getBucketStart(), new long[]{0, 0});
+            if (bucket.getPosts() != expected[0]) {
+                mismatchedDays++;
+            }
+            if (expected[1] > 0) {
+                maxDailyError = Math.max(maxDailyError, relativeError(bucket.getDistinctAuthors(), expected[1]));
+            }
+        }
+
+        System.out.printf("%-10s %10s %8s%n", "path", "avg(ms)", "rows");
+        System.out.printf("%-10s %10.2f %8d%n", "group-by", groupByMillis, POSTS);
+        System.out.printf("%-10s %10.2f %8d%n", "rollup", rollupMillis, report[0].getBuckets().size());
+        System.out.printf("작성자 수 - 실제: %d, 추정: %d (오차 %.1f%%), 일별 최대 오차 %.1f%%%n",
+                exactAuthors, report[0].getDistinctAuthors(),
+                relativeError(report[0].getDistinctAuthors(), exactAuthors) * 100, maxDailyError * 100);
+        System.out.printf("게시글 수 - 실제: %d, 집계: %d, 다른 일 구간 수: %d%n",
+                POSTS, report[0].getTotalPosts(), mismatchedDays);
+    }
+
+    // 게시글을 DB에 직접 저장하고 생성 이벤트를 집계에 전달 (생성 시각을 과거로 분산)
+    private void insertPosts(LocalDateTime from) {
+        Random random = new Random(42);
+        long rangeSeconds = DAYS * 86_400L;
+        List<Object[]> rows = new ArrayList<>(INSERT_CHUNK_SIZE);
+        for (int i = 1; i <= POSTS; i++) {
+            String author = "작성자" + random.nextInt(AUTHORS);
+            LocalDateTime createdAt = from.plusSeconds((long) (random.nextDouble() * rangeSeconds));
+            rows.add(new Object[]{(long) i, "게시글 " + i, "활동 집계 확인용 게시글", author,
+                    Timestamp.valueOf(createdAt), Timestamp.valueOf(createdAt), "활동 집계 확인용 게시글"});
+            activityRollups.onPostCreated(new PostCreatedEvent(PostResponseDto.builder()
+                    .id((long) i).author(author).createdAt(createdAt).build()));
+            if (rows.size() == INSERT_CHUNK_SIZE || i == POSTS) {
+                jdbcTemplate.batchUpdate("INSERT INTO posts (id, title, content, author, created_at, updated_at, " +
+                        "content_preview, view_count) VALUES (?, ?, ?, ?, ?, ?, ?, 0)", rows);
+                rows.clear();
+            }
+        }
+    }
+
+    private static double time(Supplier<?> query) {
+        for (int i = 0; i < ITERATIONS / 4; i++) {
+            query.get();
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.get();
+        }
+        return (System.nanoTime() - started) / 1e6 / ITERATIONS;
+    }
+
+    private static double relativeError(long estimate, long actual) {
+        return Math.abs(estimate - actual) / (double) actual;
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.backend.stats;
+
+import com.example.backend.dto.ActivityBucketDto;
+import com.example.backend.dto.ActivityReportDto;
+import com.example.backend.dto.PostResponseDto;
+import com.example.backend.event.PostCreatedEvent;
+import com.example.backend.event.ViewCountsFlushedEvent;
+import com.example.backend.model.ActivityRollup.Granularity;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 활동 집계 압축: 보존 기간이 지난 시간 구간 행이 일 구간 행으로 한 번만 합쳐지고(다시 실행해도 두 번 더하지 않음),
+ * 늦게 반영된 시간 구간은 기존 일 구간 행에 더해지며, 일 단위 조회가 일 구간 행과 최근 시간 구간 행을 함께 합치는지 확인
+ * (반영/압축은 테스트가 직접 호출하도록 주기를 길게 둔다)
+ */
+@SpringBootTest(properties = {"app.search.enabled=false", "app.view-count.flush-interval-ms=3600000",
+        "app.analytics.flush-interval-ms=3600000", "app.analytics.compaction-interval-ms=3600000",
+        "app.analytics.hourly-retention=14d"})
+@ActiveProfiles("h2")
+class ActivityRollupsTest {
+
+    @Autowired
+    private ActivityRollups activityRollups;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void compactsOldHoursIntoDaysOnce() {
+        LocalDateTime day = today().minusDays(20);
+        created(day.plusHours(1), "압축작성자A");
+        created(day.plusHours(1), "압축작성자B");
+        created(day.plusHours(5), "압축작성자B");
+        created(day.plusHours(5), "압축작성자C");
+        created(day.plusDays(1).plusHours(2), "압축작성자A");
+        activityRollups.flush();
+        assertThat(hourRows(day, day.plusDays(2))).isEqualTo(3);
+
+        double compacted = compactedRows();
+        activityRollups.compact();
+
+        assertThat(compactedRows()).isEqualTo(compacted + 3);
+        assertThat(hourRows(day, day.plusDays(2))).isZero();
+        assertDays(day, new long[]{4, 3}, new long[]{1, 1});
+        // 합쳐진 시간은 시간 단위 조회에 나오지 않는다
+        assertThat(activityRollups.report(day, day.plusDays(2), Granularity.HOUR).getTotalPosts()).isZero();
+
+        // 다시 실행해도 두 번 더하지 않는다
+        activityRollups.compact();
+        assertThat(compactedRows()).isEqualTo(compacted + 3);
+        assertDays(day, new long[]{4, 3}, new long[]{1, 1});
+
+        // 늦게 반영된 시간 구간은 기존 일 구간 행에 더해지고, 작성자는 스케치를 합쳐 중복 없이 센다
+        created(day.plusHours(9), "압축작성자A");
+        created(day.plusHours(9), "압축작성자D");
+        activityRollups.flush();
+        activityRollups.compact();
+
+        assertThat(compactedRows()).isEqualTo(compacted + 4);
+        assertDays(day, new long[]{6, 4}, new long[]{1, 1});
+    }
+
+    @Test
+    void dailyReportCombinesDayRowsWithRecentHours() {
+        LocalDateTime old = today().minusDays(40);
+        LocalDateTime yesterday = today().minusDays(1);
+        created(old.plusHours(3), "조회작성자A");
+        created(old.plusHours(4), "조회작성자B");
+        created(yesterday.plusHours(10), "조회작성자A");
+        created(yesterday.plusHours(11), "조회작성자C");
+        activityRollups.onViewCountsFlushed(new ViewCountsFlushedEvent(List.of(
+                new ViewCountsFlushedEvent.ViewDelta(1L, "조회작성자A", 5),
+                new ViewCountsFlushedEvent.ViewDelta(2L, "조회작성자C", 2))));
+        activityRollups.flush();
+        activityRollups.compact();
+
+        // 보존 기간 안의 어제는 시간 구간 행으로 남는다
+        assertThat(hourRows(yesterday, today())).isEqualTo(2);
+        assertThat(activityRollups.report(yesterday, today(), Granularity.HOUR).getTotalPosts()).isEqualTo(2);
+
+        ActivityReportDto report = activityRollups.report(old, today().plusDays(1), Granularity.DAY);
+        assertThat(report.getBuckets()).hasSize(41);
+        assertThat(bucket(report, old).getPosts()).isEqualTo(2);
+        assertThat(bucket(report, yesterday).getPosts()).isEqualTo(2);
+        assertThat(bucket(report, yesterday).getDistinctAuthors()).isEqualTo(2);
+        // 조회수는 반영한 시각(오늘)의 구간에 더해진다
+        assertThat(bucket(report, today()).getViews()).isEqualTo(7);
+        assertThat(report.getTotalPosts()).isEqualTo(4);
+        assertThat(report.getTotalViews()).isEqualTo(7);
+        assertThat(report.getDistinctAuthors()).isEqualTo(3);
+    }
+
+    private void created(LocalDateTime createdAt, String author) {
+        activityRollups.onPostCreated(new PostCreatedEvent(PostResponseDto.builder()
+                .id(0L).author(author).createdAt(createdAt).build()));
+    }
+
+    // 일 구간별 {게시글 수, 작성자 수}
+    private void assertDays(LocalDateTime from, long[]... expected) {
+        ActivityReportDto report = activityRollups.report(from, from.plusDays(expected.length), Granularity.DAY);
+        for (int i = 0; i < expected.length; i++) {
+            ActivityBucketDto bucket = report.getBuckets().get(i);
+            assertThat(bucket.getPosts()).as("day %d posts", i).isEqualTo(expected[i][0]);
+            assertThat(bucket.getDistinctAuthors()).as("day %d authors", i).isEqualTo(expected[i][1]);
+        }
+    }
+
+    private static ActivityBucketDto bucket(ActivityReportDto report, LocalDateTime bucketStart) {
+        return report.getBuckets().stream()
+                .filter(bucket -> bucket.getBucketStart().equals(bucketStart))
+                .findFirst().orElseThrow();
+    }
+
+    private long hourRows(LocalDateTime from, LocalDateTime to) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM activity_rollups WHERE granularity = 'HOUR' " +
+                "AND bucket_start >= ? AND bucket_start < ?", Long.class, Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    private double compactedRows() {
+        return meterRegistry.get("analytics.rollup.compacted").counter().count();
+    }
+
+    private static LocalDateTime today() {
+        return Granularity.DAY.truncate(LocalDateTime.now());
+    }
+}
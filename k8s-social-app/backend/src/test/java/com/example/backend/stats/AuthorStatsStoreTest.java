@@ -0,0 +1,107 @@
+package com.example.backend.stats;
+
+import com.example.backend.dto.AuthorStatsDto;
+import com.example.backend.dto.PostDto;
+import com.example.backend.service.PostService;
+import com.example.backend.service.ViewCountBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * 작성자 통계: 게시글 생성/조회수 반영 증가분이 더해지고, 재집계가 DB 값으로 맞추면서 증가분을 두 번 더하지 않고
+ * 게시글이 모두 사라진 작성자는 지우는지 확인
+ */
+@SpringBootTest(properties = {"app.search.enabled=false", "app.post-cache.enabled=false",
+        "app.view-count.flush-interval-ms=3600000", "app.author-stats.reconcile-interval-ms=3600000"})
+@ActiveProfiles("h2")
+class AuthorStatsStoreTest {
+
+    @Autowired
+    private AuthorStatsStore authorStatsStore;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private ViewCountBuffer viewCountBuffer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void reconcile() {
+        authorStatsStore.reconcile();
+    }
+
+    @Test
+    void createAndViewIncrementsAreCounted() {
+        Long first = createPost("통계작성자1");
+        Long second = createPost("통계작성자1");
+        viewCountBuffer.recordView(first, "통계작성자1");
+        viewCountBuffer.recordView(first, "통계작성자1");
+        viewCountBuffer.recordView(second, "통계작성자1");
+        viewCountBuffer.flush();
+
+        AuthorStatsDto stats = authorStatsStore.get("통계작성자1");
+        assertThat(stats.getTotalPosts()).isEqualTo(2);
+        assertThat(stats.getTotalViews()).isEqualTo(3);
+        // 이벤트의 작성 시각과 DB 컬럼의 정밀도 차이는 허용
+        assertThat(stats.getFirstPostAt()).isCloseTo(createdAt(first), within(1, ChronoUnit.MILLIS));
+        assertThat(stats.getLastPostAt()).isCloseTo(createdAt(second), within(1, ChronoUnit.MILLIS));
+    }
+
+    @Test
+    void reconcileMatchesDatabaseWithoutDoubleCounting() {
+        Long id = createPost("통계작성자2");
+        viewCountBuffer.recordView(id, "통계작성자2");
+        viewCountBuffer.flush();
+        // 다른 레플리카의 변경
+        jdbcTemplate.update("UPDATE posts SET view_count = view_count + 10 WHERE id = ?", id);
+
+        authorStatsStore.reconcile();
+        authorStatsStore.reconcile();
+
+        AuthorStatsDto stats = authorStatsStore.get("통계작성자2");
+        assertThat(stats.getTotalPosts()).isEqualTo(1);
+        assertThat(stats.getTotalViews()).isEqualTo(11);
+
+        // 재집계 이후 증가분은 그대로 더해진다
+        createPost("통계작성자2");
+        assertThat(authorStatsStore.get("통계작성자2").getTotalPosts()).isEqualTo(2);
+        authorStatsStore.reconcile();
+        assertThat(authorStatsStore.get("통계작성자2").getTotalPosts()).isEqualTo(2);
+    }
+
+    @Test
+    void reconcileResetsAuthorsWithoutPosts() {
+        Long id = createPost("통계작성자3");
+        assertThat(authorStatsStore.get("통계작성자3").getTotalPosts()).isEqualTo(1);
+
+        // 다른 레플리카에서 삭제
+        jdbcTemplate.update("DELETE FROM posts WHERE id = ?", id);
+        authorStatsStore.reconcile();
+
+        AuthorStatsDto stats = authorStatsStore.get("통계작성자3");
+        assertThat(stats.getTotalPosts()).isZero();
+        assertThat(stats.getTotalViews()).isZero();
+        assertThat(stats.getLastPostAt()).isNull();
+    }
+
+    private Long createPost(String author) {
+        return postService.createPost(new PostDto("작성자 통계 게시글", "작성자 통계 테스트 내용", author)).getId();
+    }
+
+    private LocalDateTime createdAt(Long id) {
+        return jdbcTemplate.queryForObject("SELECT created_at FROM posts WHERE id = ?", LocalDateTime.class, id);
+    }
+}
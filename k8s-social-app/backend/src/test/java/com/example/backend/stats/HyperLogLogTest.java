@@ -0,0 +1,85 @@
+package com.example.backend.stats;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * HyperLogLog 추정: 작은 값은 선형 계수로 거의 정확하고, 큰 값은 표준 오차(3.3%)의 3배 안에 들며,
+ * 합치면 두 집합의 합집합을 중복 없이 추정하는지 확인
+ */
+class HyperLogLogTest {
+
+    // 표준 오차 1.04 / sqrt(1024) = 3.3%의 약 3배
+    private static final double MAX_ERROR = 0.1;
+
+    @Test
+    void emptySketchEstimatesZero() {
+        assertThat(new HyperLogLog().estimate()).isZero();
+    }
+
+    @Test
+    void smallCardinalitiesAreNearlyExact() {
+        for (int n : new int[]{1, 10, 100}) {
+            assertThat(relativeError(sketchOf(0, n).estimate(), n)).as("n=%d", n).isLessThanOrEqualTo(0.05);
+        }
+    }
+
+    @Test
+    void largeCardinalitiesStayWithinErrorBound() {
+        for (int n : new int[]{1_000, 10_000, 100_000, 1_000_000}) {
+            assertThat(relativeError(sketchOf(0, n).estimate(), n)).as("n=%d", n).isLessThan(MAX_ERROR);
+        }
+    }
+
+    @Test
+    void duplicatesAreCountedOnce() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int repeat = 0; repeat < 10; repeat++) {
+            for (int i = 0; i < 1_000; i++) {
+                sketch.add("작성자" + i);
+            }
+        }
+
+        assertThat(sketch.estimate()).isEqualTo(sketchOf(0, 1_000).estimate());
+    }
+
+    @Test
+    void mergeEstimatesUnionWithoutDoubleCounting() {
+        // 0..59999와 40000..99999 - 겹치는 20000개를 합쳐도 합집합은 100000
+        HyperLogLog first = sketchOf(0, 60_000);
+        HyperLogLog second = sketchOf(40_000, 100_000);
+
+        first.merge(second);
+
+        assertThat(first.toBytes()).isEqualTo(sketchOf(0, 100_000).toBytes());
+        assertThat(relativeError(first.estimate(), 100_000)).isLessThan(MAX_ERROR);
+
+        // 같은 스케치를 다시 합쳐도 그대로
+        first.merge(second);
+        assertThat(first.toBytes()).isEqualTo(sketchOf(0, 100_000).toBytes());
+    }
+
+    @Test
+    void roundTripsThroughBytes() {
+        HyperLogLog sketch = sketchOf(0, 5_000);
+        byte[] bytes = sketch.toBytes();
+
+        assertThat(bytes).hasSize(HyperLogLog.REGISTERS);
+        assertThat(HyperLogLog.fromBytes(bytes).estimate()).isEqualTo(sketch.estimate());
+        assertThatThrownBy(() -> HyperLogLog.fromBytes(new byte[16])).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static HyperLogLog sketchOf(int from, int to) {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = from; i < to; i++) {
+            sketch.add("작성자" + i);
+        }
+        return sketch;
+    }
+
+    private static double relativeError(long estimate, long actual) {
+        return Math.abs(estimate - actual) / (double) actual;
+    }
+}
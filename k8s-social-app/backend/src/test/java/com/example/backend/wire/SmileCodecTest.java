@@ -0,0 +1,87 @@
+package com.example.backend.wire;
+
+import com.example.backend.dto.PostResponseDto;
+import com.example.backend.dto.PostSummaryDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Smile 코덱: 서버가 쓰는 설정으로 인코딩한 응답을 클라이언트 코덱이 그대로 되돌리는지,
+ * 날짜가 JVM 시간대와 관계없이 UTC epoch millis인지, Accept 협상과 표현별 ETag 규칙을 확인
+ */
+class SmileCodecTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 12, 0, 0, 123_000_000);
+
+    private final SmileCodec codec = new SmileCodec();
+
+    @Test
+    void roundTripsPost() throws Exception {
+        PostResponseDto post = new PostResponseDto(1L, "게시글 제목", "게시글 내용", "작성자",
+                CREATED_AT, CREATED_AT.plusMinutes(5), 7L);
+
+        assertThat(codec.decodePost(codec.encode(post))).usingRecursiveComparison().isEqualTo(post);
+    }
+
+    @Test
+    void roundTripsSummaryPageAndList() throws Exception {
+        List<PostSummaryDto> summaries = List.of(summary(1L), summary(2L));
+
+        SmileCodec.PageContent<PostSummaryDto> page =
+                codec.decodeSummaryPage(codec.encode(new PageImpl<>(summaries, PageRequest.of(0, 2), 5)));
+
+        assertThat(page.content()).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(summaries);
+        assertThat(page.number()).isZero();
+        assertThat(page.size()).isEqualTo(2);
+        assertThat(page.totalElements()).isEqualTo(5);
+        assertThat(page.totalPages()).isEqualTo(3);
+        assertThat(codec.decodeSummaries(codec.encode(summaries)))
+                .usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(summaries);
+    }
+
+    @Test
+    void writesDatesAsUtcEpochMillis() throws Exception {
+        byte[] body = codec.encode(summary(1L));
+
+        long createdAt = new ObjectMapper(new SmileFactory()).readTree(body).get("createdAt").asLong();
+        assertThat(createdAt).isEqualTo(CREATED_AT.toInstant(ZoneOffset.UTC).toEpochMilli());
+    }
+
+    @Test
+    void prefersSmileOnlyWhenAskedExplicitly() {
+        assertThat(SmileCodec.isPreferred("application/x-jackson-smile")).isTrue();
+        assertThat(SmileCodec.isPreferred("application/x-jackson-smile, application/json;q=0.5")).isTrue();
+        assertThat(SmileCodec.isPreferred("application/json, application/x-jackson-smile;q=0.5")).isFalse();
+        assertThat(SmileCodec.isPreferred("*/*")).isFalse();
+        assertThat(SmileCodec.isPreferred("application/*")).isFalse();
+        assertThat(SmileCodec.isPreferred(null)).isFalse();
+        assertThat(SmileCodec.isPreferred("not a media type")).isFalse();
+    }
+
+    @Test
+    void derivesSmileETagFromJsonETag() {
+        assertThat(SmileCodec.etag("\"v1\"")).isEqualTo("\"v1-smile\"");
+        assertThat(SmileCodec.etag("W/\"1-abc\"")).isEqualTo("W/\"1-abc-smile\"");
+        assertThat(SmileCodec.etag(null)).isNull();
+    }
+
+    private static PostSummaryDto summary(Long id) {
+        return PostSummaryDto.builder()
+                .id(id)
+                .title("게시글 " + id)
+                .contentPreview("미리보기")
+                .author("작성자")
+                .createdAt(CREATED_AT)
+                .viewCount(3L)
+                .build();
+    }
+}
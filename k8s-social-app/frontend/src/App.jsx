@@ -1,7 +1,10 @@
-import React, { useState, useEffect } from "react";
+import React, { useState, useEffect, useRef } from "react";
 import axios from "axios";
 import "./App.css";
 
+// 화면에 유지할 최대 게시글 수 (실시간으로 추가되는 게시글 포함)
+const MAX_POSTS = 50;
+
 /**
  * 메인 App 컴포넌트
  * React Hooks(useState, useEffect)를 사용하여 상태 관리
@@ -14,14 +17,33 @@ const App = () => {
   const [author, setAuthor] = useState(""); // 작성자
   const [loading, setLoading] = useState(false); // 로딩 상태
   const [error, setError] = useState(null); // 에러 상태
+  const streamRef = useRef(null); // 실시간 피드 연결 (EventSource)
 
   // 환경에 따른 API URL 설정
   // 운영환경에서는 nginx를 통해 /api로 프록시되고, 개발환경에서는 package.json의 proxy 설정 사용
   const API_URL = process.env.NODE_ENV === "production" ? "/api" : "/api";
 
-  // 컴포넌트 마운트 시 게시글 목록 로드
+  // 컴포넌트 마운트 시 게시글 목록 로드 후 실시간 피드 구독
+  // 새 게시글은 서버가 보내 주므로 목록을 다시 불러오지 않는다
   useEffect(() => {
     fetchPosts();
+
+    const source = new EventSource(`${API_URL}/posts/stream`);
+    streamRef.current = source;
+
+    source.addEventListener("post", (event) => {
+      const post = JSON.parse(event.data);
+      setPosts((current) =>
+        current.some((p) => p.id === post.id)
+          ? current
+          : [post, ...current].slice(0, MAX_POSTS)
+      );
+    });
+
+    // 끊긴 동안의 이벤트를 서버가 다시 보낼 수 없을 때만 목록 전체를 다시 불러온다
+    source.addEventListener("reset", () => fetchPosts());
+
+    return () => source.close();
   }, []);
 
   /**
@@ -99,8 +121,10 @@ const App = () => {
       setContent("");
       setAuthor("");
 
-      // 게시글 목록 새로고침
-      await fetchPosts();
+      // 실시간 피드가 연결되어 있으면 새 게시글이 곧 도착하므로, 연결되지 않은 경우에만 목록 새로고침
+      if (streamRef.current?.readyState !== EventSource.OPEN) {
+        await fetchPosts();
+      }
 
       alert("게시글이 성공적으로 등록되었습니다!");
     } catch (error) {
@@ -240,7 +264,7 @@ const App = () => {
                     </div>
                   </div>
                   <div className="post-content">
-                    <p>{post.content}</p>
+                    <p>{post.content ?? post.contentPreview}</p>
                   </div>
                 </article>
               ))}
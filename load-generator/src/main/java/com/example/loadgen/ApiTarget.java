@@ -0,0 +1,30 @@
+package com.example.loadgen;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.Set;
+
+/**
+ * 부하 대상 백엔드의 API 형태 - 작업 종류를 실제 HTTP 요청으로 바꾼다
+ */
+public interface ApiTarget {
+
+    String name();
+
+    Set<Operation> supportedOperations();
+
+    /**
+     * @param postId  조회할 게시글 ID (시드 단계에서 만든 게시글 중 하나)
+     * @param keyword 검색어
+     * @param seq     생성할 게시글의 일련번호
+     */
+    HttpRequest request(Operation operation, long postId, String keyword, long seq);
+
+    static ApiTarget of(String name, URI baseUri) {
+        return switch (name) {
+            case "social" -> new SocialApi(baseUri);
+            case "blog" -> new BlogApi(baseUri);
+            default -> throw new IllegalArgumentException("알 수 없는 대상입니다: " + name + " (social | blog)");
+        };
+    }
+}
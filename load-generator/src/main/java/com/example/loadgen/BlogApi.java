@@ -0,0 +1,47 @@
+package com.example.loadgen;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * docker-fullstack-demo 백엔드 (/api/posts) - 목록은 페이징 없이 전체를 반환하고 인기 게시글 API는 없다
+ */
+final class BlogApi implements ApiTarget {
+
+    private final URI baseUri;
+
+    BlogApi(URI baseUri) {
+        this.baseUri = baseUri;
+    }
+
+    @Override
+    public String name() {
+        return "blog";
+    }
+
+    @Override
+    public Set<Operation> supportedOperations() {
+        return EnumSet.of(Operation.FEED, Operation.POST, Operation.SEARCH, Operation.CREATE);
+    }
+
+    @Override
+    public HttpRequest request(Operation operation, long postId, String keyword, long seq) {
+        return switch (operation) {
+            case FEED -> get("/api/posts");
+            case POST -> get("/api/posts/" + postId);
+            case SEARCH -> get("/api/posts/search?title=" + URLEncoder.encode(keyword, StandardCharsets.UTF_8));
+            case CREATE -> HttpRequests.postJson(baseUri.resolve("/api/posts"), """
+                    {"title":"%s","content":"%s","authorId":1}"""
+                    .formatted(SampleContent.title(seq), SampleContent.content(seq)));
+            case POPULAR -> throw new IllegalArgumentException("blog 대상은 popular 작업을 지원하지 않습니다.");
+        };
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequests.get(baseUri.resolve(path));
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.loadgen;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+
+final class HttpRequests {
+
+    static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private HttpRequests() {
+    }
+
+    static HttpRequest get(URI uri) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(TIMEOUT)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+
+    static HttpRequest postJson(URI uri, String json) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.loadgen;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 작업별 HDR 히스토그램 (나노초, 유효숫자 3자리)
+ * - response: 예정 시각(open 모드) 또는 전송 시각(closed 모드)부터 응답 완료까지 - 사용자가 체감하는 지연
+ * - service: 실제 전송 시각부터 응답 완료까지 - 서버 처리 시간에 가깝다
+ * 두 값의 차이가 크면 부하 발생기나 서버가 예정된 도착률을 따라가지 못한 것이다
+ */
+final class LatencyRecorder {
+
+    private static final long MAX_TRACKABLE_NANOS = TimeUnit.MINUTES.toNanos(2);
+
+    private final Map<Operation, Stats> stats = new EnumMap<>(Operation.class);
+    private final LongAdder dropped = new LongAdder();
+
+    LatencyRecorder(Iterable<Operation> operations) {
+        for (Operation operation : operations) {
+            stats.put(operation, new Stats());
+        }
+    }
+
+    void record(Operation operation, long responseNanos, long serviceNanos, boolean success) {
+        Stats operationStats = stats.get(operation);
+        operationStats.response.recordValue(Math.min(responseNanos, MAX_TRACKABLE_NANOS));
+        operationStats.service.recordValue(Math.min(serviceNanos, MAX_TRACKABLE_NANOS));
+        if (!success) {
+            operationStats.errors.increment();
+        }
+    }
+
+    // max-in-flight를 넘어 보내지 못한 요청
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+
+    Map<Operation, Stats> stats() {
+        return stats;
+    }
+
+    static final class Stats {
+
+        final Histogram response = new ConcurrentHistogram(MAX_TRACKABLE_NANOS, 3);
+        final Histogram service = new ConcurrentHistogram(MAX_TRACKABLE_NANOS, 3);
+        final LongAdder errors = new LongAdder();
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.loadgen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 백엔드 API 부하 발생기
+ * - 시작 전에 게시글을 seed-posts개 만들어 상세 조회 대상으로 사용
+ * - open 모드: 요청 i의 예정 시각 = 시작 + i / rate, 응답 시간은 예정 시각부터 잰다
+ *   (서버가 느려져도 요청을 늦추지 않으므로 밀린 요청의 대기 시간까지 지연에 포함된다)
+ * - closed 모드: concurrency개의 요청을 유지 - 서버가 느려지면 요청도 줄어드므로 처리량 한계 측정용
+ * - 워밍업 동안의 요청은 기록하지 않는다
+ */
+public final class LoadGenerator implements AutoCloseable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final LoadOptions options;
+    private final ApiTarget target;
+    private final ExecutorService clientExecutor;
+    private final HttpClient client;
+    private final LatencyRecorder recorder;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong createSequence = new AtomicLong();
+    private long[] postIds = new long[0];
+
+    LoadGenerator(LoadOptions options, ApiTarget target) {
+        for (Operation operation : options.mix().weights().keySet()) {
+            if (!target.supportedOperations().contains(operation)) {
+                throw new IllegalArgumentException(target.name() + " 대상은 " + operation.label() + " 작업을 지원하지 않습니다.");
+            }
+        }
+        this.options = options;
+        this.target = target;
+        this.clientExecutor = Executors.newFixedThreadPool(options.clientThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "loadgen-http");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.client = HttpClient.newBuilder()
+                .executor(clientExecutor)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        this.recorder = new LatencyRecorder(options.mix().weights().keySet());
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadOptions options;
+        try {
+            options = LoadOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(LoadOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        boolean passed = true;
+        try (LoadGenerator generator = new LoadGenerator(options, ApiTarget.of(options.target(), options.baseUri()))) {
+            LoadReport report = generator.run();
+            report.print(System.out);
+            report.write(options.report(), generator.recorder);
+            System.out.println("보고서: " + options.report().toAbsolutePath());
+
+            if (options.baseline() != null) {
+                passed = report.compareTo(LoadReport.read(options.baseline()), options.maxRegression(), System.out);
+            }
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    LoadReport run() throws IOException, InterruptedException {
+        seed();
+
+        System.out.printf("%s %s 모드 시작 - %s, 워밍업 %ds, 측정 %ds%n", options.baseUri(), options.mode(),
+                options.openModel() ? "초당 " + options.rate() + "건" : "동시 " + options.concurrency() + "건",
+                options.warmup().toSeconds(), options.duration().toSeconds());
+
+        long started = System.nanoTime();
+        long measureFrom = started + options.warmup().toNanos();
+        long endAt = measureFrom + options.duration().toNanos();
+        if (options.openModel()) {
+            runOpen(started, measureFrom, endAt);
+        } else {
+            runClosed(measureFrom, endAt);
+        }
+        awaitInFlight();
+
+        double measuredSeconds = options.duration().toNanos() / 1e9;
+        return LoadReport.from(options, recorder, measuredSeconds);
+    }
+
+    private void runOpen(long started, long measureFrom, long endAt) {
+        SplittableRandom random = new SplittableRandom();
+        double intervalNanos = 1e9 / options.rate();
+        for (long i = 0; ; i++) {
+            long intended = started + (long) (i * intervalNanos);
+            if (intended >= endAt) {
+                return;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            if (inFlight.get() >= options.maxInFlight()) {
+                if (intended >= measureFrom) {
+                    recorder.recordDropped();
+                }
+                continue;
+            }
+            send(options.mix().next(random), intended, intended >= measureFrom, null);
+        }
+    }
+
+    private void runClosed(long measureFrom, long endAt) throws InterruptedException {
+        SplittableRandom random = new SplittableRandom();
+        Semaphore permits = new Semaphore(options.concurrency());
+        while (System.nanoTime() < endAt) {
+            if (!permits.tryAcquire(100, TimeUnit.MILLISECONDS)) {
+                continue;
+            }
+            long now = System.nanoTime();
+            send(options.mix().next(random), now, now >= measureFrom, permits);
+        }
+    }
+
+    private void send(Operation operation, long intendedAt, boolean measured, Semaphore permits) {
+        HttpRequest request = target.request(operation, randomPostId(), randomKeyword(),
+                createSequence.incrementAndGet());
+        inFlight.incrementAndGet();
+        long sentAt = System.nanoTime();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+            long completedAt = System.nanoTime();
+            if (measured) {
+                boolean success = failure == null && response.statusCode() < 400;
+                recorder.record(operation, completedAt - intendedAt, completedAt - sentAt, success);
+            }
+            inFlight.decrementAndGet();
+            if (permits != null) {
+                permits.release();
+            }
+        });
+    }
+
+    // 측정 시간이 끝난 뒤 응답을 기다리는 요청이 있으면 타임아웃까지 기다린다
+    private void awaitInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + HttpRequests.TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * 상세 조회 대상 게시글을 만든다 (seed-posts=0이면 기존 게시글 ID 1을 조회)
+     */
+    private void seed() throws IOException, InterruptedException {
+        int count = options.seedPosts();
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            HttpRequest request = target.request(Operation.CREATE, 0, "", createSequence.incrementAndGet());
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() >= 400) {
+                throw new IllegalStateException("게시글 생성 실패 - 상태: " + response.statusCode() + ", 본문: " + response.body());
+            }
+            JsonNode id = MAPPER.readTree(response.body()).get("id");
+            if (id != null) {
+                ids.add(id.asLong());
+            }
+        }
+
+        if (ids.isEmpty()) {
+            ids.add(1L);
+        }
+        postIds = ids.stream().mapToLong(Long::longValue).toArray();
+        System.out.printf("게시글 %d건 생성 완료%n", ids.size());
+    }
+
+    private long randomPostId() {
+        return postIds.length == 0 ? 1 : postIds[ThreadLocalRandom.current().nextInt(postIds.length)];
+    }
+
+    private static String randomKeyword() {
+        return SampleContent.KEYWORDS[ThreadLocalRandom.current().nextInt(SampleContent.KEYWORDS.length)];
+    }
+
+    @Override
+    public void close() {
+        clientExecutor.shutdownNow();
+    }
+}
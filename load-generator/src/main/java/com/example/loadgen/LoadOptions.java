@@ -0,0 +1,133 @@
+package com.example.loadgen;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 명령행 옵션 (--이름=값)
+ *
+ * @param mode         open: 일정한 도착률(rate)로 요청을 보내고 예정 시각부터 지연을 잰다 (coordinated omission 보정)
+ *                     closed: concurrency개의 요청을 유지하며 응답이 오면 다음 요청을 보낸다
+ * @param maxInFlight  open 모드에서 응답을 기다리는 요청의 상한 - 넘으면 요청을 보내지 않고 dropped로 센다
+ * @param maxRegression 기준 보고서 대비 허용하는 p99 증가율 (0.1 = 10%)
+ */
+public record LoadOptions(
+        String target,
+        URI baseUri,
+        WorkloadMix mix,
+        String mode,
+        double rate,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        int seedPosts,
+        int maxInFlight,
+        int clientThreads,
+        Path report,
+        Path baseline,
+        double maxRegression) {
+
+    private static final Set<String> KNOWN = Set.of("target", "base-url", "mix", "mode", "rate", "concurrency",
+            "warmup", "duration", "seed-posts", "max-in-flight", "client-threads", "report", "baseline",
+            "max-regression");
+
+    public static final String USAGE = """
+            사용법: load-generator [--이름=값 ...]
+              --target=social|blog          부하 대상 API (기본 social)
+              --base-url=URL                대상 주소 (기본 http://localhost:8080)
+              --mix=feed:50,post:30,...     작업 비율 (feed, post, search, create, popular)
+              --mode=open|closed            open: 일정 도착률, closed: 고정 동시 요청 수 (기본 open)
+              --rate=N                      open 모드 초당 요청 수 (기본 100)
+              --concurrency=N               closed 모드 동시 요청 수 (기본 32)
+              --warmup=10s --duration=60s   측정에서 제외할 워밍업 시간, 측정 시간
+              --seed-posts=N                시작 전에 생성할 게시글 수 (기본 200)
+              --max-in-flight=N             open 모드 최대 미완료 요청 수 (기본 10000)
+              --client-threads=N            HTTP 클라이언트 스레드 수 (기본 4)
+              --report=PATH                 보고서(JSON) 경로 (기본 build/reports/load/<target>.json)
+              --baseline=PATH               비교할 기준 보고서 - p99가 max-regression보다 나빠지면 종료 코드 1
+              --max-regression=0.1          허용하는 p99 증가율
+            """;
+
+    /**
+     * @throws IllegalArgumentException 알 수 없는 옵션이나 잘못된 값
+     */
+    public static LoadOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("옵션은 --이름=값 형식이어야 합니다: " + arg);
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            if (!KNOWN.contains(name)) {
+                throw new IllegalArgumentException("알 수 없는 옵션입니다: --" + name);
+            }
+            values.put(name, arg.substring(arg.indexOf('=') + 1));
+        }
+
+        String target = values.getOrDefault("target", "social");
+        String mode = values.getOrDefault("mode", "open");
+        if (!mode.equals("open") && !mode.equals("closed")) {
+            throw new IllegalArgumentException("mode는 open 또는 closed여야 합니다: " + mode);
+        }
+        String defaultMix = target.equals("blog") ? "feed:50,post:35,search:10,create:5"
+                : "feed:50,post:30,search:10,create:5,popular:5";
+
+        LoadOptions options = new LoadOptions(
+                target,
+                URI.create(values.getOrDefault("base-url", "http://localhost:8080")),
+                WorkloadMix.parse(values.getOrDefault("mix", defaultMix)),
+                mode,
+                positive("rate", Double.parseDouble(values.getOrDefault("rate", "100"))),
+                (int) positive("concurrency", Integer.parseInt(values.getOrDefault("concurrency", "32"))),
+                parseDuration(values.getOrDefault("warmup", "10s")),
+                parseDuration(values.getOrDefault("duration", "60s")),
+                Integer.parseInt(values.getOrDefault("seed-posts", "200")),
+                (int) positive("max-in-flight", Integer.parseInt(values.getOrDefault("max-in-flight", "10000"))),
+                (int) positive("client-threads", Integer.parseInt(values.getOrDefault("client-threads", "4"))),
+                Path.of(values.getOrDefault("report", "build/reports/load/" + target + ".json")),
+                values.containsKey("baseline") ? Path.of(values.get("baseline")) : null,
+                Double.parseDouble(values.getOrDefault("max-regression", "0.1")));
+
+        if (options.duration().isZero()) {
+            throw new IllegalArgumentException("duration은 0보다 커야 합니다.");
+        }
+        return options;
+    }
+
+    public boolean openModel() {
+        return mode.equals("open");
+    }
+
+    // 10s, 500ms, 2m 또는 ISO-8601(PT30S)
+    static Duration parseDuration(String value) {
+        String text = value.trim();
+        try {
+            if (text.startsWith("P") || text.startsWith("p")) {
+                return Duration.parse(text);
+            }
+            if (text.endsWith("ms")) {
+                return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+            }
+            long amount = Long.parseLong(text.substring(0, text.length() - 1));
+            return switch (text.charAt(text.length() - 1)) {
+                case 's' -> Duration.ofSeconds(amount);
+                case 'm' -> Duration.ofMinutes(amount);
+                case 'h' -> Duration.ofHours(amount);
+                default -> throw new IllegalArgumentException("시간 단위는 ms, s, m, h 중 하나여야 합니다: " + value);
+            };
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 시간 값입니다: " + value);
+        }
+    }
+
+    private static double positive(String name, double value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(name + "는 0보다 커야 합니다: " + value);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.loadgen;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 부하 실행 결과 - JSON으로 저장하여 다음 실행의 기준(baseline)으로 사용한다
+ * 시간 값은 모두 밀리초
+ */
+public record LoadReport(
+        String target,
+        String mode,
+        String mix,
+        double rate,
+        int concurrency,
+        double durationSeconds,
+        long dropped,
+        List<OperationStats> operations) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    public record OperationStats(
+            String operation,
+            long count,
+            long errors,
+            double throughput,
+            double p50,
+            double p90,
+            double p99,
+            double p999,
+            double max,
+            double serviceP50,
+            double serviceP99) {
+
+        double errorRate() {
+            return count == 0 ? 0 : (double) errors / count;
+        }
+    }
+
+    static LoadReport from(LoadOptions options, LatencyRecorder recorder, double measuredSeconds) {
+        List<OperationStats> operations = new ArrayList<>();
+        recorder.stats().forEach((operation, stats) -> {
+            Histogram response = stats.response;
+            Histogram service = stats.service;
+            operations.add(new OperationStats(
+                    operation.label(),
+                    response.getTotalCount(),
+                    stats.errors.sum(),
+                    response.getTotalCount() / measuredSeconds,
+                    millis(response.getValueAtPercentile(50)),
+                    millis(response.getValueAtPercentile(90)),
+                    millis(response.getValueAtPercentile(99)),
+                    millis(response.getValueAtPercentile(99.9)),
+                    millis(response.getMaxValue()),
+                    millis(service.getValueAtPercentile(50)),
+                    millis(service.getValueAtPercentile(99))));
+        });
+        return new LoadReport(options.target(), options.mode(), options.mix().toString(),
+                options.openModel() ? options.rate() : 0, options.openModel() ? 0 : options.concurrency(),
+                measuredSeconds, recorder.dropped(), operations);
+    }
+
+    static LoadReport read(Path path) throws IOException {
+        return MAPPER.readValue(path.toFile(), LoadReport.class);
+    }
+
+    /**
+     * 보고서(JSON)와 작업별 응답 시간 분포(.hgrm, HdrHistogram 플로터 형식)를 저장
+     */
+    void write(Path path, LatencyRecorder recorder) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        MAPPER.writeValue(path.toFile(), this);
+
+        String baseName = path.getFileName().toString().replaceFirst("\\.json$", "");
+        for (Map.Entry<Operation, LatencyRecorder.Stats> entry : recorder.stats().entrySet()) {
+            Path hgrm = directory.resolve(baseName + "-" + entry.getKey().label() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(hgrm))) {
+                entry.getValue().response.outputPercentileDistribution(out, NANOS_PER_MILLI);
+            }
+        }
+    }
+
+    void print(PrintStream out) {
+        out.printf("대상: %s, 모드: %s, 비율: %s, 측정: %.1fs, dropped: %d%n",
+                target, mode, mix, durationSeconds, dropped);
+        out.printf("%-8s %8s %7s %9s %9s %9s %9s %9s %9s %11s%n",
+                "op", "count", "errors", "req/sec", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "svc99(ms)");
+        for (OperationStats stats : operations) {
+            out.printf("%-8s %8d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %11.2f%n",
+                    stats.operation(), stats.count(), stats.errors(), stats.throughput(), stats.p50(), stats.p90(),
+                    stats.p99(), stats.p999(), stats.max(), stats.serviceP99());
+        }
+    }
+
+    /**
+     * 기준 보고서와 작업별 p50/p99, 오류율을 비교해 출력하고, 허용 범위를 넘어 나빠진 작업이 없으면 true
+     */
+    boolean compareTo(LoadReport baseline, double maxRegression, PrintStream out) {
+        Map<String, OperationStats> baselineStats = baseline.operations().stream()
+                .collect(Collectors.toMap(OperationStats::operation, Function.identity()));
+
+        boolean passed = true;
+        out.printf("%n기준 대비 (p99 허용 증가율 %.0f%%)%n", maxRegression * 100);
+        out.printf("%-8s %12s %12s %12s %12s %10s%n", "op", "p50(ms)", "Δp50", "p99(ms)", "Δp99", "result");
+        for (OperationStats current : operations) {
+            OperationStats before = baselineStats.get(current.operation());
+            if (before == null) {
+                out.printf("%-8s %12.2f %12s %12.2f %12s %10s%n",
+                        current.operation(), current.p50(), "-", current.p99(), "-", "new");
+                continue;
+            }
+
+            boolean latencyRegressed = current.p99() > before.p99() * (1 + maxRegression);
+            // 오류율은 1%p 이상 늘어난 경우만 실패로 본다
+            boolean errorsRegressed = current.errorRate() > before.errorRate() + 0.01;
+            String result = latencyRegressed ? "SLOWER" : errorsRegressed ? "ERRORS" : "ok";
+            passed &= !latencyRegressed && !errorsRegressed;
+
+            out.printf("%-8s %12.2f %11.1f%% %12.2f %11.1f%% %10s%n",
+                    current.operation(), current.p50(), change(before.p50(), current.p50()),
+                    current.p99(), change(before.p99(), current.p99()), result);
+        }
+        return passed;
+    }
+
+    private static double change(double before, double after) {
+        return before == 0 ? 0 : (after - before) / before * 100;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / NANOS_PER_MILLI;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.loadgen;
+
+import java.util.Locale;
+
+/**
+ * 부하 시나리오를 이루는 API 호출 종류
+ */
+public enum Operation {
+
+    FEED,
+    POST,
+    SEARCH,
+    CREATE,
+    POPULAR;
+
+    public static Operation parse(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("알 수 없는 작업입니다: " + name);
+        }
+    }
+
+    public String label() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.loadgen;
+
+/**
+ * 생성 요청의 본문과 검색어 - 검색이 실제로 결과를 찾도록 같은 단어 목록을 사용한다
+ * (JSON 문자열에 그대로 넣으므로 따옴표/역슬래시를 포함하지 않는다)
+ */
+final class SampleContent {
+
+    static final String[] KEYWORDS = {"쿠버네티스", "스프링부트", "도커", "배포", "리액트", "데이터베이스", "캐시", "모니터링"};
+
+    private SampleContent() {
+    }
+
+    static String title(long seq) {
+        return KEYWORDS[(int) (seq % KEYWORDS.length)] + " 부하 테스트 게시글 " + seq;
+    }
+
+    static String content(long seq) {
+        String keyword = KEYWORDS[(int) ((seq / KEYWORDS.length) % KEYWORDS.length)];
+        return (keyword + " 환경에서 애플리케이션 성능을 측정하기 위한 게시글입니다. ").repeat(5) + seq;
+    }
+
+    static String author(long seq) {
+        return "loadgen" + (seq % 50);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.loadgen;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * k8s-social-app 백엔드 (/api/posts)
+ */
+final class SocialApi implements ApiTarget {
+
+    private final URI baseUri;
+
+    SocialApi(URI baseUri) {
+        this.baseUri = baseUri;
+    }
+
+    @Override
+    public String name() {
+        return "social";
+    }
+
+    @Override
+    public Set<Operation> supportedOperations() {
+        return EnumSet.allOf(Operation.class);
+    }
+
+    @Override
+    public HttpRequest request(Operation operation, long postId, String keyword, long seq) {
+        return switch (operation) {
+            case FEED -> get("/api/posts?cursor=&size=10");
+            case POST -> get("/api/posts/" + postId);
+            case SEARCH -> get("/api/posts/search?size=10&keyword=" + URLEncoder.encode(keyword, StandardCharsets.UTF_8));
+            case POPULAR -> get("/api/posts/popular");
+            case CREATE -> HttpRequests.postJson(baseUri.resolve("/api/posts"), """
+                    {"title":"%s","content":"%s","author":"%s"}"""
+                    .formatted(SampleContent.title(seq), SampleContent.content(seq), SampleContent.author(seq)));
+        };
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequests.get(baseUri.resolve(path));
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.loadgen;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadReportTest {
+
+    private static final LoadReport BASELINE = report(new LoadReport.OperationStats(
+            "feed", 1_000, 0, 100, 5, 8, 20, 40, 60, 4, 15));
+
+    @Test
+    void passesWithinAllowedRegression() {
+        LoadReport current = report(new LoadReport.OperationStats(
+                "feed", 1_000, 0, 100, 6, 9, 21.5, 45, 70, 5, 16));
+
+        assertThat(current.compareTo(BASELINE, 0.1, silent())).isTrue();
+    }
+
+    @Test
+    void failsWhenP99OrErrorRateRegresses() {
+        LoadReport slower = report(new LoadReport.OperationStats(
+                "feed", 1_000, 0, 100, 5, 8, 25, 40, 60, 4, 15));
+        LoadReport failing = report(new LoadReport.OperationStats(
+                "feed", 1_000, 50, 100, 5, 8, 20, 40, 60, 4, 15));
+
+        assertThat(slower.compareTo(BASELINE, 0.1, silent())).isFalse();
+        assertThat(failing.compareTo(BASELINE, 0.1, silent())).isFalse();
+    }
+
+    private static LoadReport report(LoadReport.OperationStats stats) {
+        return new LoadReport("social", "open", "feed:100", 100, 0, 10, 0, List.of(stats));
+    }
+
+    private static PrintStream silent() {
+        return new PrintStream(new ByteArrayOutputStream());
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.loadgen;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class WorkloadMixTest {
+
+    @Test
+    void picksOperationsInProportionToWeights() {
+        WorkloadMix mix = WorkloadMix.parse("feed:50, post:30,search:20,popular:0");
+        assertThat(mix.weights()).containsOnlyKeys(Operation.FEED, Operation.POST, Operation.SEARCH);
+
+        Map<Operation, Integer> counts = new EnumMap<>(Operation.class);
+        SplittableRandom random = new SplittableRandom(42);
+        for (int i = 0; i < 100_000; i++) {
+            counts.merge(mix.next(random), 1, Integer::sum);
+        }
+
+        assertThat(counts.get(Operation.FEED) / 100_000.0).isCloseTo(0.5, within(0.01));
+        assertThat(counts.get(Operation.POST) / 100_000.0).isCloseTo(0.3, within(0.01));
+        assertThat(counts.get(Operation.SEARCH) / 100_000.0).isCloseTo(0.2, within(0.01));
+    }
+
+    @Test
+    void rejectsInvalidSpecs() {
+        assertThatThrownBy(() -> WorkloadMix.parse("feed")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> WorkloadMix.parse("browse:10")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> WorkloadMix.parse("feed:0")).isInstanceOf(IllegalArgumentException.class);
+    }
+}